@@ -16,9 +16,11 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.SwitchCompat;
 
 import com.yahtzee.Model.Category;
+import com.yahtzee.Model.DiceCounts;
 import com.yahtzee.Model.DiceRoll;
 import com.yahtzee.Model.Die;
 import com.yahtzee.Model.Tournament;
+import com.yahtzee.Model.Warmup;
 import com.yahtzee.Model.CardEntry;
 import com.yahtzee.Model.Player;
 
@@ -32,8 +34,8 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * The main activity for the Yahtzee game.
@@ -44,6 +46,10 @@ public class GameActivity extends AppCompatActivity {
     TableLayout scoreCardTable;
     Tournament tournament;
     DiceRoll diceRoll;
+    Warmup warmup;
+
+    // Refreshes the buttons that need the AI tables as the warm-up progresses
+    private final Warmup.Listener warmupListener = (completedStages, stageCount) -> runOnUiThread(this::onWarmupProgress);
 
     private static final String TAG = "GameActivity";
 
@@ -53,10 +59,36 @@ public class GameActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_game);
 
-        tournament = Tournament.getInstance();
+        tournament = GameSession.getTournament();
         diceRoll = tournament.getDiceRoll();
+        warmup = GameSession.startWarmup();
 
         initGameDisplay();
+        if (!warmup.isOver()) {
+            warmup.addListener(warmupListener);
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        warmup.removeListener(warmupListener);
+        super.onDestroy();
+    }
+
+    /**
+     * Updates the help and computer buttons with the progress of the warm-up, enabling them once it is over.
+     * If the warm-up failed, the buttons are enabled anyway and the AI builds what it needs on first use.
+     */
+    private void onWarmupProgress() {
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+        if (warmup.isOver()) {
+            warmup.getFailure().ifPresent(failure -> Log.e(TAG, "Warm-up failed", failure));
+            clearHelpText();
+        }
+        initHelpButton();
+        initComputerRollConfirmButton();
     }
 
     /**
@@ -119,12 +151,11 @@ public class GameActivity extends AppCompatActivity {
 
         List<CardEntry> entries = tournament.getScoreCard().getEntries();
 
-        List<Integer> potentialKeptDiceValues = new ArrayList<>(diceRoll.getKeptDiceValues());
-        potentialKeptDiceValues.addAll(diceRoll.getMarkedDiceValues());
+        int keptCounts = diceRoll.getKeptCounts();
+        int potentialKeptCounts = DiceCounts.add(keptCounts, diceRoll.getMarkedCounts());
 
-
-        List<Category> potentialCategories = tournament.getScoreCard().getPotentialCategories(potentialKeptDiceValues);
-        List<Category> validCategories = tournament.getScoreCard().getValidCategories(diceRoll.getKeptDiceValues());
+        List<Category> potentialCategories = tournament.getScoreCard().getPotentialCategories(potentialKeptCounts);
+        List<Category> validCategories = tournament.getScoreCard().getValidCategories(keptCounts);
 
         for (CardEntry entry : tournament.getScoreCard().getEntries()) {
             TableRow row = new TableRow(this);
@@ -158,7 +189,7 @@ public class GameActivity extends AppCompatActivity {
 
                 // Show the score for the category in blue
                 score.setTextColor(getResources().getColor(R.color.blue));
-                score.setText(entry.getCategory().calculateScore(diceRoll.getKeptDiceValues()) + "");
+                score.setText(entry.getCategory().calculateScore(keptCounts) + "");
             }
 
             scoreCardTable.addView(row);
@@ -338,7 +369,8 @@ public class GameActivity extends AppCompatActivity {
     /**
      * Initializes the help button.
      * Adds an onclick listener to the button to get help.
-     * Disables the button if it is not the player's turn or if all dice are kept.
+     * Disables the button if it is not the player's turn, if all dice are kept or while the AI tables are
+     * still being built.
      */
     private void initHelpButton() {
         Button helpButton = findViewById(R.id.getHelpButton);
@@ -368,7 +400,13 @@ public class GameActivity extends AppCompatActivity {
             initGameDisplay();
         });
 
-        helpButton.setEnabled(diceRoll.isAllDiceRolled() && !isComputerPlayer());
+        // Hints wait for the warm-up, so that asking for one never builds the AI tables on the UI thread
+        if (!warmup.isOver() && !isComputerPlayer()) {
+            helpText.setText(String.format(Locale.ROOT, "Preparing hints... %d%%", Math.round(100 * warmup.getProgress())));
+            helpText.setVisibility(View.VISIBLE);
+        }
+
+        helpButton.setEnabled(warmup.isOver() && diceRoll.isAllDiceRolled() && !isComputerPlayer());
 
 
         if (tournament.getTurnNumber() == 3 && !diceRoll.isAllDiceKept()) {
@@ -380,7 +418,8 @@ public class GameActivity extends AppCompatActivity {
     /**
      * Initializes the computer roll confirm button.
      * Adds an onclick listener to the button to confirm the computer's roll.
-     * Disables the button if it is not the computer's turn or if all dice are kept.
+     * Disables the button if it is not the computer's turn, if all dice are kept or while the AI tables are
+     * still being built.
      */
     private void initComputerRollConfirmButton() {
         Button computerRollConfirmButton = findViewById(R.id.confirmComputerRollButton);
@@ -395,7 +434,8 @@ public class GameActivity extends AppCompatActivity {
             tournament.confirmComputerRoll();
             initGameDisplay();
         });
-        computerRollConfirmButton.setEnabled(isComputerPlayer() && diceRoll.isAllDiceRolled() && !diceRoll.isAllDiceKept());
+        computerRollConfirmButton.setEnabled(warmup.isOver() && isComputerPlayer() && diceRoll.isAllDiceRolled()
+                && !diceRoll.isAllDiceKept());
     }
 
     /**
@@ -462,7 +502,7 @@ public class GameActivity extends AppCompatActivity {
      * @param fileUri The URI of the file to save the game data to.
      */
     private void saveGameToFile(Uri fileUri) {
-        String gameData = Tournament.getInstance().toString();
+        String gameData = GameSession.getTournament().toString();
 
         try (OutputStream outputStream = getContentResolver().openOutputStream(fileUri);
              BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream))) {
@@ -0,0 +1,64 @@
+package com.yahtzee.View;
+
+import com.yahtzee.Model.Tournament;
+import com.yahtzee.Model.Warmup;
+
+/**
+ * Holds the game shown by the activities.
+ * Activities are created by Android and cannot be handed objects directly, so the game being played
+ * is kept here for the lifetime of the process. The game engine itself has no global state: this
+ * class only decides which {@link Tournament} the screens display.
+ */
+public final class GameSession {
+
+    // Game currently shown by the activities
+    private static Tournament tournament = new Tournament();
+
+    // Warm-up of the tables behind the hints, started once per process
+    private static Warmup warmup;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameSession() {
+    }
+
+    /**
+     * Returns the game currently shown by the activities.
+     *
+     * @return the current game
+     */
+    public static Tournament getTournament() {
+        return tournament;
+    }
+
+    /**
+     * Starts building the tables behind the hints in the background, unless it is already started.
+     * Calling this at launch means the first hint never waits for the tables to be built.
+     *
+     * @return the warm-up, which may already be ready
+     */
+    public static synchronized Warmup startWarmup() {
+        if (warmup == null) {
+            warmup = Warmup.start(Warmup.HELP_STAGES);
+        }
+        return warmup;
+    }
+
+    /**
+     * Replaces the current game with a new game between the human and the computer.
+     */
+    public static void startNewGame() {
+        tournament = new Tournament();
+        tournament.getLogger().log("New game started");
+    }
+
+    /**
+     * Replaces the current game with a game loaded from a serialized string.
+     *
+     * @param gameString the serialized game string
+     */
+    public static void loadGame(String gameString) {
+        tournament = Tournament.fromString(gameString);
+    }
+}
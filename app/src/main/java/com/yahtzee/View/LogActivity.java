@@ -23,7 +23,7 @@ public class LogActivity extends AppCompatActivity {
 
         // Get the log text view and set its text to the game log
         TextView logTextView = findViewById(R.id.logText);
-        logTextView.setText(com.yahtzee.Model.Logger.getInstance().toString());
+        logTextView.setText(GameSession.getTournament().getLogger().toString());
 
         // Get the back button and set an onClickListener to finish the activity
         Button backButton = findViewById(R.id.backButton);
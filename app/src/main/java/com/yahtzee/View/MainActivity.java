@@ -11,7 +11,6 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
-import com.yahtzee.Model.Tournament;
 import com.yahtzee.R;
 
 import java.io.BufferedReader;
@@ -37,12 +36,15 @@ public class MainActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_main);
 
+        // Build the tables behind the hints while the player is still on the menu
+        GameSession.startWarmup();
+
         newGameButton = findViewById(R.id.newGameButton);
         loadGameButton = findViewById(R.id.loadGameButton);
 
         // Set an OnClickListener on the new game button to start a new game
         newGameButton.setOnClickListener(v -> {
-            Tournament.startNewGame();
+            GameSession.startNewGame();
             Intent intent = new Intent(this, GameActivity.class);
             startActivity(intent);
         });
@@ -100,7 +102,7 @@ public class MainActivity extends AppCompatActivity {
 
             String serialString = stringBuilder.toString();
 
-            Tournament.setFromString(serialString);
+            GameSession.loadGame(serialString);
 
 
             Intent intent = new Intent(MainActivity.this, GameActivity.class);
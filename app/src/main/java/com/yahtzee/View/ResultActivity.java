@@ -28,7 +28,7 @@ public class ResultActivity extends AppCompatActivity {
         setContentView(R.layout.activity_result);
 
 
-        Tournament tournament = Tournament.getInstance();
+        Tournament tournament = GameSession.getTournament();
         if (!tournament.isOver()) {
             Intent intent = new Intent(this, GameActivity.class);
             startActivity(intent);
@@ -48,7 +48,7 @@ public class ResultActivity extends AppCompatActivity {
      * Adds a new row for each category in the scorecard.
      */
     private void initScoreCard() {
-        Tournament tournament = Tournament.getInstance();
+        Tournament tournament = GameSession.getTournament();
 
         TableLayout scoreCardTable = (TableLayout) findViewById(R.id.scoreCardTableResult);
         // Remove all views except the header
@@ -84,7 +84,7 @@ public class ResultActivity extends AppCompatActivity {
      * Sets the text of the result text view to the result text of the tournament.
      */
     private void initResultText() {
-        Tournament tournament = Tournament.getInstance();
+        Tournament tournament = GameSession.getTournament();
         TextView resultText = (TextView) findViewById(R.id.resultText);
         resultText.setText(tournament.getResultText());
     }
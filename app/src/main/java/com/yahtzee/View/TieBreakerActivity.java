@@ -120,7 +120,7 @@ public class TieBreakerActivity extends AppCompatActivity {
         // Continue Button Logic
         continueButton.setOnClickListener(v -> {
 
-            Tournament tournament = Tournament.getInstance();
+            Tournament tournament = GameSession.getTournament();
             Player human = new Player("Human", false);
             Player computer = new Player("Computer", true);
 
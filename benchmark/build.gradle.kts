@@ -0,0 +1,33 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// Compile against the Java 11 API, not just its syntax, so that newer library calls fail the build
+tasks.withType<JavaCompile>().configureEach {
+    options.release = 11
+}
+
+dependencies {
+    jmh(project(":engine"))
+}
+
+// Run a subset with -PjmhIncludes=<regex>, e.g. -PjmhIncludes=AIBenchmark
+jmh {
+    jmhVersion = libs.versions.jmh
+    includes = listOf(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    warmup = "1s"
+    timeOnIteration = "1s"
+    timeUnit = "us"
+    benchmarkMode = listOf("avgt")
+    profilers = listOf("gc")
+    resultFormat = "TEXT"
+}
@@ -0,0 +1,52 @@
+package com.yahtzee.Benchmark;
+
+import com.yahtzee.Model.AI;
+import com.yahtzee.Model.Solver.DecisionCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the decisions of the heuristic AI, per game state.
+ */
+@OperationsPerInvocation(GameStates.STATE_COUNT)
+public class AIBenchmark {
+
+    @Benchmark
+    public void getHelp(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(AI.getHelp(states.scoreCards[i], states.keptDice.get(i), states.rolledDice.get(i)));
+        }
+    }
+
+    // Answered from the cache once the first invocation has filled it
+    @Benchmark
+    public void getCachedHelp(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(AI.getCachedHelp(DecisionCache.getInstance(), AI.Mode.HEURISTIC,
+                    states.scoreCards[i], states.keptDice.get(i), states.rolledDice.get(i), 1));
+        }
+    }
+
+    @Benchmark
+    public void getDiceToKeep(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(AI.getDiceToKeep(states.scoreCards[i], states.keptDice.get(i), states.rolledDice.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void getStandStatus(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(AI.getStandStatus(states.scoreCards[i], states.keptDice.get(i), states.rolledDice.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void getCombinations(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(AI.getCombinations(states.rolledDice.get(i)));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.yahtzee.Benchmark;
+
+import com.yahtzee.Model.Category;
+import com.yahtzee.Model.Categories.Util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Benchmarks of every category, over the five-dice hands and the kept dice of the game states,
+ * both as lists of values and as packed {@link com.yahtzee.Model.DiceCounts}.
+ */
+@State(Scope.Benchmark)
+@OperationsPerInvocation(GameStates.STATE_COUNT)
+public class CategoryBenchmark {
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11"})
+    public int categoryIndex;
+
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        category = Util.ALL_CATEGORIES.get(categoryIndex);
+    }
+
+    @Benchmark
+    public void calculateScore(GameStates states, Blackhole blackhole) {
+        for (List<Integer> hand : states.hands) {
+            blackhole.consume(category.calculateScore(hand));
+        }
+    }
+
+    @Benchmark
+    public void isValid(GameStates states, Blackhole blackhole) {
+        for (List<Integer> hand : states.hands) {
+            blackhole.consume(category.isValid(hand));
+        }
+    }
+
+    @Benchmark
+    public void isPotential(GameStates states, Blackhole blackhole) {
+        for (List<Integer> kept : states.keptDice) {
+            blackhole.consume(category.isPotential(kept));
+        }
+    }
+
+    @Benchmark
+    public void calculateScoreCounts(GameStates states, Blackhole blackhole) {
+        for (int hand : states.handCounts) {
+            blackhole.consume(category.calculateScore(hand));
+        }
+    }
+
+    @Benchmark
+    public void isValidCounts(GameStates states, Blackhole blackhole) {
+        for (int hand : states.handCounts) {
+            blackhole.consume(category.isValid(hand));
+        }
+    }
+
+    @Benchmark
+    public void isPotentialCounts(GameStates states, Blackhole blackhole) {
+        for (int kept : states.keptCounts) {
+            blackhole.consume(category.isPotential(kept));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.yahtzee.Benchmark;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.GameState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the moves of the immutable game state, per game state.
+ */
+@OperationsPerInvocation(GameStates.STATE_COUNT)
+public class GameStateBenchmark {
+
+    @Benchmark
+    public void standAndScore(GameStates states, Blackhole blackhole) {
+        for (GameState state : states.gameStates) {
+            GameState stood = state.stand();
+            blackhole.consume(stood.isAllDiceKept()
+                    ? stood.score(Integer.numberOfTrailingZeros(stood.getOpenCategories()))
+                    : stood);
+        }
+    }
+
+    @Benchmark
+    public void rerollAll(GameStates states, Blackhole blackhole) {
+        for (GameState state : states.gameStates) {
+            blackhole.consume(state.getRoll() < 3 ? state.keep(DiceCounts.EMPTY) : state.stand());
+        }
+    }
+}
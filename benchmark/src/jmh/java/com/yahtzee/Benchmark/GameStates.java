@@ -0,0 +1,86 @@
+package com.yahtzee.Benchmark;
+
+import com.yahtzee.Model.Category;
+import com.yahtzee.Model.Dice.DiceSource;
+import com.yahtzee.Model.Dice.SplittableDiceSource;
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.GameState;
+import com.yahtzee.Model.Player;
+import com.yahtzee.Model.ScoreCard;
+import com.yahtzee.Model.StrategyNode;
+import com.yahtzee.Model.StrategyTree;
+import com.yahtzee.Model.Tournament;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Representative game states shared by the benchmarks.
+ * The states are the positions the computer faced when deciding in seeded games between two heuristic
+ * computer players, so every run of the benchmarks measures exactly the same inputs.
+ */
+@State(Scope.Benchmark)
+public class GameStates {
+
+    // Seed of the games the states are taken from
+    public static final long SEED = 42;
+
+    // Number of states, which is also the number of operations per benchmark invocation
+    public static final int STATE_COUNT = 128;
+
+    public final Player human = new Player("Human", true);
+    public final Player computer = new Player("Computer", true);
+
+    public final ScoreCard[] scoreCards = new ScoreCard[STATE_COUNT];
+    public final List<List<Integer>> keptDice = new ArrayList<>();
+    public final List<List<Integer>> rolledDice = new ArrayList<>();
+    public final List<List<Integer>> hands = new ArrayList<>();
+    public final int[] keptCounts = new int[STATE_COUNT];
+    public final int[] handCounts = new int[STATE_COUNT];
+    public final List<List<Category>> availableCategories = new ArrayList<>();
+    public final StrategyNode[] nodes = new StrategyNode[STATE_COUNT];
+    public final GameState[] gameStates = new GameState[STATE_COUNT];
+
+    /**
+     * Plays seeded games and records the position before every decision of the computer.
+     */
+    @Setup
+    public void setUp() {
+        DiceSource source = new SplittableDiceSource(SEED);
+        StrategyTree tree = new StrategyTree();
+        int count = 0;
+        while (count < STATE_COUNT) {
+            Tournament tournament = new Tournament(human, computer, source);
+            tournament.getLogger().setEnabled(false);
+            while (!tournament.isOver() && count < STATE_COUNT) {
+                if (tournament.getCurrentPlayer() == null) {
+                    tournament.setPlayerOrder(count % 2 == 0 ? human : computer, count % 2 == 0 ? computer : human);
+                }
+                tournament.getDiceRoll().roll();
+
+                List<Integer> kept = List.copyOf(tournament.getDiceRoll().getKeptDiceValues());
+                List<Integer> rolled = List.copyOf(tournament.getDiceRoll().getRolledDiceValues());
+                List<Integer> hand = new ArrayList<>(kept);
+                hand.addAll(rolled);
+
+                scoreCards[count] = ScoreCard.fromString(tournament.getScoreCard().toString(), human, computer);
+                keptDice.add(kept);
+                rolledDice.add(rolled);
+                hands.add(List.copyOf(hand));
+                keptCounts[count] = DiceCounts.of(kept);
+                handCounts[count] = DiceCounts.of(hand);
+                availableCategories.add(scoreCards[count].getAvailableCategories());
+                gameStates[count] = GameState.of(tournament);
+                nodes[count] = tree.getRoot().getChild(kept.stream().sorted().collect(Collectors.toList())).orElseThrow();
+                count++;
+
+                tournament.confirmComputerRoll();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.yahtzee.Benchmark;
+
+import com.yahtzee.Model.ScoreCard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the score card queries, per game state.
+ */
+@OperationsPerInvocation(GameStates.STATE_COUNT)
+public class ScoreCardBenchmark {
+
+    @Benchmark
+    public void getAvailableCategories(GameStates states, Blackhole blackhole) {
+        for (ScoreCard scoreCard : states.scoreCards) {
+            blackhole.consume(scoreCard.getAvailableCategories());
+        }
+    }
+
+    @Benchmark
+    public void getTotalScore(GameStates states, Blackhole blackhole) {
+        for (ScoreCard scoreCard : states.scoreCards) {
+            blackhole.consume(scoreCard.getTotalScore(states.human));
+            blackhole.consume(scoreCard.getTotalScore(states.computer));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.yahtzee.Benchmark;
+
+import com.yahtzee.Model.Categories.Util;
+import com.yahtzee.Model.Category;
+import com.yahtzee.Model.Dice.DiceSource;
+import com.yahtzee.Model.Dice.SplittableDiceSource;
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreMatrix;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of scoring a large batch of seeded five-dice hands against every category, one roll and
+ * category at a time or into a {@link ScoreMatrix}. An operation is one hand scored for all categories.
+ */
+@State(Scope.Benchmark)
+@OperationsPerInvocation(ScoreMatrixBenchmark.ROLL_COUNT)
+public class ScoreMatrixBenchmark {
+
+    // Number of hands of the batch
+    public static final int ROLL_COUNT = 1 << 20;
+
+    private final int[] rolls = new int[ROLL_COUNT];
+    private final ScoreMatrix matrix = new ScoreMatrix(ROLL_COUNT);
+
+    @Setup
+    public void setUp() {
+        DiceSource source = new SplittableDiceSource(GameStates.SEED);
+        for (int i = 0; i < ROLL_COUNT; i++) {
+            int counts = 0;
+            for (int die = 0; die < RollSpace.DICE; die++) {
+                counts = DiceCounts.withDie(counts, source.roll());
+            }
+            rolls[i] = counts;
+        }
+    }
+
+    @Benchmark
+    public void calculateScoreCounts(Blackhole blackhole) {
+        for (Category category : Util.ALL_CATEGORIES) {
+            for (int roll : rolls) {
+                blackhole.consume(category.calculateScore(roll));
+            }
+        }
+    }
+
+    @Benchmark
+    public ScoreMatrix score() {
+        matrix.score(rolls, 0, ROLL_COUNT);
+        return matrix;
+    }
+
+    @Benchmark
+    public ScoreMatrix scoreParallel() {
+        matrix.scoreParallel(rolls, 0, ROLL_COUNT);
+        return matrix;
+    }
+}
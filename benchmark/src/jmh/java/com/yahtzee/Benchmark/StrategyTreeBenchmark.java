@@ -0,0 +1,69 @@
+package com.yahtzee.Benchmark;
+
+import com.yahtzee.Model.StrategyNode;
+import com.yahtzee.Model.StrategyTree;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the strategy tree. The node of each game state is the node reached by its kept dice.
+ */
+public class StrategyTreeBenchmark {
+
+    @Benchmark
+    public StrategyTree construct() {
+        return new StrategyTree();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GameStates.STATE_COUNT)
+    public void getLeafNodes(GameStates states, Blackhole blackhole) {
+        for (StrategyNode node : states.nodes) {
+            for (StrategyNode leaf : node.getLeafNodes()) {
+                blackhole.consume(leaf.getValue());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GameStates.STATE_COUNT)
+    public void getExpectedValueOfCategory(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(states.nodes[i].getExpectedValue(states.availableCategories.get(i).get(0)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GameStates.STATE_COUNT)
+    public void getExpectedValueOfCategories(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(states.nodes[i].getExpectedValue(states.availableCategories.get(i)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GameStates.STATE_COUNT)
+    public void getExpectedValueOfCategoryOverTwoRolls(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(states.nodes[i].getExpectedValue(states.availableCategories.get(i).get(0), 2));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GameStates.STATE_COUNT)
+    public void getBestDescendantOfCategory(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(states.nodes[i].getBestDescendant(states.availableCategories.get(i).get(0)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GameStates.STATE_COUNT)
+    public void getBestDescendantOfCategories(GameStates states, Blackhole blackhole) {
+        for (int i = 0; i < GameStates.STATE_COUNT; i++) {
+            blackhole.consume(states.nodes[i].getBestDescendant(states.availableCategories.get(i)));
+        }
+    }
+}
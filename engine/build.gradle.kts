@@ -0,0 +1,27 @@
+plugins {
+    `java-library`
+    application
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// Compile against the Java 11 API, not just its syntax, so that newer library calls fail the build
+tasks.withType<JavaCompile>().configureEach {
+    options.release = 11
+}
+
+dependencies {
+    // Only the nullability annotations, which are not needed at run time
+    compileOnly(libs.annotation)
+
+    testImplementation(libs.junit)
+}
+
+// ./gradlew :engine:run --args="simulate --games 1000"
+application {
+    mainClass = "com.yahtzee.Cli.Main"
+    applicationName = "yahtzee"
+}
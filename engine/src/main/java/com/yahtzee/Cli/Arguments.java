@@ -0,0 +1,118 @@
+package com.yahtzee.Cli;
+
+import com.yahtzee.Model.AI;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The arguments of a command: positional values and {@code --name value} options.
+ * Malformed values are reported with an {@link IllegalArgumentException} naming the option.
+ */
+final class Arguments {
+
+    private final List<String> positionals = new ArrayList<>();
+    private final Map<String, String> options = new HashMap<>();
+
+    /**
+     * Parses the arguments following the command name.
+     *
+     * @param args  The command line.
+     * @param start The index of the first argument after the command name.
+     * @throws IllegalArgumentException If an option has no value.
+     */
+    Arguments(String[] args, int start) {
+        for (int i = start; i < args.length; i++) {
+            if (args[i].startsWith("--")) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                options.put(args[i].substring(2), args[++i]);
+            } else {
+                positionals.add(args[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a positional argument.
+     *
+     * @param index The position of the argument.
+     * @return The argument, or null if there are fewer positional arguments.
+     */
+    String getPositional(int index) {
+        return index < positionals.size() ? positionals.get(index) : null;
+    }
+
+    /**
+     * Returns the value of an option.
+     *
+     * @param name         The name of the option, without the leading dashes.
+     * @param defaultValue The value to return if the option is absent.
+     * @return The value of the option.
+     */
+    String getString(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for --" + name + ": " + value);
+        }
+    }
+
+    int getInt(String name, int defaultValue) {
+        long value = getLong(name, defaultValue);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Out of range value for --" + name + ": " + value);
+        }
+        return (int) value;
+    }
+
+    AI.Mode getMode(String name, AI.Mode defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return AI.Mode.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown AI mode for --" + name + ": " + value);
+        }
+    }
+
+    /**
+     * Returns the dice of an option written as comma-separated values, such as {@code 1,3,3,6}.
+     *
+     * @param name The name of the option, without the leading dashes.
+     * @return The dice values, empty if the option is absent.
+     */
+    List<Integer> getDice(String name) {
+        List<Integer> dice = new ArrayList<>();
+        String value = options.get(name);
+        if (value == null || value.isEmpty()) {
+            return dice;
+        }
+        for (String die : value.split(",")) {
+            try {
+                int face = Integer.parseInt(die.trim());
+                if (face < 1 || face > 6) {
+                    throw new NumberFormatException();
+                }
+                dice.add(face);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid die for --" + name + ": " + die);
+            }
+        }
+        return dice;
+    }
+}
@@ -0,0 +1,303 @@
+package com.yahtzee.Cli;
+
+import com.yahtzee.Model.AI;
+import com.yahtzee.Model.Categories.Util;
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.Help;
+import com.yahtzee.Model.Player;
+import com.yahtzee.Model.ScoreCard;
+import com.yahtzee.Model.ScoreTable;
+import com.yahtzee.Model.Simulation.SimulationReport;
+import com.yahtzee.Model.Simulation.Simulator;
+import com.yahtzee.Model.Solver.Decision;
+import com.yahtzee.Model.Solver.DecisionCache;
+import com.yahtzee.Model.Solver.ExpectimaxSearch;
+import com.yahtzee.Model.Solver.MonteCarloSearch;
+import com.yahtzee.Model.Solver.OptimalSolver;
+import com.yahtzee.Model.Solver.StrategyTable;
+import com.yahtzee.Model.Tournament;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The command line entry point of the game engine.
+ * <p>
+ * It runs the same model, rules and AI as the app on a plain JVM:
+ * <ul>
+ *     <li>{@code simulate} plays computer-versus-computer games and prints a {@link SimulationReport}.</li>
+ *     <li>{@code solve} solves every scorecard with the {@link OptimalSolver} and prints its values.</li>
+ *     <li>{@code table} solves every scorecard and writes the values to a {@link StrategyTable} file.</li>
+ *     <li>{@code analyze} loads a saved game and advises the player to move on a hand.</li>
+ *     <li>{@code bench} measures the throughput of self-play games once the JIT has warmed up.</li>
+ * </ul>
+ * Every command takes a {@code --table} option to read the OPTIMAL values from a strategy table file
+ * instead of solving them.
+ */
+public final class Main {
+
+    // Exit status for malformed command lines
+    private static final int USAGE_ERROR = 2;
+
+    private static final String USAGE = String.join("\n",
+            "Usage: yahtzee <command> [options]",
+            "",
+            "Commands:",
+            "  simulate [--first MODE] [--second MODE] [--games N] [--seed S] [--threads T] [--budget MS]",
+            "      Plays computer-versus-computer games and prints the results.",
+            "  solve [--threads T]",
+            "      Solves every scorecard for the OPTIMAL strategy and prints the expected leads.",
+            "  table FILE [--threads T]",
+            "      Solves every scorecard for the OPTIMAL strategy and writes a strategy table file.",
+            "  analyze FILE [--rolled DICE] [--kept DICE] [--roll R] [--mode MODE] [--budget MS]",
+            "      Loads a saved game (- for standard input) and advises the player to move.",
+            "  bench [--mode MODE] [--games N] [--iterations I] [--seed S] [--threads T] [--budget MS]",
+            "      Measures self-play throughput after a warm-up run.",
+            "",
+            "Every command takes --table FILE to read the OPTIMAL values from a strategy table file.",
+            "MODE is one of HEURISTIC, OPTIMAL, EXPECTIMAX or MONTE_CARLO.",
+            "DICE are comma-separated faces, such as 2,2,5.");
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Main() {
+    }
+
+    /**
+     * Runs a command.
+     *
+     * @param args The command name followed by its arguments.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0 || args[0].equals("help") || args[0].equals("--help")) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        try {
+            Arguments arguments = new Arguments(args, 1);
+            String table = arguments.getString("table", null);
+            if (table != null) {
+                OptimalSolver.install(StrategyTable.map(Path.of(table)));
+            }
+            switch (args[0]) {
+                case "simulate":
+                    simulate(arguments);
+                    break;
+                case "solve":
+                    solve(arguments);
+                    break;
+                case "table":
+                    writeTable(arguments);
+                    break;
+                case "analyze":
+                    analyze(arguments);
+                    break;
+                case "bench":
+                    bench(arguments);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown command: " + args[0]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println();
+            System.err.println(USAGE);
+            System.exit(USAGE_ERROR);
+        } catch (IOException e) {
+            System.err.println("Cannot access a file: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Plays a batch of games between two strategies.
+     */
+    private static void simulate(Arguments arguments) {
+        try (Simulator simulator = new Simulator(
+                arguments.getMode("first", AI.Mode.HEURISTIC),
+                arguments.getMode("second", AI.Mode.OPTIMAL),
+                arguments.getInt("threads", Runtime.getRuntime().availableProcessors()),
+                arguments.getLong("budget", Simulator.DEFAULT_SEARCH_BUDGET_MILLIS))) {
+            System.out.print(simulator.run(arguments.getLong("seed", 1), arguments.getLong("games", 1000)));
+        }
+        System.out.println(DecisionCache.getInstance());
+    }
+
+    /**
+     * Solves the optimal strategy, or reads it from a strategy table, and prints the expected score of each
+     * number of open categories.
+     */
+    private static void solve(Arguments arguments) {
+        long start = System.nanoTime();
+        OptimalSolver solver = getSolver(arguments);
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.printf(Locale.ROOT, "%s %d scorecards in %.2f s%n",
+                arguments.getString("table", null) == null ? "Solved" : "Read", OptimalSolver.SOLVED_STATE_COUNT, elapsedNanos / 1e9);
+        System.out.printf(Locale.ROOT, "Expected lead of the first player to move over a whole game: %.4f%n",
+                solver.getValue(ScoreTable.ALL_CATEGORIES_MASK));
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            System.out.printf(Locale.ROOT, "  %-16s alone: %8.4f, all but it: %8.4f%n", Util.ALL_CATEGORIES.get(category),
+                    solver.getValue(1 << category), solver.getValue(ScoreTable.ALL_CATEGORIES_MASK & ~(1 << category)));
+        }
+    }
+
+    /**
+     * Returns the solver of the installed strategy table, or else solves every scorecard in a pool of the
+     * requested number of threads and prints the progress and throughput after each number of open categories.
+     */
+    private static OptimalSolver getSolver(Arguments arguments) {
+        if (arguments.getString("table", null) != null) {
+            return OptimalSolver.getInstance();
+        }
+        int threads = arguments.getInt("threads", Runtime.getRuntime().availableProcessors());
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return OptimalSolver.solve(pool, (completedLayers, layerCount, completedStates, stateCount, elapsedNanos) ->
+                    System.out.printf(Locale.ROOT, "  %2d/%d open categories: %4d/%d scorecards, %.0f scorecards/s%n",
+                            completedLayers, layerCount, completedStates, stateCount, completedStates / (elapsedNanos / 1e9)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Solves the optimal strategy, writes it to a strategy table file and checks the file by mapping it back.
+     */
+    private static void writeTable(Arguments arguments) throws IOException {
+        String file = arguments.getPositional(0);
+        if (file == null) {
+            throw new IllegalArgumentException("Missing table file");
+        }
+
+        long start = System.nanoTime();
+        OptimalSolver solver = getSolver(arguments);
+        StrategyTable.write(solver, Path.of(file));
+        StrategyTable table = StrategyTable.map(Path.of(file));
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.printf(Locale.ROOT, "Wrote %s in %.2f s: version %d, %d bytes, checksum %08x%n", file,
+                elapsedNanos / 1e9, StrategyTable.VERSION, table.getByteCount(), table.getChecksum());
+    }
+
+    /**
+     * Loads a saved game, prints the standing and, given a hand, the advice for the player to move.
+     * A saved game is always at the start of a round, so the player to move moves first in the round.
+     */
+    private static void analyze(Arguments arguments) throws IOException {
+        String file = arguments.getPositional(0);
+        if (file == null) {
+            throw new IllegalArgumentException("Missing saved game file");
+        }
+        Tournament tournament = Tournament.fromString(readGame(file));
+        ScoreCard scoreCard = tournament.getScoreCard();
+        List<Player> players = tournament.getPlayers();
+
+        Player player = tournament.getCurrentPlayer();
+        System.out.println("Round: " + tournament.getCurrentRound());
+        for (Player p : players) {
+            System.out.println(p.getName() + " score: " + scoreCard.getTotalScore(p));
+        }
+        if (player == null) {
+            player = players.get(0);
+            System.out.println("Players are tied; analyzing for " + player.getName() + " moving first");
+        } else {
+            System.out.println(player.getName() + " goes first");
+        }
+
+        int openCategories = ScoreTable.maskOf(scoreCard.getAvailableCategories());
+        System.out.println("Open categories: " + scoreCard.getAvailableCategories());
+        System.out.printf(Locale.ROOT, "Expected lead still to be gained by the player to move: %.4f%n",
+                OptimalSolver.getInstance().getValue(openCategories));
+
+        List<Integer> keptDice = arguments.getDice("kept");
+        List<Integer> rolledDice = arguments.getDice("rolled");
+        if (rolledDice.isEmpty()) {
+            return;
+        }
+        if (keptDice.size() + rolledDice.size() != 5) {
+            throw new IllegalArgumentException("The kept and rolled dice must make five dice");
+        }
+        int roll = arguments.getInt("roll", 1);
+        if (roll < 1 || roll > 3) {
+            throw new IllegalArgumentException("Invalid roll number: " + roll);
+        }
+
+        int kept = DiceCounts.of(keptDice);
+        int rolled = DiceCounts.of(rolledDice);
+        AI.Mode mode = arguments.getMode("mode", AI.Mode.OPTIMAL);
+        long budget = arguments.getLong("budget", ExpectimaxSearch.DEFAULT_TIME_BUDGET_MILLIS);
+        int scoreDiff = 0;
+        for (Player p : players) {
+            scoreDiff += p.equals(player) ? scoreCard.getTotalScore(p) : -scoreCard.getTotalScore(p);
+        }
+
+        Help help;
+        switch (mode) {
+            case HEURISTIC:
+                help = AI.getHelp(scoreCard, keptDice, rolledDice);
+                break;
+            case OPTIMAL:
+                help = AI.getOptimalHelp(scoreCard, keptDice, rolledDice, roll);
+                break;
+            case EXPECTIMAX:
+                help = AI.toHelp(new ExpectimaxSearch(budget, ForkJoinPool.commonPool())
+                        .decide(openCategories, scoreDiff, false, kept, rolled, roll), openCategories, kept, rolled, roll);
+                break;
+            default:
+                help = AI.toHelp(new MonteCarloSearch(budget, ForkJoinPool.commonPool(), System.nanoTime())
+                        .decide(openCategories, scoreDiff, false, kept, rolled, roll), openCategories, kept, rolled, roll);
+                break;
+        }
+        System.out.println("Advice of the " + mode + " strategy:");
+        System.out.print(help);
+    }
+
+    /**
+     * Reads a saved game from a file, or from standard input if the file is {@code -}.
+     */
+    private static String readGame(String file) throws IOException {
+        if (file.equals("-")) {
+            return new String(System.in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        return Files.readString(Path.of(file));
+    }
+
+    /**
+     * Plays self-play games of one strategy, first to warm up the JIT and then timed, and prints the
+     * throughput of each timed iteration.
+     */
+    private static void bench(Arguments arguments) {
+        AI.Mode mode = arguments.getMode("mode", AI.Mode.HEURISTIC);
+        long games = arguments.getLong("games", 200);
+        int iterations = arguments.getInt("iterations", 5);
+        long seed = arguments.getLong("seed", 1);
+        List<Double> rates = new ArrayList<>();
+        try (Simulator simulator = new Simulator(mode, mode,
+                arguments.getInt("threads", Runtime.getRuntime().availableProcessors()),
+                arguments.getLong("budget", Simulator.DEFAULT_SEARCH_BUDGET_MILLIS))) {
+            SimulationReport warmup = simulator.run(seed, games);
+            System.out.printf(Locale.ROOT, "Warm-up: %.1f games/s%n", warmup.getGamesPerSecond());
+
+            for (int iteration = 1; iteration <= iterations; iteration++) {
+                SimulationReport report = simulator.run(seed + iteration, games);
+                rates.add(report.getGamesPerSecond());
+                System.out.printf(Locale.ROOT, "Iteration %d: %.1f games/s, %.3f ms/game%n", iteration,
+                        report.getGamesPerSecond(), report.getElapsedNanos() / 1e6 / report.getGames());
+            }
+        }
+        System.out.printf(Locale.ROOT, "Mean: %.1f games/s%n",
+                rates.stream().mapToDouble(Double::doubleValue).average().orElse(0.0));
+    }
+}
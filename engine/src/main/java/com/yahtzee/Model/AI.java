@@ -0,0 +1,563 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ACES;
+import static com.yahtzee.Model.Categories.Util.FIVES;
+import static com.yahtzee.Model.Categories.Util.FOURS;
+import static com.yahtzee.Model.Categories.Util.FOUR_OF_A_KIND;
+import static com.yahtzee.Model.Categories.Util.FULL_HOUSE;
+import static com.yahtzee.Model.Categories.Util.LARGE_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.SIXES;
+import static com.yahtzee.Model.Categories.Util.SMALL_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.THREES;
+import static com.yahtzee.Model.Categories.Util.THREE_OF_A_KIND;
+import static com.yahtzee.Model.Categories.Util.TWOS;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+
+import com.yahtzee.Model.Categories.Util;
+import com.yahtzee.Model.Solver.CategoryOdds;
+import com.yahtzee.Model.Solver.Decision;
+import com.yahtzee.Model.Solver.DecisionCache;
+import com.yahtzee.Model.Solver.ExpectimaxSearch;
+import com.yahtzee.Model.Solver.MonteCarloSearch;
+import com.yahtzee.Model.Solver.OptimalSolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The AI class contains the logic for determining the best strategy and providing help
+ * for the AI player in the Yahtzee game.
+ */
+public class AI {
+
+    /**
+     * The strategies the AI can use to make decisions.
+     */
+    public enum Mode {
+        // Greedy strategy pursuing the highest scoring category reachable with one more roll
+        HEURISTIC,
+
+        // Strategy maximizing the expected final lead over the opponent, using the OptimalSolver
+        OPTIMAL,
+
+        // Strategy maximizing the probability of beating the opponent, using an ExpectimaxSearch
+        EXPECTIMAX,
+
+        // Strategy maximizing the probability of beating the opponent, using a MonteCarloSearch
+        MONTE_CARLO
+    }
+
+    // Priority categories for the AI to pursue, by score table index
+    private static final int[] PRIORITY_CATEGORIES = {
+            ScoreTable.indexOf(YAHTZEE), ScoreTable.indexOf(LARGE_STRAIGHT),
+            ScoreTable.indexOf(SMALL_STRAIGHT), ScoreTable.indexOf(FULL_HOUSE)
+    };
+
+    // Bitmask of the categories that require a sequence of dice
+    private static final int STRAIGHT_CATEGORIES = ScoreTable.maskOf(List.of(LARGE_STRAIGHT, SMALL_STRAIGHT));
+
+    // Bitmask of the categories that require the same kind of dice
+    private static final int SAME_KIND_CATEGORIES = ScoreTable.maskOf(List.of(YAHTZEE, FOUR_OF_A_KIND, THREE_OF_A_KIND));
+
+    private static final int FULL_HOUSE_INDEX = ScoreTable.indexOf(FULL_HOUSE);
+
+    // RollSpace indices of the outcomes of rolling each number of dice, in the order of the first StrategyTree
+    // leaf reaching them: by their faces sorted ascending, read as a base-6 number
+    private static final int[][] OUTCOMES_BY_LEAF = new int[RollSpace.DICE + 1][];
+
+    static {
+        for (int size = 0; size <= RollSpace.DICE; size++) {
+            int start = RollSpace.getOutcomesStart(size);
+            int[] outcomes = new int[RollSpace.getOutcomesEnd(size) - start];
+            for (int i = 0; i < outcomes.length; i++) {
+                // The leaf key sorts above the index, which fits in the low bits
+                outcomes[i] = leafKeyOf(RollSpace.getCounts(start + i)) * RollSpace.MULTISET_COUNT + start + i;
+            }
+            Arrays.sort(outcomes);
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] %= RollSpace.MULTISET_COUNT;
+            }
+            OUTCOMES_BY_LEAF[size] = outcomes;
+        }
+    }
+
+    // Categories that require any combination of dice
+    List<Category> anyCombinationCategories = List.of(SIXES, FIVES, FOURS, THREES, TWOS, ACES);
+
+    // Bit offsets of the fields of a decision cache key, above the packed multiset of rolled dice
+    private static final int KEY_KEPT_SHIFT = 18;
+    private static final int KEY_OPEN_SHIFT = 36;
+    private static final int KEY_ROLL_SHIFT = 48;
+    private static final int KEY_MODE_SHIFT = 50;
+
+    /**
+     * Provides help to the AI based on the current game state.
+     *
+     * @param tournament The current tournament.
+     * @return The help object containing advice for the AI.
+     */
+    public static Help getHelp(Tournament tournament) {
+        if (tournament.getAiMode() == Mode.EXPECTIMAX) {
+            return getSearchHelp(tournament, tournament.getSearch());
+        }
+        if (tournament.getAiMode() == Mode.MONTE_CARLO) {
+            return getMonteCarloHelp(tournament, tournament.getMonteCarloSearch());
+        }
+        DiceRoll diceRoll = tournament.getDiceRoll();
+        return getCachedHelp(tournament.getDecisionCache(), tournament.getAiMode(),
+                tournament.getScoreCard().getAvailableMask(), diceRoll.getKeptCounts(), diceRoll.getRolledCounts(),
+                tournament.getTurnNumber());
+    }
+
+    /**
+     * Provides the help of the HEURISTIC or OPTIMAL strategy from a decision cache, computing it on a miss.
+     *
+     * @param cache      The cache of decisions.
+     * @param mode       The strategy, HEURISTIC or OPTIMAL.
+     * @param scoreCard  The current score card.
+     * @param keptDice   The dice that the AI has chosen to keep.
+     * @param rolledDice The dice that the AI has rolled.
+     * @param roll       The number of the roll that produced the rolled dice, from 1 to 3.
+     * @return The help object containing advice for the AI.
+     */
+    public static Help getCachedHelp(DecisionCache cache, Mode mode, ScoreCard scoreCard, List<Integer> keptDice,
+                                     List<Integer> rolledDice, int roll) {
+        return getCachedHelp(cache, mode, scoreCard.getAvailableMask(), DiceCounts.of(keptDice),
+                DiceCounts.of(rolledDice), roll);
+    }
+
+    /**
+     * Provides the help of the HEURISTIC or OPTIMAL strategy from a decision cache, computing it on a miss.
+     * Both strategies only depend on the open categories and the multisets of kept and rolled dice, and
+     * the OPTIMAL strategy also on the roll number, so equal positions of any game share an entry.
+     *
+     * @param cache          The cache of decisions.
+     * @param mode           The strategy, HEURISTIC or OPTIMAL.
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of dice kept so far.
+     * @param rolled         The packed multiset of rolled dice.
+     * @param roll           The number of the roll that produced the rolled dice, from 1 to 3.
+     * @return The help object containing advice for the AI.
+     */
+    public static Help getCachedHelp(DecisionCache cache, Mode mode, int openCategories, int kept, int rolled, int roll) {
+        if (mode == Mode.OPTIMAL) {
+            long key = getCacheKey(mode, openCategories, kept, rolled, roll);
+            return toHelp(cache.get(key, k -> OptimalSolver.getInstance().decide(openCategories, kept, rolled, roll)),
+                    openCategories, kept, rolled, roll);
+        }
+
+        long key = getCacheKey(Mode.HEURISTIC, openCategories, kept, rolled, 0);
+        return toHelp(cache.get(key, k -> getHeuristicDecision(openCategories, kept, rolled)),
+                openCategories, kept, rolled, roll);
+    }
+
+    /**
+     * Packs a position into a decision cache key.
+     *
+     * @param mode           The strategy deciding.
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of kept dice.
+     * @param rolled         The packed multiset of rolled dice.
+     * @param roll           The roll number, or 0 if the strategy does not depend on it.
+     * @return The key of the position.
+     */
+    private static long getCacheKey(Mode mode, int openCategories, int kept, int rolled, int roll) {
+        return (long) mode.ordinal() << KEY_MODE_SHIFT
+                | (long) roll << KEY_ROLL_SHIFT
+                | (long) openCategories << KEY_OPEN_SHIFT
+                | (long) kept << KEY_KEPT_SHIFT
+                | rolled;
+    }
+
+    /**
+     * Provides help that maximizes the current player's probability of winning, based on a search of
+     * the turns ahead on the shared scorecard.
+     *
+     * @param tournament The current tournament.
+     * @param search     The search to decide with.
+     * @return The help object containing advice for the current player.
+     */
+    public static Help getSearchHelp(Tournament tournament, ExpectimaxSearch search) {
+        int openCategories = tournament.getScoreCard().getAvailableMask();
+        int kept = tournament.getDiceRoll().getKeptCounts();
+        int rolled = tournament.getDiceRoll().getRolledCounts();
+        Decision decision = search.decide(openCategories, getScoreDiff(tournament), tournament.getNextPlayer() == null,
+                kept, rolled, tournament.getTurnNumber());
+
+        return toHelp(decision, openCategories, kept, rolled, tournament.getTurnNumber());
+    }
+
+    /**
+     * Provides help that maximizes the current player's probability of winning, based on playouts of
+     * the rest of the game on the shared scorecard.
+     *
+     * @param tournament The current tournament.
+     * @param search     The search to decide with.
+     * @return The help object containing advice for the current player.
+     */
+    public static Help getMonteCarloHelp(Tournament tournament, MonteCarloSearch search) {
+        int openCategories = tournament.getScoreCard().getAvailableMask();
+        int kept = tournament.getDiceRoll().getKeptCounts();
+        int rolled = tournament.getDiceRoll().getRolledCounts();
+        Decision decision = search.decide(openCategories, getScoreDiff(tournament), tournament.getNextPlayer() == null,
+                kept, rolled, tournament.getTurnNumber());
+
+        return toHelp(decision, openCategories, kept, rolled, tournament.getTurnNumber());
+    }
+
+    /**
+     * Returns the total score of the current player minus the total score of the other player.
+     *
+     * @param tournament The current tournament.
+     * @return The score differential from the point of view of the current player.
+     */
+    private static int getScoreDiff(Tournament tournament) {
+        Player currentPlayer = tournament.getCurrentPlayer();
+        int scoreDiff = 0;
+        for (Player player : tournament.getPlayers()) {
+            int total = tournament.getScoreCard().getTotalScore(player);
+            scoreDiff += player.equals(currentPlayer) ? total : -total;
+        }
+        return scoreDiff;
+    }
+
+    /**
+     * Provides help that maximizes the expected final lead over the opponent, based on the OptimalSolver.
+     *
+     * @param scoreCard  The current score card.
+     * @param keptDice   The dice that the AI has chosen to keep.
+     * @param rolledDice The dice that the AI has rolled.
+     * @param roll       The number of the roll that produced the rolled dice, from 1 to 3.
+     * @return The help object containing advice for the AI.
+     */
+    public static Help getOptimalHelp(ScoreCard scoreCard, List<Integer> keptDice, List<Integer> rolledDice, int roll) {
+        int openCategories = scoreCard.getAvailableMask();
+        int kept = DiceCounts.of(keptDice);
+        int rolled = DiceCounts.of(rolledDice);
+        Decision decision = OptimalSolver.getInstance().decide(openCategories, kept, rolled, roll);
+
+        return toHelp(decision, openCategories, kept, rolled, roll);
+    }
+
+    /**
+     * Provides help to the AI based on the current game state.
+     *
+     * @param scoreCard  The current score card.
+     * @param keptDice   The dice that the AI has chosen to keep.
+     * @param rolledDice The dice that the AI has rolled.
+     * @return The help object containing advice for the AI.
+     */
+    public static Help getHelp(ScoreCard scoreCard, List<Integer> keptDice, List<Integer> rolledDice) {
+        int openCategories = scoreCard.getAvailableMask();
+        int kept = DiceCounts.of(keptDice);
+        int rolled = DiceCounts.of(rolledDice);
+        return toHelp(getHeuristicDecision(openCategories, kept, rolled), openCategories, kept, rolled);
+    }
+
+    /**
+     * Makes the decision of the heuristic strategy, which has no expected value.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of dice kept so far.
+     * @param rolled         The packed multiset of rolled dice.
+     * @return The decision holding the dice to keep, the stand status and the target category.
+     */
+    private static Decision getHeuristicDecision(int openCategories, int kept, int rolled) {
+        int keep = getDiceToKeep(openCategories, kept, rolled);
+        int target = getTargetCategory(openCategories, RollSpace.indexOf(DiceCounts.add(kept, keep)));
+        return new Decision(keep, keep == rolled, target, Double.NaN);
+    }
+
+    /**
+     * Converts a decision into help on the given dice, as after the second roll, with one roll left.
+     *
+     * @param decision       The decision.
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of dice kept so far.
+     * @param rolled         The packed multiset of rolled dice.
+     * @return The help object containing the decision and the odds of each open category.
+     */
+    public static Help toHelp(Decision decision, int openCategories, int kept, int rolled) {
+        return toHelp(decision, openCategories, kept, rolled, 2);
+    }
+
+    /**
+     * Converts a decision into help on the given dice.
+     * The target category only depends on the dice kept after the decision, and the odds of each category
+     * also on the rolls left to re-keep them; after the third roll, no roll is left and the odds are those
+     * of the hand held, all the kept and rolled dice.
+     *
+     * @param decision       The decision.
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of dice kept so far.
+     * @param rolled         The packed multiset of rolled dice.
+     * @param roll           The number of the roll that produced the rolled dice, from 1 to 3.
+     * @return The help object containing the decision and the expected score and probability of each
+     *         open category.
+     */
+    public static Help toHelp(Decision decision, int openCategories, int kept, int rolled, int roll) {
+        Category targetCategory = decision.getCategory() < 0 ? null : Util.ALL_CATEGORIES.get(decision.getCategory());
+        int resulting = DiceCounts.add(kept, decision.getKeep());
+        int rollsLeft = CategoryOdds.MAX_ROLLS_LEFT - roll;
+        CategoryOdds odds = CategoryOdds.getInstance();
+
+        double[] expectedScores = new double[ScoreTable.CATEGORY_COUNT];
+        double[] probabilities = new double[ScoreTable.CATEGORY_COUNT];
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            if ((openCategories & (1 << category)) == 0) {
+                expectedScores[category] = Double.NaN;
+                probabilities[category] = Double.NaN;
+            } else if (rollsLeft > 0) {
+                expectedScores[category] = odds.getExpectedScore(category, resulting, rollsLeft);
+                probabilities[category] = odds.getProbability(category, resulting, rollsLeft);
+            } else {
+                expectedScores[category] = odds.getExpectedScore(category, kept, rolled, 0);
+                probabilities[category] = odds.getProbability(category, kept, rolled, 0);
+            }
+        }
+        return new Help(targetCategory, DiceCounts.toList(decision.getKeep()), DiceCounts.toList(kept),
+                DiceCounts.toList(rolled), decision.isStand(), expectedScores, probabilities);
+    }
+
+    /**
+     * Determines the best category for the AI to target: the open category reaching the highest valid
+     * score in any outcome of rolling the dice that are not kept. Ties go to the category reaching it in
+     * the earliest outcome, then to the first category on the scorecard, except that Four of a Kind is
+     * preferred whenever both it and Three of a Kind reach the highest score.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The {@link RollSpace} index of all the kept dice.
+     * @return The index of the category to target, or -1 if no open category can be valid.
+     */
+    private static int getTargetCategory(int openCategories, int kept) {
+        int best = -1;
+        int bestScore = ReachTable.UNREACHABLE;
+        int bestOutcome = 0;
+        for (int remaining = openCategories; remaining != 0; remaining &= remaining - 1) {
+            int category = Integer.numberOfTrailingZeros(remaining);
+            int score = ReachTable.getMaxScore(category, kept);
+            if (score == ReachTable.UNREACHABLE) {
+                continue;
+            }
+            int outcome = ReachTable.getFirstMaxOutcome(category, kept);
+            if (score > bestScore || (score == bestScore && outcome < bestOutcome)) {
+                best = category;
+                bestScore = score;
+                bestOutcome = outcome;
+            }
+        }
+
+        int threeOfAKind = ScoreTable.indexOf(THREE_OF_A_KIND);
+        int fourOfAKind = ScoreTable.indexOf(FOUR_OF_A_KIND);
+        if (best >= 0 && (openCategories & (1 << threeOfAKind)) != 0 && (openCategories & (1 << fourOfAKind)) != 0
+                && ReachTable.getMaxScore(threeOfAKind, kept) == bestScore
+                && ReachTable.getMaxScore(fourOfAKind, kept) == bestScore) {
+            return fourOfAKind;
+        }
+        return best;
+    }
+
+    /**
+     * Determines the dice that the AI should keep based on the current game state.
+     *
+     * @param scoreCard  The current score card.
+     * @param keptDice   The dice that the AI has chosen to keep.
+     * @param diceRolls  The dice that the AI has rolled.
+     * @return The dice that the AI should keep, sorted ascending.
+     */
+    public static List<Integer> getDiceToKeep(ScoreCard scoreCard, List<Integer> keptDice, List<Integer> diceRolls) {
+        return DiceCounts.toList(getDiceToKeep(scoreCard.getAvailableMask(), DiceCounts.of(keptDice), DiceCounts.of(diceRolls)));
+    }
+
+    /**
+     * Determines the dice to keep on packed multisets, without allocating.
+     * <p>
+     * If a priority category is already valid, the rolled dice are kept, less the duplicates for a
+     * straight. Otherwise the AI looks for the highest score any open category reaches in an outcome of
+     * rolling the unkept dice, and keeps the rolled dice in common with the first such outcome sharing
+     * the most dice with the roll, trimmed to what the category of that outcome needs. Outcomes come in
+     * the order of their first leaf in the {@link StrategyTree}, the order the tree-walking strategy broke
+     * ties in.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of dice kept so far.
+     * @param rolled         The packed multiset of rolled dice.
+     * @return The packed multiset of rolled dice to keep.
+     */
+    static int getDiceToKeep(int openCategories, int kept, int rolled) {
+        int rolledCount = RollSpace.DICE - DiceCounts.size(kept);
+        if (rolledCount == 0) {
+            return DiceCounts.EMPTY;
+        }
+
+        int hand = RollSpace.indexOf(DiceCounts.add(kept, rolled));
+        for (int category : PRIORITY_CATEGORIES) {
+            if ((openCategories & (1 << category)) != 0 && ScoreTable.isValid(category, hand)) {
+                return (STRAIGHT_CATEGORIES & (1 << category)) != 0 ? trimForStraight(kept, rolled, rolled) : rolled;
+            }
+        }
+
+        // Only the pairs of outcome and category reaching the highest score so far are candidates
+        int maxScore = 0;
+        int largestSize = 0;
+        int largest = DiceCounts.EMPTY;
+        int targetCategory = -1;
+        for (int outcome : OUTCOMES_BY_LEAF[rolledCount]) {
+            int outcomeCounts = RollSpace.getCounts(outcome);
+            int outcomeHand = RollSpace.indexOf(DiceCounts.add(kept, outcomeCounts));
+            for (int remaining = openCategories; remaining != 0; remaining &= remaining - 1) {
+                int category = Integer.numberOfTrailingZeros(remaining);
+                int score = ScoreTable.getScore(category, outcomeHand);
+                if (score < maxScore) {
+                    continue;
+                }
+                if (score > maxScore) {
+                    maxScore = score;
+                    largestSize = 0;
+                    largest = DiceCounts.EMPTY;
+                    targetCategory = -1;
+                }
+                int intersection = DiceCounts.intersect(outcomeCounts, rolled);
+                int size = DiceCounts.size(intersection);
+                if (size > largestSize) {
+                    largestSize = size;
+                    largest = intersection;
+                    targetCategory = category;
+                }
+            }
+        }
+
+        if (targetCategory < 0) {
+            return largest;
+        }
+        if ((STRAIGHT_CATEGORIES & (1 << targetCategory)) != 0) {
+            return trimForStraight(kept, rolled, largest);
+        }
+        if ((SAME_KIND_CATEGORIES & (1 << targetCategory)) != 0) {
+            return getOnlyMaximalKind(largest);
+        }
+        if (targetCategory == FULL_HOUSE_INDEX) {
+            // Drop the singles, which cannot be part of a full house
+            int finalRoll = DiceCounts.add(kept, largest);
+            for (int face = 1; face <= 6; face++) {
+                if (DiceCounts.count(finalRoll, face) == 1 && DiceCounts.count(largest, face) > 0) {
+                    largest -= DiceCounts.withDie(DiceCounts.EMPTY, face);
+                }
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Trims the dice to keep for a straight: one die of each face not kept yet. When a 1 and a 6 would
+     * end up together, which no straight uses, the rolled dice are kept but for the extra end.
+     *
+     * @param kept   The packed multiset of dice kept so far.
+     * @param rolled The packed multiset of rolled dice.
+     * @param keep   The packed multiset of rolled dice to trim.
+     * @return The packed multiset of rolled dice to keep.
+     */
+    private static int trimForStraight(int kept, int rolled, int keep) {
+        int trimmed = DiceCounts.EMPTY;
+        for (int face = 1; face <= 6; face++) {
+            if (DiceCounts.count(keep, face) > 0 && DiceCounts.count(kept, face) == 0) {
+                trimmed = DiceCounts.withDie(trimmed, face);
+            }
+        }
+
+        if (DiceCounts.count(kept, 6) > 0 && DiceCounts.count(rolled, 1) > 0) {
+            return withoutFace(rolled, 1);
+        }
+        if (DiceCounts.count(kept, 1) > 0 && DiceCounts.count(rolled, 6) > 0) {
+            return withoutFace(rolled, 6);
+        }
+        return trimmed;
+    }
+
+    /**
+     * Returns the base-6 number of the faces of a multiset sorted ascending, which orders multisets of the
+     * same size like the first StrategyTree leaves reaching them.
+     */
+    private static int leafKeyOf(int counts) {
+        int key = 0;
+        for (int face = 1; face <= 6; face++) {
+            for (int i = 0; i < DiceCounts.count(counts, face); i++) {
+                key = key * StrategyTree.FACES + face - 1;
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Returns a multiset without any die showing a face.
+     */
+    private static int withoutFace(int counts, int face) {
+        return counts & ~(DiceCounts.FACE_MASK << (DiceCounts.FACE_BITS * (face - 1)));
+    }
+
+    /**
+     * Returns the dice of the faces appearing the most often in a multiset.
+     *
+     * @param counts The packed multiset.
+     * @return The packed multiset holding only the faces with the highest count.
+     */
+    private static int getOnlyMaximalKind(int counts) {
+        int maxCount = 0;
+        for (int face = 1; face <= 6; face++) {
+            maxCount = Math.max(maxCount, DiceCounts.count(counts, face));
+        }
+
+        int result = DiceCounts.EMPTY;
+        for (int face = 1; face <= 6; face++) {
+            if (DiceCounts.count(counts, face) == maxCount) {
+                result |= counts & (DiceCounts.FACE_MASK << (DiceCounts.FACE_BITS * (face - 1)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determines whether the AI should stand based on the current game state.
+     *
+     * @param scoreCard  The current score card.
+     * @param keptDice   The dice that the AI has chosen to keep.
+     * @param diceRolls  The dice that the AI has rolled.
+     * @return True if the AI should stand, false otherwise.
+     */
+    public static boolean getStandStatus(ScoreCard scoreCard, List<Integer> keptDice, List<Integer> diceRolls) {
+        return isStand(getDiceToKeep(scoreCard, keptDice, diceRolls), diceRolls);
+    }
+
+    /**
+     * Returns whether keeping some dice means standing, that is keeping every rolled die.
+     *
+     * @param diceToKeep The dice that the AI should keep.
+     * @param diceRolls  The dice that the AI has rolled.
+     * @return True if every rolled die is kept, false otherwise.
+     */
+    private static boolean isStand(List<Integer> diceToKeep, List<Integer> diceRolls) {
+        return DiceCounts.of(diceToKeep) == DiceCounts.of(diceRolls);
+    }
+
+    /**
+     * Generates all possible combinations of elements.
+     *
+     * @param elements The elements to generate combinations from.
+     * @return A list of all possible combinations.
+     */
+    public static List<List<Integer>> getCombinations(List<Integer> elements) {
+        List<List<Integer>> result = new ArrayList<>();
+        int n = elements.size();
+        for (int i = 0; i < (1 << n); i++) { // Iterate through all possible subsets
+            List<Integer> combination = new ArrayList<>();
+            for (int j = 0; j < n; j++) {
+                if (((i >> j) & 1) == 1) { // Check if j-th bit is set
+                    combination.add(elements.get(j));
+                }
+            }
+            result.add(combination);
+        }
+        return result;
+    }
+}
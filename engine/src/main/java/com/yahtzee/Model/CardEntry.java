@@ -1,5 +1,6 @@
 package com.yahtzee.Model;
 
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -49,6 +50,16 @@ public class CardEntry {
                 && winner.equals(cardEntry.winner);
     }
 
+    /**
+     * Returns a hash code of this CardEntry, consistent with {@link #equals(Object)}.
+     *
+     * @return A hash of the category, score, round and winner.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, score, round, winner);
+    }
+
     /**
      * Sets the score, round, and winner for this CardEntry.
      *
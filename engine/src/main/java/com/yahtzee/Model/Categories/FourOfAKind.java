@@ -5,7 +5,6 @@ import androidx.annotation.NonNull;
 import com.yahtzee.Model.Category;
 
 import java.util.List;
-import java.util.Objects;
 
 public class FourOfAKind implements Category {
     private static final FourOfAKind INSTANCE = new FourOfAKind();
@@ -33,7 +32,7 @@ public class FourOfAKind implements Category {
 
     @Override
     public boolean isValid(List<Integer> dice) {
-        return dice.stream().anyMatch(d -> dice.stream().filter(d2 -> Objects.equals(d2, d)).count() >= 4);
+        return Category.maxCount(dice) >= 4;
     }
 
     @Override
@@ -5,7 +5,6 @@ import androidx.annotation.NonNull;
 import com.yahtzee.Model.Category;
 
 import java.util.List;
-import java.util.Objects;
 
 public class FullHouse implements Category {
     private static final FullHouse INSTANCE = new FullHouse();
@@ -33,15 +32,21 @@ public class FullHouse implements Category {
 
     @Override
     public boolean isValid(List<Integer> dice) {
-        return dice.stream().anyMatch(d -> dice.stream().filter(d2 -> Objects.equals(d2, d)).count() == 3) && dice.stream().anyMatch(d -> dice.stream().filter(d2 -> Objects.equals(d2, d)).count() == 2);
+        boolean hasThree = false;
+        boolean hasTwo = false;
+        for (int count : Category.faceCounts(dice)) {
+            hasThree |= count == 3;
+            hasTwo |= count == 2;
+        }
+        return hasThree && hasTwo;
     }
 
     @Override
     public boolean isPotential(List<Integer> dice) {
         //  return count_unique(dice) <= 2 && max_count(dice) <= 3;
 
-        long distinctCount = dice.stream().distinct().count();
-        int maxCount = dice.stream().mapToInt(d -> (int) dice.stream().filter(d2 -> Objects.equals(d2, d)).count()).max().orElse(0);
+        long distinctCount = Category.uniqueCount(dice);
+        int maxCount = Category.maxCount(dice);
 
         return distinctCount <= 2 && maxCount <= 3;
     }
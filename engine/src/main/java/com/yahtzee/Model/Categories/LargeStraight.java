@@ -10,6 +10,10 @@ import java.util.Objects;
 public class LargeStraight implements Category {
     private static final LargeStraight INSTANCE = new LargeStraight();
 
+    // The runs of five consecutive values that make a large straight
+    private static final List<Integer> LOW_RUN = List.of(1, 2, 3, 4, 5);
+    private static final List<Integer> HIGH_RUN = List.of(2, 3, 4, 5, 6);
+
     private LargeStraight() {
     }
 
@@ -33,7 +37,7 @@ public class LargeStraight implements Category {
 
     @Override
     public boolean isValid(List<Integer> dice) {
-        return dice.containsAll(List.of(1, 2, 3, 4, 5)) || dice.containsAll(List.of(2, 3, 4, 5, 6));
+        return dice.containsAll(LOW_RUN) || dice.containsAll(HIGH_RUN);
     }
 
     @Override
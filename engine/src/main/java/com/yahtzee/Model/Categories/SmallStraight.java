@@ -9,6 +9,11 @@ import java.util.List;
 public class SmallStraight implements Category {
     private static final SmallStraight INSTANCE = new SmallStraight();
 
+    // The runs of four consecutive values that make a small straight
+    private static final List<Integer> LOW_RUN = List.of(1, 2, 3, 4);
+    private static final List<Integer> MIDDLE_RUN = List.of(2, 3, 4, 5);
+    private static final List<Integer> HIGH_RUN = List.of(3, 4, 5, 6);
+
     private SmallStraight() {
     }
 
@@ -32,8 +37,7 @@ public class SmallStraight implements Category {
 
     @Override
     public boolean isValid(List<Integer> dice) {
-        return dice.containsAll(List.of(1, 2, 3, 4)) || dice.containsAll(List.of(2, 3, 4, 5)) ||
-                dice.containsAll(List.of(3, 4, 5, 6));
+        return dice.containsAll(LOW_RUN) || dice.containsAll(MIDDLE_RUN) || dice.containsAll(HIGH_RUN);
     }
 
     @Override
@@ -5,7 +5,6 @@ import androidx.annotation.NonNull;
 import com.yahtzee.Model.Category;
 
 import java.util.List;
-import java.util.Objects;
 
 public class ThreeOfAKind implements Category {
     private static final ThreeOfAKind INSTANCE = new ThreeOfAKind();
@@ -33,7 +32,7 @@ public class ThreeOfAKind implements Category {
 
     @Override
     public boolean isValid(List<Integer> dice) {
-        return dice.stream().anyMatch(d -> dice.stream().filter(d2 -> Objects.equals(d2, d)).count() >= 3);
+        return Category.maxCount(dice) >= 3;
     }
 
     @Override
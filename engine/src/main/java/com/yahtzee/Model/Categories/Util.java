@@ -3,6 +3,7 @@ package com.yahtzee.Model.Categories;
 import com.yahtzee.Model.Category;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * The Util class provides utility methods and constants related to the Yahtzee game categories.
@@ -43,7 +44,7 @@ public class Util {
      * @return a list of valid categories
      */
     public static List<Category> getValidCategories(List<Integer> dice) {
-        return ALL_CATEGORIES.stream().filter(c -> c.isValid(dice)).toList();
+        return ALL_CATEGORIES.stream().filter(c -> c.isValid(dice)).collect(Collectors.toList());
     }
 
     /**
@@ -55,7 +56,7 @@ public class Util {
      * @return a list of potential categories
      */
     public static List<Category> getPotentialCategories(List<Integer> dice) {
-        return ALL_CATEGORIES.stream().filter(c -> c.isPotential(dice)).toList();
+        return ALL_CATEGORIES.stream().filter(c -> c.isPotential(dice)).collect(Collectors.toList());
     }
 
 }
@@ -5,7 +5,6 @@ import static java.lang.Math.max;
 import androidx.annotation.NonNull;
 
 import java.util.List;
-import java.util.Objects;
 
 /**
  * This interface represents a category in the game of Yahtzee.
@@ -45,6 +44,37 @@ public interface Category {
      */
     boolean isPotential(List<Integer> dice);
 
+    /**
+     * Calculates the score of a packed multiset of at most five dice for this category, without allocating.
+     *
+     * @param counts The packed multiset, see {@link DiceCounts}.
+     * @return The score, as returned by {@link #calculateScore(List)} for the same dice.
+     */
+    default int calculateScore(int counts) {
+        return ScoreTable.getScore(ScoreTable.indexOf(this), RollSpace.indexOf(counts));
+    }
+
+    /**
+     * Returns whether a packed multiset of at most five dice is valid for this category, without allocating.
+     *
+     * @param counts The packed multiset, see {@link DiceCounts}.
+     * @return The result of {@link #isValid(List)} for the same dice.
+     */
+    default boolean isValid(int counts) {
+        return ScoreTable.isValid(ScoreTable.indexOf(this), RollSpace.indexOf(counts));
+    }
+
+    /**
+     * Returns whether a packed multiset of at most five dice is a potential match for this category,
+     * without allocating.
+     *
+     * @param counts The packed multiset, see {@link DiceCounts}.
+     * @return The result of {@link #isPotential(List)} for the same dice.
+     */
+    default boolean isPotential(int counts) {
+        return (ScoreTable.getPotentialMask(RollSpace.indexOf(counts)) & (1 << ScoreTable.indexOf(this))) != 0;
+    }
+
     /**
      * Returns the number of unique values in the given dice.
      *
@@ -62,7 +92,11 @@ public interface Category {
      * @return The maximum number of times a value is repeated in the dice.
      */
     static int maxCount(List<Integer> dice) {
-        return dice.stream().mapToInt(d -> (int) dice.stream().filter(d2 -> Objects.equals(d2, d)).count()).max().orElse(0);
+        int maxCount = 0;
+        for (int count : faceCounts(dice)) {
+            maxCount = max(maxCount, count);
+        }
+        return maxCount;
     }
 
     /**
@@ -72,10 +106,7 @@ public interface Category {
      * @return The number of times a value is repeated in the dice.
      */
     static int repeatedCount(List<Integer> dice) {
-        int[] counts = new int[6];
-        for (int d : dice) {
-            counts[d - 1]++;
-        }
+        int[] counts = faceCounts(dice);
 
         for (int i = 0; i < counts.length; i++) {
             int count = counts[i];
@@ -88,4 +119,18 @@ public interface Category {
         }
         return sum;
     }
+
+    /**
+     * Returns how many times each face appears in the given dice.
+     *
+     * @param dice The dice to count.
+     * @return An array of six counts, where index 0 holds the number of ones.
+     */
+    static int[] faceCounts(List<Integer> dice) {
+        int[] counts = new int[6];
+        for (int d : dice) {
+            counts[d - 1]++;
+        }
+        return counts;
+    }
 }
@@ -0,0 +1,19 @@
+package com.yahtzee.Model.Dice;
+
+/**
+ * A source of die rolls.
+ * Every {@link com.yahtzee.Model.Die} draws its values from a DiceSource, which decides whether the rolls
+ * are pseudo-random and reproducible, replayed from a script, or cryptographically secure.
+ * <p>
+ * Rolling must not allocate, since simulations roll billions of dice. Unless stated otherwise, a
+ * source is meant to be used by one game, and so one thread, at a time.
+ */
+public interface DiceSource {
+
+    /**
+     * Rolls a die.
+     *
+     * @return The value rolled, from 1 to 6.
+     */
+    int roll();
+}
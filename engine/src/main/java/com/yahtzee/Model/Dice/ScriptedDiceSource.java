@@ -0,0 +1,56 @@
+package com.yahtzee.Model.Dice;
+
+/**
+ * A source that replays a fixed sequence of die rolls, for replaying games and for testing.
+ */
+public final class ScriptedDiceSource implements DiceSource {
+    private final int[] values;
+    private int position;
+
+    /**
+     * Constructs a source replaying the given values in order.
+     *
+     * @param values The values to roll, each from 1 to 6.
+     * @throws IllegalArgumentException If a value is not a die value.
+     */
+    public ScriptedDiceSource(int... values) {
+        for (int value : values) {
+            if (value < 1 || value > 6) {
+                throw new IllegalArgumentException("Not a die value: " + value);
+            }
+        }
+        this.values = values.clone();
+    }
+
+    /**
+     * Returns the number of values rolled so far.
+     *
+     * @return The position of the next value in the script.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of values left to roll.
+     *
+     * @return The number of remaining values.
+     */
+    public int getRemaining() {
+        return values.length - position;
+    }
+
+    /**
+     * Rolls the next value of the script.
+     *
+     * @return The next value.
+     * @throws IllegalStateException If every value of the script has been rolled.
+     */
+    @Override
+    public int roll() {
+        if (position == values.length) {
+            throw new IllegalStateException("The script of " + values.length + " rolls is exhausted");
+        }
+        return values[position++];
+    }
+}
@@ -0,0 +1,17 @@
+package com.yahtzee.Model.Dice;
+
+import java.security.SecureRandom;
+
+/**
+ * A source of unpredictable die rolls, drawn from a cryptographically strong generator.
+ * It is slower than {@link SplittableDiceSource} and cannot be reproduced, but no observer can predict
+ * the next roll. Unlike the other sources, it may be shared between threads.
+ */
+public final class SecureDiceSource implements DiceSource {
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public int roll() {
+        return random.nextInt(6) + 1;
+    }
+}
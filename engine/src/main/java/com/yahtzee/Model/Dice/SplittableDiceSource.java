@@ -0,0 +1,53 @@
+package com.yahtzee.Model.Dice;
+
+import java.util.SplittableRandom;
+
+/**
+ * A fast, seeded source of pseudo-random die rolls.
+ * The same seed always gives the same rolls. {@link #split()} derives a source with an independent
+ * stream of rolls, so every game or thread of a simulation can get its own reproducible stream from one
+ * seed without any synchronization.
+ */
+public final class SplittableDiceSource implements DiceSource {
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a source with an unpredictable seed.
+     */
+    public SplittableDiceSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a source with the given seed.
+     *
+     * @param seed The seed of the rolls.
+     */
+    public SplittableDiceSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a source over a generator.
+     *
+     * @param random The generator to draw rolls from.
+     */
+    private SplittableDiceSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Returns a new source whose rolls are independent of this source's. Splitting advances this source,
+     * so sources split in the same order from the same seed always roll the same.
+     *
+     * @return The new source.
+     */
+    public SplittableDiceSource split() {
+        return new SplittableDiceSource(random.split());
+    }
+
+    @Override
+    public int roll() {
+        return random.nextInt(6) + 1;
+    }
+}
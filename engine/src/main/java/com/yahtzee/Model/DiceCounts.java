@@ -0,0 +1,120 @@
+package com.yahtzee.Model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility methods for dice multisets packed into an int.
+ * A multiset is stored as a face-count histogram with 3 bits per face: the number of dice showing
+ * face {@code f} occupies bits {@code 3 * (f - 1)} to {@code 3 * (f - 1) + 2}. Since a roll has at
+ * most five dice, no count ever overflows its field, and two multisets can be combined by adding them.
+ */
+public final class DiceCounts {
+
+    // Number of bits used to store the count of one face
+    public static final int FACE_BITS = 3;
+
+    // Mask selecting the count of a single face once shifted down
+    public static final int FACE_MASK = (1 << FACE_BITS) - 1;
+
+    // The empty multiset
+    public static final int EMPTY = 0;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DiceCounts() {
+    }
+
+    /**
+     * Packs a list of dice values into a multiset.
+     *
+     * @param dice The dice values (1 to 6).
+     * @return The packed multiset.
+     */
+    public static int of(List<Integer> dice) {
+        int counts = EMPTY;
+        for (int die : dice) {
+            counts = withDie(counts, die);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the multiset with one more die showing the given face.
+     *
+     * @param counts The packed multiset.
+     * @param face   The face of the added die (1 to 6).
+     * @return The packed multiset including the added die.
+     */
+    public static int withDie(int counts, int face) {
+        return counts + (1 << (FACE_BITS * (face - 1)));
+    }
+
+    /**
+     * Returns how many dice in the multiset show the given face.
+     *
+     * @param counts The packed multiset.
+     * @param face   The face to count (1 to 6).
+     * @return The number of dice showing the face.
+     */
+    public static int count(int counts, int face) {
+        return (counts >>> (FACE_BITS * (face - 1))) & FACE_MASK;
+    }
+
+    /**
+     * Returns the number of dice in the multiset.
+     *
+     * @param counts The packed multiset.
+     * @return The number of dice.
+     */
+    public static int size(int counts) {
+        int size = 0;
+        for (int face = 1; face <= 6; face++) {
+            size += count(counts, face);
+        }
+        return size;
+    }
+
+    /**
+     * Combines two multisets.
+     *
+     * @param first  The first packed multiset.
+     * @param second The second packed multiset.
+     * @return The packed multiset holding the dice of both; the total must not exceed five dice.
+     */
+    public static int add(int first, int second) {
+        return first + second;
+    }
+
+    /**
+     * Returns the dice two multisets have in common.
+     *
+     * @param first  The first packed multiset.
+     * @param second The second packed multiset.
+     * @return The packed multiset holding, for each face, the smaller count of the two.
+     */
+    public static int intersect(int first, int second) {
+        int common = EMPTY;
+        for (int shift = 0; shift < 6 * FACE_BITS; shift += FACE_BITS) {
+            common |= Math.min((first >>> shift) & FACE_MASK, (second >>> shift) & FACE_MASK) << shift;
+        }
+        return common;
+    }
+
+    /**
+     * Returns the dice values of the multiset in ascending order.
+     *
+     * @param counts The packed multiset.
+     * @return A list of the dice values, sorted ascending.
+     */
+    public static List<Integer> toList(int counts) {
+        List<Integer> dice = new ArrayList<>(5);
+        for (int face = 1; face <= 6; face++) {
+            for (int i = count(counts, face); i > 0; i--) {
+                dice.add(face);
+            }
+        }
+        return dice;
+    }
+}
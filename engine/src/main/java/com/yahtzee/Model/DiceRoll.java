@@ -1,7 +1,11 @@
 package com.yahtzee.Model;
 
+import com.yahtzee.Model.Dice.DiceSource;
+import com.yahtzee.Model.Dice.SplittableDiceSource;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Represents a set of five dice in the game of Yahtzee. This class handles rolling the dice,
@@ -15,9 +19,19 @@ public class DiceRoll {
      * Each die is initialized with default values.
      */
     public DiceRoll() {
+        this(new SplittableDiceSource());
+    }
+
+    /**
+     * Constructs a new DiceRoll object with 5 dice drawing their rolls from the given source.
+     * Rolls are reproducible when the source is.
+     *
+     * @param source The source of the rolls, shared by the dice.
+     */
+    public DiceRoll(DiceSource source) {
         dice = new ArrayList<>();
         for (int i = 0; i < 5; i++) {
-            dice.add(new Die());
+            dice.add(new Die(source));
         }
     }
 
@@ -35,7 +49,8 @@ public class DiceRoll {
      * Resets the marked status for any die marked for help keeping.
      */
     public void roll() {
-        for (Die die : dice) {
+        for (int i = 0; i < dice.size(); i++) {
+            Die die = dice.get(i);
             if (!die.isKept() && !die.isMarked()) {
                 die.roll();
                 die.setMarkedForHelpKeep(false);
@@ -146,7 +161,7 @@ public class DiceRoll {
         return dice.stream()
                 .filter(Die::isKept)
                 .map(Die::getValue)
-                .toList();
+                .collect(Collectors.toList());
     }
 
     /**
@@ -158,7 +173,7 @@ public class DiceRoll {
         return dice.stream()
                 .filter(Die::isMarked)
                 .map(Die::getValue)
-                .toList();
+                .collect(Collectors.toList());
     }
 
     /**
@@ -170,8 +185,56 @@ public class DiceRoll {
         return dice.stream()
                 .filter(die -> !die.isKept())
                 .map(Die::getValue)
-                .toList();
+                .collect(Collectors.toList());
+
+    }
+
+    /**
+     * Returns the values of all kept dice as a packed multiset, without allocating.
+     *
+     * @return The packed multiset of kept dice values, see {@link DiceCounts}.
+     */
+    public int getKeptCounts() {
+        int counts = DiceCounts.EMPTY;
+        for (int i = 0; i < dice.size(); i++) {
+            Die die = dice.get(i);
+            if (die.isKept()) {
+                counts = DiceCounts.withDie(counts, die.getValue());
+            }
+        }
+        return counts;
+    }
 
+    /**
+     * Returns the values of all marked dice as a packed multiset, without allocating.
+     *
+     * @return The packed multiset of marked dice values, see {@link DiceCounts}.
+     */
+    public int getMarkedCounts() {
+        int counts = DiceCounts.EMPTY;
+        for (int i = 0; i < dice.size(); i++) {
+            Die die = dice.get(i);
+            if (die.isMarked()) {
+                counts = DiceCounts.withDie(counts, die.getValue());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the values of all dice that are not kept as a packed multiset, without allocating.
+     *
+     * @return The packed multiset of rolled dice values, see {@link DiceCounts}.
+     */
+    public int getRolledCounts() {
+        int counts = DiceCounts.EMPTY;
+        for (int i = 0; i < dice.size(); i++) {
+            Die die = dice.get(i);
+            if (!die.isKept()) {
+                counts = DiceCounts.withDie(counts, die.getValue());
+            }
+        }
+        return counts;
     }
 
     /**
@@ -182,7 +245,7 @@ public class DiceRoll {
     public List<Die> getRolledDice() {
         return dice.stream()
                 .filter(die -> !die.isKept())
-                .toList();
+                .collect(Collectors.toList());
     }
 
     /**
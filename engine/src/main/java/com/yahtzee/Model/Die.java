@@ -1,6 +1,7 @@
 package com.yahtzee.Model;
 
-import java.util.Random;
+import com.yahtzee.Model.Dice.DiceSource;
+import com.yahtzee.Model.Dice.SplittableDiceSource;
 
 /**
  * Represents a single die in the game of Yahtzee. This class handles the value of the die,
@@ -14,11 +15,24 @@ public class Die {
     private boolean marked;
     private boolean markedForHelpKeep;
 
+    // Source the die draws its rolls from
+    private final DiceSource source;
+
     /**
      * Constructs a new Die object with an initial value of 0 and default states for
      * kept and marked flags.
      */
     public Die() {
+        this(new SplittableDiceSource());
+    }
+
+    /**
+     * Constructs a new Die object that draws its rolls from the given source.
+     *
+     * @param source The source of the rolls.
+     */
+    public Die(DiceSource source) {
+        this.source = source;
         value = 0;
         kept = false;
         marked = false;
@@ -108,10 +122,10 @@ public class Die {
     }
 
     /**
-     * Rolls the die to generate a new random value between 1 and 6.
+     * Rolls the die to generate a new value between 1 and 6 from its source.
      */
     public void roll() {
-        value = new Random().nextInt(6) + 1;
+        value = source.roll();
     }
 
     /**
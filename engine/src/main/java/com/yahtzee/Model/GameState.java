@@ -0,0 +1,528 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+
+import androidx.annotation.NonNull;
+
+import com.yahtzee.Model.Dice.DiceSource;
+import com.yahtzee.Model.Solver.Decision;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An immutable snapshot of a game between two players, packed into a few longs.
+ * <p>
+ * Every move returns a new state and leaves this one untouched, so a search can branch a position
+ * any number of times without copying objects or undoing moves. The moves follow the rules of
+ * {@link Tournament}: the dice not kept are rolled, then the player either keeps some of them and
+ * rolls again, or stands and scores a category. A turn also ends as soon as no open category can be
+ * reached from the kept dice.
+ * <p>
+ * Players are addressed by index: {@link #FIRST} and {@link #SECOND} are the first and second
+ * players of the tournament, in the order they were given to it. Categories are addressed by index in
+ * {@code ALL_CATEGORIES} and dice by packed multisets, see {@link DiceCounts}.
+ */
+public final class GameState {
+
+    // Index of the first and second players
+    public static final int FIRST = 0;
+    public static final int SECOND = 1;
+
+    // Marks the absence of a player, such as the player to move in a tied round
+    public static final int NO_PLAYER = -1;
+
+    // Highest score a state can hold
+    public static final int MAX_SCORE = (1 << 6) - 1;
+
+    // Highest round a state records for a filled category; a category filled in a later round records this one
+    public static final int MAX_FILLED_ROUND = (1 << 8) - 1;
+
+    // Layout of the board: open categories, owners of the filled categories, roll number, player to
+    // move plus one, whether the other player moves after them in the round, and the round in the high word
+    private static final int OWNERS_SHIFT = 12;
+    private static final int ROLL_SHIFT = 24;
+    private static final int MOVER_SHIFT = 26;
+    private static final int PENDING_SHIFT = 28;
+    private static final int ROUND_SHIFT = 32;
+    private static final long CATEGORIES_MASK = ScoreTable.ALL_CATEGORIES_MASK;
+
+    // Layout of the dice: kept dice, then dice rolled but not yet kept
+    private static final int ROLLED_SHIFT = 18;
+    private static final long COUNTS_MASK = (1L << ROLLED_SHIFT) - 1;
+
+    // Layout of a cell: the score of a filled category, then the round it was filled in
+    private static final int CELL_BITS = 14;
+    private static final int CELL_ROUND_SHIFT = 6;
+    private static final int CELLS_PER_WORD = 4;
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+    // The state of a new game: every category open, first round and roll, player order undecided
+    private static final GameState NEW_GAME = new GameState(
+            boardOf(ScoreTable.ALL_CATEGORIES_MASK, 0, 1, 1, NO_PLAYER, false), DiceCounts.EMPTY, 0, 0, 0);
+
+    private final long board;
+    private final long dice;
+
+    // Cells of the categories, four per word
+    private final long cells0;
+    private final long cells1;
+    private final long cells2;
+
+    private GameState(long board, long dice, long cells0, long cells1, long cells2) {
+        this.board = board;
+        this.dice = dice;
+        this.cells0 = cells0;
+        this.cells1 = cells1;
+        this.cells2 = cells2;
+    }
+
+    /**
+     * Returns the state of a new game, before the player order of the first round is decided.
+     *
+     * @return The state of a new game.
+     */
+    public static GameState newGame() {
+        return NEW_GAME;
+    }
+
+    /**
+     * Takes a snapshot of a tournament. The marks the player put on the dice are not part of it.
+     *
+     * @param tournament The tournament, between exactly two players.
+     * @return The state of the tournament.
+     * @throws IllegalArgumentException If a score, a round or a player cannot be held by a state.
+     */
+    public static GameState of(Tournament tournament) {
+        List<Player> players = tournament.getPlayers();
+        ScoreCard scoreCard = tournament.getScoreCard();
+        int open = scoreCard.getAvailableMask();
+
+        int owners = 0;
+        long[] cells = new long[3];
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            if ((open & (1 << category)) != 0) {
+                continue;
+            }
+            Category entry = ALL_CATEGORIES.get(category);
+            if (indexOf(players, scoreCard.getWinner(entry).orElse(null)) == SECOND) {
+                owners |= 1 << category;
+            }
+            long cell = cellOf(scoreCard.getScore(entry).orElse(0), scoreCard.getRound(entry).orElse(0));
+            cells[category / CELLS_PER_WORD] |= cell << (category % CELLS_PER_WORD * CELL_BITS);
+        }
+
+        DiceRoll diceRoll = tournament.getDiceRoll();
+        int rolled = diceRoll.isAllDiceRolled() ? diceRoll.getRolledCounts() : DiceCounts.EMPTY;
+        int mover = tournament.getCurrentPlayer() == null ? NO_PLAYER : indexOf(players, tournament.getCurrentPlayer());
+        boolean pending = tournament.getNextPlayer() != null;
+
+        return new GameState(boardOf(open, owners, checkRound(tournament.getCurrentRound()),
+                tournament.getTurnNumber(), mover, pending),
+                diceOf(diceRoll.getKeptCounts(), rolled), cells[0], cells[1], cells[2]);
+    }
+
+    /**
+     * Builds a tournament in this state. The dice not yet rolled are left blank, as after a reroll.
+     *
+     * @param first  The first player.
+     * @param second The second player.
+     * @param source The source the dice of the tournament draw their further rolls from.
+     * @return A new tournament in this state.
+     */
+    public Tournament toTournament(Player first, Player second, DiceSource source) {
+        Tournament tournament = new Tournament(first, second, source);
+        List<Player> players = tournament.getPlayers();
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            if (!isOpen(category)) {
+                tournament.getScoreCard().setScore(ALL_CATEGORIES.get(category), getScore(category),
+                        getRound(category), players.get(getOwner(category)));
+            }
+        }
+
+        tournament.setCurrentRound(getCurrentRound());
+        tournament.setTurnNumber(getRoll());
+        int mover = getMover();
+        if (mover == NO_PLAYER) {
+            tournament.setPlayerOrder(null, null);
+        } else {
+            tournament.setPlayerOrder(players.get(mover), hasNextPlayer() ? players.get(1 - mover) : null);
+        }
+
+        List<Die> dice = tournament.getDiceRoll().getDice();
+        int die = 0;
+        for (int face = 1; face <= 6; face++) {
+            for (int i = 0; i < DiceCounts.count(getKept(), face); i++, die++) {
+                dice.get(die).setValue(face);
+                dice.get(die).setKept(true);
+            }
+            for (int i = 0; i < DiceCounts.count(getRolled(), face); i++, die++) {
+                dice.get(die).setValue(face);
+            }
+        }
+        return tournament;
+    }
+
+    /**
+     * Rolls the dice that are not kept.
+     *
+     * @param outcome The packed multiset of faces rolled, as many dice as are not kept.
+     * @return The state after the roll.
+     * @throws IllegalStateException    If the dice are already rolled or the game is over.
+     * @throws IllegalArgumentException If the outcome does not have as many dice as are not kept.
+     */
+    public GameState roll(int outcome) {
+        if (isRolled() || isOver()) {
+            throw new IllegalStateException("The dice are already rolled");
+        }
+        if (DiceCounts.size(outcome) != RollSpace.DICE - DiceCounts.size(getKept())) {
+            throw new IllegalArgumentException("Expected " + (RollSpace.DICE - DiceCounts.size(getKept()))
+                    + " dice: " + DiceCounts.toList(outcome));
+        }
+        return new GameState(board, diceOf(getKept(), outcome), cells0, cells1, cells2);
+    }
+
+    /**
+     * Keeps some of the rolled dice and rerolls the others, as {@link Tournament#reRoll()} does.
+     * The turn ends if no open category can be reached from the kept dice.
+     *
+     * @param keep The packed multiset of rolled dice to keep.
+     * @return The state before the dice not kept are rolled, or the state of the next turn.
+     * @throws IllegalStateException    If the dice are not rolled or this was the last roll.
+     * @throws IllegalArgumentException If the dice to keep are not among the rolled dice.
+     */
+    public GameState keep(int keep) {
+        if (!isRolled() || getRoll() >= 3) {
+            throw new IllegalStateException("Cannot roll again on roll " + getRoll());
+        }
+        if (DiceCounts.intersect(keep, getRolled()) != keep) {
+            throw new IllegalArgumentException("Cannot keep " + DiceCounts.toList(keep)
+                    + " from " + DiceCounts.toList(getRolled()));
+        }
+
+        int kept = DiceCounts.add(getKept(), keep);
+        int potential = kept == DiceCounts.EMPTY ? getOpenCategories()
+                : getOpenCategories() & ScoreTable.getPotentialMask(RollSpace.indexOf(kept));
+        if (potential == 0) {
+            return endTurn(cells0, cells1, cells2, (int) (board >>> OWNERS_SHIFT & CATEGORIES_MASK), getOpenCategories());
+        }
+        return new GameState(board + (1L << ROLL_SHIFT), diceOf(kept, DiceCounts.EMPTY), cells0, cells1, cells2);
+    }
+
+    /**
+     * Keeps every rolled die, as {@link Tournament#stand()} does.
+     * The turn ends if no open category is valid for the dice.
+     *
+     * @return The state in which the player chooses a category, or the state of the next turn.
+     * @throws IllegalStateException If the dice are not rolled.
+     */
+    public GameState stand() {
+        if (!isRolled()) {
+            throw new IllegalStateException("The dice are not rolled");
+        }
+        int kept = DiceCounts.add(getKept(), getRolled());
+        if ((getOpenCategories() & ScoreTable.getValidMask(RollSpace.indexOf(kept))) == 0) {
+            return endTurn(cells0, cells1, cells2, (int) (board >>> OWNERS_SHIFT & CATEGORIES_MASK), getOpenCategories());
+        }
+        return new GameState(board, diceOf(kept, DiceCounts.EMPTY), cells0, cells1, cells2);
+    }
+
+    /**
+     * Scores the kept dice in a category and ends the turn, as {@link Tournament#selectCategory(Category)} does.
+     * A category that is not open, or {@code -1}, ends the turn without scoring.
+     *
+     * @param category The index of the category to score.
+     * @return The state of the next turn.
+     * @throws IllegalStateException If the player has not kept every die.
+     */
+    public GameState score(int category) {
+        if (!isAllDiceKept()) {
+            throw new IllegalStateException("The player has not kept every die");
+        }
+        int owners = (int) (board >>> OWNERS_SHIFT & CATEGORIES_MASK);
+        if (category < 0 || category >= ScoreTable.CATEGORY_COUNT || !isOpen(category)) {
+            return endTurn(cells0, cells1, cells2, owners, getOpenCategories());
+        }
+
+        long cell = cellOf(ScoreTable.getScore(category, RollSpace.indexOf(getKept())), getCurrentRound());
+        int shift = category % CELLS_PER_WORD * CELL_BITS;
+        if (getMover() == SECOND) {
+            owners |= 1 << category;
+        }
+        int open = getOpenCategories() & ~(1 << category);
+        switch (category / CELLS_PER_WORD) {
+            case 0:
+                return endTurn(cells0 | cell << shift, cells1, cells2, owners, open);
+            case 1:
+                return endTurn(cells0, cells1 | cell << shift, cells2, owners, open);
+            default:
+                return endTurn(cells0, cells1, cells2 | cell << shift, owners, open);
+        }
+    }
+
+    /**
+     * Plays a solver decision for the rolled dice: stands and scores its category, or keeps its dice
+     * and rerolls the others. On the last roll, the player always stands.
+     *
+     * @param decision The decision.
+     * @return The state after the decision.
+     */
+    public GameState apply(Decision decision) {
+        if (!decision.isStand() && getRoll() < 3) {
+            return keep(decision.getKeep());
+        }
+        GameState state = stand();
+        return state.isAllDiceKept() ? state.score(decision.getCategory()) : state;
+    }
+
+    /**
+     * Decides who moves first in a tied round, as {@link Tournament#setPlayerOrder(Player, Player)} does.
+     *
+     * @param first The index of the player moving first; the other player moves next.
+     * @return The state with the player order set.
+     */
+    public GameState withPlayerOrder(int first) {
+        return new GameState(boardOf(getOpenCategories(), (int) (board >>> OWNERS_SHIFT & CATEGORIES_MASK),
+                getCurrentRound(), getRoll(), first, true), dice, cells0, cells1, cells2);
+    }
+
+    public int getOpenCategories() {
+        return (int) (board & CATEGORIES_MASK);
+    }
+
+    public boolean isOpen(int category) {
+        return (board & (1L << category)) != 0;
+    }
+
+    public boolean isOver() {
+        return getOpenCategories() == 0;
+    }
+
+    public int getCurrentRound() {
+        return (int) (board >>> ROUND_SHIFT);
+    }
+
+    /**
+     * Returns the number of the roll in progress, as {@link Tournament#getTurnNumber()} does.
+     *
+     * @return The roll number, from 1 to 3.
+     */
+    public int getRoll() {
+        return (int) (board >>> ROLL_SHIFT & 3);
+    }
+
+    /**
+     * Returns the player to move.
+     *
+     * @return The index of the player, or {@link #NO_PLAYER} if the order of a tied round is not decided.
+     */
+    public int getMover() {
+        return (int) (board >>> MOVER_SHIFT & 3) - 1;
+    }
+
+    /**
+     * Returns whether the other player moves after the player to move in this round.
+     *
+     * @return True if the other player moves next, false if the round ends with this turn.
+     */
+    public boolean hasNextPlayer() {
+        return (board & (1L << PENDING_SHIFT)) != 0;
+    }
+
+    public int getKept() {
+        return (int) (dice & COUNTS_MASK);
+    }
+
+    public int getRolled() {
+        return (int) (dice >>> ROLLED_SHIFT & COUNTS_MASK);
+    }
+
+    /**
+     * Returns whether the dice not kept are rolled, so that the player can decide on them.
+     *
+     * @return True if every die is either kept or rolled.
+     */
+    public boolean isRolled() {
+        return DiceCounts.size(getKept()) + DiceCounts.size(getRolled()) == RollSpace.DICE;
+    }
+
+    /**
+     * Returns whether the player has kept every die and chooses a category.
+     *
+     * @return True if every die is kept.
+     */
+    public boolean isAllDiceKept() {
+        return DiceCounts.size(getKept()) == RollSpace.DICE;
+    }
+
+    /**
+     * Returns the score of a filled category.
+     *
+     * @param category The index of the category.
+     * @return The score, or 0 if the category is open.
+     */
+    public int getScore(int category) {
+        return (int) (cellOf(category) & MAX_SCORE);
+    }
+
+    /**
+     * Returns the round a category was filled in.
+     *
+     * @param category The index of the category.
+     * @return The round, at most {@link #MAX_FILLED_ROUND}, or 0 if the category is open.
+     */
+    public int getRound(int category) {
+        return (int) (cellOf(category) >>> CELL_ROUND_SHIFT);
+    }
+
+    /**
+     * Returns the player who filled a category.
+     *
+     * @param category The index of the category.
+     * @return The index of the player, or {@link #NO_PLAYER} if the category is open.
+     */
+    public int getOwner(int category) {
+        if (isOpen(category)) {
+            return NO_PLAYER;
+        }
+        return (board & (1L << (OWNERS_SHIFT + category))) != 0 ? SECOND : FIRST;
+    }
+
+    /**
+     * Returns the total score of a player.
+     *
+     * @param player The index of the player.
+     * @return The sum of the scores of the categories the player filled.
+     */
+    public int getTotalScore(int player) {
+        return totalOf(player, getOpenCategories(), (int) (board >>> OWNERS_SHIFT & CATEGORIES_MASK), cells0, cells1, cells2);
+    }
+
+    /**
+     * Returns the player with the higher total score once every category is filled.
+     *
+     * @return The index of the winner, or empty if the game is not over or is tied.
+     */
+    public Optional<Integer> getWinner() {
+        if (!isOver() || getTotalScore(FIRST) == getTotalScore(SECOND)) {
+            return Optional.empty();
+        }
+        return Optional.of(getTotalScore(FIRST) > getTotalScore(SECOND) ? FIRST : SECOND);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GameState)) {
+            return false;
+        }
+        GameState other = (GameState) obj;
+        return board == other.board && dice == other.dice
+                && cells0 == other.cells0 && cells1 == other.cells1 && cells2 == other.cells2;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = board;
+        hash = hash * 31 + dice;
+        hash = hash * 31 + cells0;
+        hash = hash * 31 + cells1;
+        hash = hash * 31 + cells2;
+        return Long.hashCode(hash);
+    }
+
+    /**
+     * Returns a string representation of the GameState.
+     *
+     * @return The round, the player to move, the dice and the total scores.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        return "Round " + getCurrentRound() + ", roll " + getRoll()
+                + (getMover() == NO_PLAYER ? ", order undecided" : ", player " + (getMover() + 1) + " to move")
+                + ", kept " + DiceCounts.toList(getKept()) + ", rolled " + DiceCounts.toList(getRolled())
+                + ", scores " + getTotalScore(FIRST) + "-" + getTotalScore(SECOND);
+    }
+
+    /**
+     * Ends the turn with the given categories, as {@code Tournament.finishTurn} does: the other player
+     * moves next in the round, or a new round starts with the trailing player moving first.
+     */
+    private GameState endTurn(long cells0, long cells1, long cells2, int owners, int open) {
+        int round = getCurrentRound();
+        int mover;
+        boolean pending;
+        if (hasNextPlayer()) {
+            mover = 1 - getMover();
+            pending = false;
+        } else {
+            int firstScore = totalOf(FIRST, open, owners, cells0, cells1, cells2);
+            int secondScore = totalOf(SECOND, open, owners, cells0, cells1, cells2);
+            round++;
+            mover = firstScore < secondScore ? FIRST : secondScore < firstScore ? SECOND : NO_PLAYER;
+            pending = mover != NO_PLAYER;
+        }
+        return new GameState(boardOf(open, owners, round, 1, mover, pending), DiceCounts.EMPTY, cells0, cells1, cells2);
+    }
+
+    /**
+     * Returns the cell of a category.
+     */
+    private long cellOf(int category) {
+        return cellOf(category, cells0, cells1, cells2);
+    }
+
+    private static long cellOf(int category, long cells0, long cells1, long cells2) {
+        long word = category < CELLS_PER_WORD ? cells0 : category < 2 * CELLS_PER_WORD ? cells1 : cells2;
+        return word >>> (category % CELLS_PER_WORD * CELL_BITS) & CELL_MASK;
+    }
+
+    /**
+     * Sums the scores of the filled categories owned by a player.
+     */
+    private static int totalOf(int player, int open, int owners, long cells0, long cells1, long cells2) {
+        int filled = ~open & ScoreTable.ALL_CATEGORIES_MASK & (player == SECOND ? owners : ~owners);
+        int total = 0;
+        for (int remaining = filled; remaining != 0; remaining &= remaining - 1) {
+            total += (int) (cellOf(Integer.numberOfTrailingZeros(remaining), cells0, cells1, cells2) & MAX_SCORE);
+        }
+        return total;
+    }
+
+    /**
+     * Packs the score and round of a filled category into a cell, saturating the round at {@link #MAX_FILLED_ROUND}.
+     */
+    private static long cellOf(int score, int round) {
+        if (score < 0 || score > MAX_SCORE) {
+            throw new IllegalArgumentException("Score out of range: " + score);
+        }
+        return score | (long) Math.min(checkRound(round), MAX_FILLED_ROUND) << CELL_ROUND_SHIFT;
+    }
+
+    private static long boardOf(int open, int owners, int round, int roll, int mover, boolean pending) {
+        return open | (long) owners << OWNERS_SHIFT | (long) round << ROUND_SHIFT | (long) roll << ROLL_SHIFT
+                | (long) (mover + 1) << MOVER_SHIFT | (pending ? 1L << PENDING_SHIFT : 0);
+    }
+
+    private static long diceOf(int kept, int rolled) {
+        return kept | (long) rolled << ROLLED_SHIFT;
+    }
+
+    private static int checkRound(int round) {
+        if (round < 0) {
+            throw new IllegalArgumentException("Round out of range: " + round);
+        }
+        return round;
+    }
+
+    /**
+     * Returns the index of a player of a two-player game.
+     */
+    private static int indexOf(List<Player> players, Player player) {
+        int index = players.indexOf(player);
+        if (index != FIRST && index != SECOND) {
+            throw new IllegalArgumentException("Not a player of the game: " + player);
+        }
+        return index;
+    }
+}
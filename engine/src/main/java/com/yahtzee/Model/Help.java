@@ -0,0 +1,195 @@
+package com.yahtzee.Model;
+
+import androidx.annotation.NonNull;
+
+import com.yahtzee.Model.Categories.Util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Represents help information to assist the player in making decisions during the game.
+ * This class provides details on which category to target, which dice to keep, and whether to stand or reroll,
+ * along with the expected score and probability of each open category once the advised dice are kept.
+ * Help is immutable, so it can be kept and shared by any number of callers.
+ */
+public final class Help {
+    private final Category targetCategory;
+    private final List<Integer> diceToKeep;
+    private final List<Integer> keptDice;
+    private final List<Integer> rolledDice;
+    private final boolean stand;
+
+    // Expected score of each category by index after keeping the advised dice, NaN if unknown
+    private final double[] expectedScores;
+
+    // Probability of each category by index being valid at the end of the turn, NaN if unknown
+    private final double[] probabilities;
+
+    /**
+     * Constructs a new Help object with the specified parameters.
+     *
+     * @param targetCategory The category that is being targeted for scoring.
+     * @param diceToKeep The list of dice that should be kept.
+     * @param keptDice The list of dice that are currently kept.
+     * @param rolledDice The list of dice that were rolled in the current turn.
+     * @param stand A boolean indicating whether the player should stand (not reroll any dice).
+     */
+    public Help(Category targetCategory, List<Integer> diceToKeep, List<Integer> keptDice, List<Integer> rolledDice, boolean stand) {
+        this(targetCategory, diceToKeep, keptDice, rolledDice, stand, null);
+    }
+
+    /**
+     * Constructs a new Help object with the expected score of each category.
+     *
+     * @param targetCategory The category that is being targeted for scoring.
+     * @param diceToKeep The list of dice that should be kept.
+     * @param keptDice The list of dice that are currently kept.
+     * @param rolledDice The list of dice that were rolled in the current turn.
+     * @param stand A boolean indicating whether the player should stand (not reroll any dice).
+     * @param expectedScores The expected score of each category by index in {@link Util#ALL_CATEGORIES}
+     *                       after keeping the advised dice, NaN for unknown scores, or null if none is known.
+     */
+    public Help(Category targetCategory, List<Integer> diceToKeep, List<Integer> keptDice, List<Integer> rolledDice,
+                boolean stand, double[] expectedScores) {
+        this(targetCategory, diceToKeep, keptDice, rolledDice, stand, expectedScores, null);
+    }
+
+    /**
+     * Constructs a new Help object with the expected score and probability of each category.
+     *
+     * @param targetCategory The category that is being targeted for scoring.
+     * @param diceToKeep The list of dice that should be kept.
+     * @param keptDice The list of dice that are currently kept.
+     * @param rolledDice The list of dice that were rolled in the current turn.
+     * @param stand A boolean indicating whether the player should stand (not reroll any dice).
+     * @param expectedScores The expected score of each category by index in {@link Util#ALL_CATEGORIES}
+     *                       after keeping the advised dice, NaN for unknown scores, or null if none is known.
+     * @param probabilities The probability of each category by index in {@link Util#ALL_CATEGORIES} being
+     *                      valid at the end of the turn, NaN for unknown odds, or null if none is known.
+     */
+    public Help(Category targetCategory, List<Integer> diceToKeep, List<Integer> keptDice, List<Integer> rolledDice,
+                boolean stand, double[] expectedScores, double[] probabilities) {
+        this.targetCategory = targetCategory;
+        this.diceToKeep = List.copyOf(diceToKeep);
+        this.keptDice = List.copyOf(keptDice);
+        this.rolledDice = List.copyOf(rolledDice);
+        this.stand = stand;
+        this.expectedScores = copyOf(expectedScores);
+        this.probabilities = copyOf(probabilities);
+    }
+
+    /**
+     * Copies a value for each category, or fills the copy with NaN if there is none.
+     */
+    private static double[] copyOf(double[] values) {
+        double[] copy = new double[Util.ALL_CATEGORIES.size()];
+        if (values == null) {
+            Arrays.fill(copy, Double.NaN);
+        } else {
+            System.arraycopy(values, 0, copy, 0, copy.length);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the target category that is being pursued in this turn.
+     *
+     * @return The target category.
+     */
+    public Category getTargetCategory() {
+        return targetCategory;
+    }
+
+    /**
+     * Returns the list of dice that should be kept in the next roll.
+     *
+     * @return The list of dice to keep.
+     */
+    public List<Integer> getDiceToKeep() {
+        return diceToKeep;
+    }
+
+    /**
+     * Returns the list of dice that have been kept by the player so far.
+     *
+     * @return The list of kept dice.
+     */
+    public List<Integer> getKeptDice() {
+        return keptDice;
+    }
+
+    /**
+     * Returns the list of dice that were rolled in the current turn.
+     *
+     * @return The list of rolled dice.
+     */
+    public List<Integer> getRolledDice() {
+        return rolledDice;
+    }
+
+    /**
+     * Returns whether the player should stand (not reroll any dice) based on the current strategy.
+     *
+     * @return True if the player should stand, false if the player should reroll.
+     */
+    public boolean getStand() {
+        return stand;
+    }
+
+    /**
+     * Returns the expected score of a category at the end of the turn, once the advised dice are kept and
+     * the others re-kept optimally over the rolls left, counting the hands in which the category is not
+     * valid as zero.
+     *
+     * @param category The category.
+     * @return The expected score, or empty if the category is not open or its score is unknown.
+     */
+    public Optional<Double> getExpectedScore(Category category) {
+        double expectedScore = expectedScores[Util.ALL_CATEGORIES.indexOf(category)];
+        return Double.isNaN(expectedScore) ? Optional.empty() : Optional.of(expectedScore);
+    }
+
+    /**
+     * Returns the probability that a category is valid at the end of the turn, once the advised dice are
+     * kept and the others re-kept optimally over the rolls left.
+     *
+     * @param category The category.
+     * @return The probability, or empty if the category is not open or its odds are unknown.
+     */
+    public Optional<Double> getProbability(Category category) {
+        double probability = probabilities[Util.ALL_CATEGORIES.indexOf(category)];
+        return Double.isNaN(probability) ? Optional.empty() : Optional.of(probability);
+    }
+
+    /**
+     * Returns a string representation of the Help object.
+     *
+     * @return A string representation of the Help object.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Target Category: ").append(targetCategory).append("\n");
+        sb.append("Dice to Keep: ").append(diceToKeep).append("\n");
+        sb.append(stand ? "You should stand" : "You should not stand").append("\n");
+        for (int i = 0; i < expectedScores.length; i++) {
+            if (Double.isNaN(expectedScores[i])) {
+                continue;
+            }
+            sb.append(String.format(Locale.ROOT, "Expected %s: %.1f", Util.ALL_CATEGORIES.get(i), expectedScores[i]));
+            if (!Double.isNaN(probabilities[i])) {
+                sb.append(String.format(Locale.ROOT, " (%.1f%% chance)", 100.0 * probabilities[i]));
+            }
+            sb.append("\n");
+        }
+
+        return sb.toString();
+    }
+
+}
+
+
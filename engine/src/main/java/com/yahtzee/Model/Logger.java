@@ -0,0 +1,69 @@
+package com.yahtzee.Model;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The log of a single game.
+ * Every {@link Tournament} owns its own Logger, which records the messages of that game only.
+ * Like the rest of a game, a Logger is meant to be used by one thread at a time.
+ */
+public class Logger {
+    private final List<String> logs = new ArrayList<>();
+
+    // Whether messages are recorded; headless simulations turn logging off
+    private boolean enabled = true;
+
+    /**
+     * Constructs a new, empty Logger.
+     */
+    public Logger() {
+    }
+
+    /**
+     * Logs a message by adding it to the list of logs.
+     *
+     * @param message The message to be logged.
+     */
+    public void log(String message) {
+        if (enabled) {
+            logs.add(message);
+        }
+    }
+
+    /**
+     * Turns the recording of messages on or off.
+     *
+     * @param enabled True to record messages, false to drop them.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether messages are recorded.
+     *
+     * @return True if messages are recorded, false if they are dropped.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a string representation of all logged messages.
+     * The logs are joined by new lines to represent each log entry.
+     *
+     * @return A string containing all log messages, each on a new line.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (String log : logs) {
+            sb.append(log).append("\n");
+        }
+        return sb.toString();
+    }
+}
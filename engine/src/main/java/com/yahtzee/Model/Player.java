@@ -9,6 +9,9 @@ public class Player {
     private final String name;
     private final boolean isComputer;
 
+    // Strategy of a computer player, or null to use the strategy of the tournament
+    private final AI.Mode aiMode;
+
     /**
      * Constructs a Player instance with the specified name and type (human or computer).
      *
@@ -16,8 +19,20 @@ public class Player {
      * @param isComputer A boolean flag indicating if the player is a computer.
      */
     public Player(String name, boolean isComputer) {
+        this(name, isComputer, null);
+    }
+
+    /**
+     * Constructs a Player instance with its own AI strategy.
+     *
+     * @param name The name of the player.
+     * @param isComputer A boolean flag indicating if the player is a computer.
+     * @param aiMode The strategy the AI uses for this player, or null to use the tournament's.
+     */
+    public Player(String name, boolean isComputer, AI.Mode aiMode) {
         this.name = name;
         this.isComputer = isComputer;
+        this.aiMode = aiMode;
     }
 
     /**
@@ -38,6 +53,15 @@ public class Player {
         return isComputer;
     }
 
+    /**
+     * Returns the AI strategy of the player.
+     *
+     * @return The strategy of the player, or null if the player uses the tournament's strategy.
+     */
+    public AI.Mode getAiMode() {
+        return aiMode;
+    }
+
     /**
      * Returns a string representation of the player, which is their name.
      *
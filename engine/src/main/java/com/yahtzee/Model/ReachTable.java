@@ -0,0 +1,92 @@
+package com.yahtzee.Model;
+
+/**
+ * A precomputed table of what each category can reach from every multiset of kept dice, when the
+ * other dice are rolled once more. The table is built once, the first time it is used, from
+ * {@link ScoreTable} and {@link RollSpace}.
+ * <p>
+ * For each kept multiset and category it stores the highest valid score among the outcomes of the
+ * roll, the first outcome reaching it, and the expected valid score of the roll. Questions about the
+ * categories a keep aims for are then answered without enumerating the outcomes again.
+ */
+public final class ReachTable {
+
+    // Marks a category that is valid in no outcome
+    public static final int UNREACHABLE = -1;
+
+    // Highest valid score of each category for each kept multiset, stored row by row per multiset
+    private static final int[] MAX_SCORES = new int[RollSpace.MULTISET_COUNT * ScoreTable.CATEGORY_COUNT];
+
+    // Position, among the outcomes of the roll, of the first outcome reaching the highest valid score
+    private static final int[] FIRST_MAX_OUTCOMES = new int[RollSpace.MULTISET_COUNT * ScoreTable.CATEGORY_COUNT];
+
+    // Expected valid score of each category for each kept multiset; invalid outcomes score nothing
+    private static final double[] EXPECTED_SCORES = new double[RollSpace.MULTISET_COUNT * ScoreTable.CATEGORY_COUNT];
+
+    static {
+        for (int kept = 0; kept < RollSpace.MULTISET_COUNT; kept++) {
+            int keptCounts = RollSpace.getCounts(kept);
+            int rolled = RollSpace.DICE - DiceCounts.size(keptCounts);
+            int start = RollSpace.getOutcomesStart(rolled);
+            int row = kept * ScoreTable.CATEGORY_COUNT;
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                MAX_SCORES[row + category] = UNREACHABLE;
+            }
+
+            for (int outcome = start; outcome < RollSpace.getOutcomesEnd(rolled); outcome++) {
+                int hand = RollSpace.indexOf(DiceCounts.add(keptCounts, RollSpace.getCounts(outcome)));
+                for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                    if (!ScoreTable.isValid(category, hand)) {
+                        continue;
+                    }
+                    int score = ScoreTable.getScore(category, hand);
+                    EXPECTED_SCORES[row + category] += RollSpace.getProbability(outcome) * score;
+                    if (score > MAX_SCORES[row + category]) {
+                        MAX_SCORES[row + category] = score;
+                        FIRST_MAX_OUTCOMES[row + category] = outcome - start;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ReachTable() {
+    }
+
+    /**
+     * Returns the highest valid score a category can reach from the kept dice.
+     *
+     * @param category The category index.
+     * @param kept     The {@link RollSpace} index of the kept multiset.
+     * @return The highest valid score, or {@link #UNREACHABLE} if no outcome is valid.
+     */
+    public static int getMaxScore(int category, int kept) {
+        return MAX_SCORES[kept * ScoreTable.CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Returns the position of the first outcome, in {@link RollSpace} order, in which a category
+     * reaches its highest valid score from the kept dice.
+     *
+     * @param category The category index.
+     * @param kept     The {@link RollSpace} index of the kept multiset.
+     * @return The position of the outcome from the first outcome of the roll, or 0 if unreachable.
+     */
+    public static int getFirstMaxOutcome(int category, int kept) {
+        return FIRST_MAX_OUTCOMES[kept * ScoreTable.CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Returns the expected valid score of a category after rolling the dice that are not kept.
+     *
+     * @param category The category index.
+     * @param kept     The {@link RollSpace} index of the kept multiset.
+     * @return The expected score, counting invalid outcomes as zero.
+     */
+    public static double getExpectedScore(int category, int kept) {
+        return EXPECTED_SCORES[kept * ScoreTable.CATEGORY_COUNT + category];
+    }
+}
@@ -0,0 +1,200 @@
+package com.yahtzee.Model;
+
+import java.util.Arrays;
+
+/**
+ * The canonical roll space of the Yahtzee game.
+ * Since every category is independent of the order of the dice, all decisions can be made over dice
+ * multisets instead of ordered rolls. This class enumerates every multiset of zero to five dice
+ * (462 in total, of which 252 are complete five-dice hands) and gives each an index and the exact
+ * probability of rolling it.
+ * <p>
+ * Multisets are packed as described in {@link DiceCounts}. Indices are grouped by the number of dice,
+ * and within a group ordered by packed value, so the multisets of a given size occupy one contiguous
+ * range of indices.
+ */
+public final class RollSpace {
+
+    // Number of dice in a complete hand
+    public static final int DICE = 5;
+
+    // Number of multisets of zero to five dice
+    public static final int MULTISET_COUNT = 462;
+
+    // Number of multisets of exactly five dice
+    public static final int HAND_COUNT = 252;
+
+    // Packed multiset at each index
+    private static final int[] MULTISETS = new int[MULTISET_COUNT];
+
+    // Index of the first multiset of each size, plus the total count as the last entry
+    private static final int[] SIZE_OFFSETS = new int[DICE + 2];
+
+    // Probability of rolling the multiset at each index with as many dice as it holds
+    private static final double[] PROBABILITIES = new double[MULTISET_COUNT];
+
+    static {
+        int[] sizeCounts = new int[DICE + 1];
+        int[] all = new int[MULTISET_COUNT];
+        int total = enumerate(1, DICE, DiceCounts.EMPTY, all, 0);
+        if (total != MULTISET_COUNT) {
+            throw new IllegalStateException("Expected " + MULTISET_COUNT + " multisets, found " + total);
+        }
+        for (int counts : all) {
+            sizeCounts[DiceCounts.size(counts)]++;
+        }
+        for (int size = 0; size <= DICE; size++) {
+            SIZE_OFFSETS[size + 1] = SIZE_OFFSETS[size] + sizeCounts[size];
+        }
+
+        int[] next = Arrays.copyOf(SIZE_OFFSETS, DICE + 1);
+        for (int counts : all) {
+            MULTISETS[next[DiceCounts.size(counts)]++] = counts;
+        }
+        for (int size = 0; size <= DICE; size++) {
+            Arrays.sort(MULTISETS, SIZE_OFFSETS[size], SIZE_OFFSETS[size + 1]);
+        }
+
+        for (int index = 0; index < MULTISET_COUNT; index++) {
+            PROBABILITIES[index] = multinomialProbability(MULTISETS[index]);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RollSpace() {
+    }
+
+    /**
+     * Recursively collects every multiset of at most {@code remaining} dice using faces from
+     * {@code face} to 6.
+     *
+     * @param face      The lowest face still to be assigned a count.
+     * @param remaining The number of dice still available.
+     * @param counts    The multiset built so far.
+     * @param out       The array to collect multisets into.
+     * @param position  The next free position in the array.
+     * @return The next free position after collecting.
+     */
+    private static int enumerate(int face, int remaining, int counts, int[] out, int position) {
+        if (face > 6) {
+            out[position] = counts;
+            return position + 1;
+        }
+        for (int count = 0; count <= remaining; count++) {
+            int withFace = counts + (count << (DiceCounts.FACE_BITS * (face - 1)));
+            position = enumerate(face + 1, remaining - count, withFace, out, position);
+        }
+        return position;
+    }
+
+    /**
+     * Calculates the probability of rolling exactly the given multiset with as many dice as it holds.
+     *
+     * @param counts The packed multiset.
+     * @return The multinomial probability of the multiset.
+     */
+    private static double multinomialProbability(int counts) {
+        int size = DiceCounts.size(counts);
+        double permutations = factorial(size);
+        for (int face = 1; face <= 6; face++) {
+            permutations /= factorial(DiceCounts.count(counts, face));
+        }
+        return permutations / Math.pow(6, size);
+    }
+
+    /**
+     * Returns the factorial of a small number.
+     *
+     * @param n The number, at most five.
+     * @return n factorial.
+     */
+    private static int factorial(int n) {
+        int result = 1;
+        for (int i = 2; i <= n; i++) {
+            result *= i;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of a multiset.
+     *
+     * @param counts The packed multiset of at most five dice.
+     * @return The index of the multiset.
+     * @throws IllegalArgumentException If the value is not a multiset of at most five dice.
+     */
+    public static int indexOf(int counts) {
+        int size = DiceCounts.size(counts);
+        if (size <= DICE) {
+            int index = Arrays.binarySearch(MULTISETS, SIZE_OFFSETS[size], SIZE_OFFSETS[size + 1], counts);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("Not a multiset of at most " + DICE + " dice: " + Integer.toOctalString(counts));
+    }
+
+    /**
+     * Returns the index of a five-dice hand among the {@link #HAND_COUNT} hands.
+     *
+     * @param counts The packed multiset of exactly five dice.
+     * @return The hand index, from 0 to {@link #HAND_COUNT} - 1.
+     */
+    public static int handIndexOf(int counts) {
+        return indexOf(counts) - SIZE_OFFSETS[DICE];
+    }
+
+    /**
+     * Returns the multiset at an index.
+     *
+     * @param index The index of the multiset.
+     * @return The packed multiset.
+     */
+    public static int getCounts(int index) {
+        return MULTISETS[index];
+    }
+
+    /**
+     * Returns the five-dice hand at a hand index.
+     *
+     * @param handIndex The hand index, from 0 to {@link #HAND_COUNT} - 1.
+     * @return The packed multiset of the hand.
+     */
+    public static int getHand(int handIndex) {
+        return MULTISETS[SIZE_OFFSETS[DICE] + handIndex];
+    }
+
+    /**
+     * Returns the probability of rolling the multiset at an index with as many dice as it holds.
+     *
+     * @param index The index of the multiset.
+     * @return The probability of the multiset.
+     */
+    public static double getProbability(int index) {
+        return PROBABILITIES[index];
+    }
+
+    /**
+     * Returns the index of the first multiset with the given number of dice. The outcomes of
+     * rolling {@code size} dice are the indices from this value up to, but excluding,
+     * {@link #getOutcomesEnd(int)}, and their probabilities sum to one.
+     *
+     * @param size The number of dice rolled, from 0 to 5.
+     * @return The first index of the outcomes.
+     */
+    public static int getOutcomesStart(int size) {
+        return SIZE_OFFSETS[size];
+    }
+
+    /**
+     * Returns the end (exclusive) of the range of multisets with the given number of dice.
+     *
+     * @param size The number of dice rolled, from 0 to 5.
+     * @return The index after the last outcome.
+     */
+    public static int getOutcomesEnd(int size) {
+        return SIZE_OFFSETS[size + 1];
+    }
+}
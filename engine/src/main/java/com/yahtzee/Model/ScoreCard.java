@@ -0,0 +1,451 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a player's scorecard in a game of Yahtzee.
+ * A ScoreCard tracks the scores for each category and the winner of each round.
+ * <p>
+ * The card is addressed by category index in {@code ALL_CATEGORIES}: the open categories are a
+ * bitmask, and the score, round and owner of each filled category are primitive arrays. The total of
+ * every player is kept up to date as scores are set, so reading the state of the card never scans it.
+ */
+public class ScoreCard {
+
+    // Marks the owner of a category that is not filled
+    private static final int NO_OWNER = -1;
+
+    // Bitmask of the categories not yet filled, by index in ALL_CATEGORIES
+    private int availableMask = ScoreTable.ALL_CATEGORIES_MASK;
+
+    // Score, round and owner slot of each category; meaningful only for filled categories
+    private final int[] scores = new int[ScoreTable.CATEGORY_COUNT];
+    private final int[] rounds = new int[ScoreTable.CATEGORY_COUNT];
+    private final int[] owners = new int[ScoreTable.CATEGORY_COUNT];
+
+    // Players who filled a category, by slot in order of arrival, and the running total of each slot
+    private Player[] slots = new Player[2];
+    private int[] totals = new int[2];
+    private int slotCount;
+
+    // Players in the order of the first category each filled, or null once a score may have reordered
+    // them, in which case the list is rebuilt on the next read
+    private List<Player> players = List.of();
+
+    /**
+     * Default constructor for ScoreCard.
+     */
+    public ScoreCard() {
+        Arrays.fill(owners, NO_OWNER);
+    }
+
+
+    /**
+     * Constructs a ScoreCard from a serialized string.
+     *
+     * @param serial   the serialized string
+     * @param human    the human player
+     * @param computer the computer player
+     * @return the ScoreCard
+     */
+    public static ScoreCard fromString(String serial, Player human, Player computer) {
+        List<String> lines = Arrays.stream(serial.split("\n"))
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+
+        int categoryIndex = 0;
+        ScoreCard scoreCard = new ScoreCard();
+
+        for (String line : lines) {
+            if (line.equals("0")) {
+                categoryIndex++;
+                continue;
+            }
+
+            String[] parts = line.split(" ");
+            if (parts.length != 3) {
+                continue;
+            }
+
+            Category category = ALL_CATEGORIES.get(categoryIndex);
+            int points = Integer.parseInt(parts[0]);
+            Player winner = parts[1].equals("Human") ? human : computer;
+            int round = Integer.parseInt(parts[2]);
+
+            scoreCard.setScore(category, points, round, winner);
+            categoryIndex++;
+        }
+
+        return scoreCard;
+    }
+
+    /**
+     * Returns a string representation of the ScoreCard.
+     *
+     * @return A string that represents the ScoreCard.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Scorecard:\n");
+
+        for (int i = 0; i < ScoreTable.CATEGORY_COUNT; i++) {
+            if (isAvailable(i)) {
+                sb.append("0\n");
+            } else {
+                sb.append(scores[i])
+                        .append(" ")
+                        .append(slots[owners[i]].getName())
+                        .append(" ")
+                        .append(rounds[i])
+                        .append("\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Checks equality of two ScoreCard objects.
+     *
+     * @param obj The object to compare.
+     * @return True if the two ScoreCards are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ScoreCard)) {
+            return false;
+        }
+        ScoreCard other = (ScoreCard) obj;
+        if (availableMask != other.availableMask) {
+            return false;
+        }
+        for (int i = 0; i < ScoreTable.CATEGORY_COUNT; i++) {
+            if (!isAvailable(i) && (scores[i] != other.scores[i] || rounds[i] != other.rounds[i]
+                    || !slots[owners[i]].equals(other.slots[other.owners[i]]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code of the ScoreCard, consistent with {@link #equals(Object)}.
+     *
+     * @return A hash of the filled categories, with their scores, rounds and winners.
+     */
+    @Override
+    public int hashCode() {
+        int hash = availableMask;
+        for (int i = 0; i < ScoreTable.CATEGORY_COUNT; i++) {
+            if (!isAvailable(i)) {
+                hash = 31 * hash + scores[i];
+                hash = 31 * hash + rounds[i];
+                hash = 31 * hash + slots[owners[i]].hashCode();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a list of available categories that are not yet filled in the scorecard.
+     *
+     * @return A list of available categories.
+     */
+    public List<Category> getAvailableCategories() {
+        return toCategories(availableMask);
+    }
+
+    /**
+     * Returns the categories that are not yet filled in the scorecard as a bitmask, without allocating.
+     *
+     * @return A bitmask with the bit of every available category set, by index in {@code ALL_CATEGORIES}.
+     */
+    public int getAvailableMask() {
+        return availableMask;
+    }
+
+    /**
+     * Sets the score for a category in a round.
+     *
+     * @param category The category to set the score for.
+     * @param score    The score to set.
+     * @param round    The round to set the score for.
+     * @param winner   The winner of the round.
+     */
+    public void setScore(Category category, int score, int round, Player winner) {
+        int index = ALL_CATEGORIES.indexOf(category);
+        if (index < 0) {
+            return;
+        }
+        int previousOwner = NO_OWNER;
+        if (!isAvailable(index)) {
+            previousOwner = owners[index];
+            totals[previousOwner] -= scores[index];
+        }
+        int slot = slotOf(winner);
+        if (slot == NO_OWNER) {
+            slot = addSlot(winner);
+            players = null;
+        } else if (previousOwner != NO_OWNER && previousOwner != slot || index < getFirstCategory(slot)) {
+            // The category moves between players or becomes the first of its winner
+            players = null;
+        }
+
+        scores[index] = score;
+        rounds[index] = round;
+        owners[index] = slot;
+        totals[slot] += score;
+        availableMask &= ~(1 << index);
+    }
+
+    /**
+     * Gets the score for a given category.
+     *
+     * @param category The category to retrieve the score for.
+     * @return An Optional containing the score if it exists, or empty if not.
+     */
+    public Optional<Integer> getScore(Category category) {
+        int index = ALL_CATEGORIES.indexOf(category);
+        return index < 0 || isAvailable(index) ? Optional.empty() : Optional.of(scores[index]);
+    }
+
+    /**
+     * Gets the round for a given category.
+     *
+     * @param category The category to retrieve the round for.
+     * @return An Optional containing the round if it exists, or empty if not.
+     */
+    public Optional<Integer> getRound(Category category) {
+        int index = ALL_CATEGORIES.indexOf(category);
+        return index < 0 || isAvailable(index) ? Optional.empty() : Optional.of(rounds[index]);
+    }
+
+    /**
+     * Gets the winner for a given category.
+     *
+     * @param category The category to retrieve the winner for.
+     * @return An Optional containing the winner if it exists, or empty if not.
+     */
+    public Optional<Player> getWinner(Category category) {
+        int index = ALL_CATEGORIES.indexOf(category);
+        return index < 0 || isAvailable(index) ? Optional.empty() : Optional.of(slots[owners[index]]);
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return An Optional containing the winner if the game is complete, or empty if not.
+     */
+    public Optional<Player> getWinner() {
+        if (!isComplete()) return Optional.empty();
+        Player winner = null;
+        for (Player player : getPlayers()) {
+            if (winner == null || getTotalScore(player) > getTotalScore(winner)) {
+                winner = player;
+            }
+        }
+        return Optional.ofNullable(winner);
+    }
+
+    /**
+     * Gets the total score for a given player.
+     *
+     * @param player The player to retrieve the total score for.
+     * @return The total score for the player.
+     */
+    public int getTotalScore(Player player) {
+        int slot = slotOf(player);
+        return slot == NO_OWNER ? 0 : totals[slot];
+    }
+
+    /**
+     * Checks if the scorecard is complete.
+     *
+     * @return True if the scorecard is complete, false otherwise.
+     */
+    public boolean isComplete() {
+        return availableMask == 0;
+    }
+
+    /**
+     * Returns all card entries in the scorecard.
+     * The entries are a snapshot of the card, built on each call; they do not follow later scores.
+     *
+     * @return A list of all card entries.
+     */
+    public List<CardEntry> getEntries() {
+        List<CardEntry> entries = new ArrayList<>(ScoreTable.CATEGORY_COUNT);
+        for (int i = 0; i < ScoreTable.CATEGORY_COUNT; i++) {
+            CardEntry entry = new CardEntry(ALL_CATEGORIES.get(i));
+            if (!isAvailable(i)) {
+                entry.set(scores[i], rounds[i], slots[owners[i]]);
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the card entry for a given category.
+     *
+     * @param keptDice The category to retrieve the card entry for.
+     * @return The card entry for the given category.
+     */
+    public List<Category> getPotentialCategories(List<Integer> keptDice) {
+        if (keptDice.isEmpty()) {
+            return getAvailableCategories();
+        }
+        return getAvailableCategories().stream()
+                .filter(category -> category.isPotential(keptDice))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the available categories that a packed multiset of at most five kept dice could still lead to.
+     *
+     * @param keptCounts The packed multiset of kept dice, see {@link DiceCounts}.
+     * @return A list of potential categories; every available category if no die is kept.
+     */
+    public List<Category> getPotentialCategories(int keptCounts) {
+        return toCategories(getPotentialMask(keptCounts));
+    }
+
+    /**
+     * Returns the available categories that a packed multiset of at most five kept dice could still lead to,
+     * as a bitmask, without allocating.
+     *
+     * @param keptCounts The packed multiset of kept dice, see {@link DiceCounts}.
+     * @return A bitmask of potential categories; every available category if no die is kept.
+     */
+    public int getPotentialMask(int keptCounts) {
+        if (keptCounts == DiceCounts.EMPTY) {
+            return availableMask;
+        }
+        return availableMask & ScoreTable.getPotentialMask(RollSpace.indexOf(keptCounts));
+    }
+
+    /**
+     * Returns the players in the game.
+     *
+     * @return A list of players in the game.
+     */
+    public List<Player> getPlayers() {
+        if (players == null) {
+            players = orderPlayers();
+        }
+        return players;
+    }
+
+    /**
+     * Returns the valid categories for the current roll.
+     *
+     * @param keptDice The dice that are kept.
+     * @return A list of valid categories.
+     */
+    public List<Category> getValidCategories(List<Integer> keptDice) {
+        return getAvailableCategories().stream()
+                .filter(category -> category.isValid(keptDice))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the valid categories for a packed multiset of at most five kept dice.
+     *
+     * @param keptCounts The packed multiset of kept dice, see {@link DiceCounts}.
+     * @return A list of valid categories.
+     */
+    public List<Category> getValidCategories(int keptCounts) {
+        return toCategories(getValidMask(keptCounts));
+    }
+
+    /**
+     * Returns the valid categories for a packed multiset of at most five kept dice as a bitmask,
+     * without allocating.
+     *
+     * @param keptCounts The packed multiset of kept dice, see {@link DiceCounts}.
+     * @return A bitmask of valid categories.
+     */
+    public int getValidMask(int keptCounts) {
+        return availableMask & ScoreTable.getValidMask(RollSpace.indexOf(keptCounts));
+    }
+
+    /**
+     * Returns whether the category at an index is not yet filled.
+     */
+    private boolean isAvailable(int index) {
+        return (availableMask & (1 << index)) != 0;
+    }
+
+    /**
+     * Returns the slot of a player, or {@link #NO_OWNER} if the player has filled no category.
+     */
+    private int slotOf(Player player) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot].equals(player)) {
+                return slot;
+            }
+        }
+        return NO_OWNER;
+    }
+
+    /**
+     * Returns the index of the first category filled by the player of a slot, or the number of
+     * categories if the player has none left.
+     */
+    private int getFirstCategory(int slot) {
+        for (int i = 0; i < ScoreTable.CATEGORY_COUNT; i++) {
+            if (!isAvailable(i) && owners[i] == slot) {
+                return i;
+            }
+        }
+        return ScoreTable.CATEGORY_COUNT;
+    }
+
+    /**
+     * Gives a new player the next slot, growing the slots if a card is shared by more than two players.
+     */
+    private int addSlot(Player player) {
+        if (slotCount == slots.length) {
+            slots = Arrays.copyOf(slots, slotCount * 2);
+            totals = Arrays.copyOf(totals, slotCount * 2);
+        }
+        slots[slotCount] = player;
+        return slotCount++;
+    }
+
+    /**
+     * Returns the players who filled a category, in the order of the first category each filled.
+     */
+    private List<Player> orderPlayers() {
+        List<Player> ordered = new ArrayList<>(slotCount);
+        for (int i = 0; i < ScoreTable.CATEGORY_COUNT && ordered.size() < slotCount; i++) {
+            if (!isAvailable(i) && !ordered.contains(slots[owners[i]])) {
+                ordered.add(slots[owners[i]]);
+            }
+        }
+        return Collections.unmodifiableList(ordered);
+    }
+
+    /**
+     * Returns the categories of a bitmask in scorecard order.
+     */
+    private static List<Category> toCategories(int mask) {
+        List<Category> categories = new ArrayList<>(Integer.bitCount(mask));
+        for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            categories.add(ALL_CATEGORIES.get(Integer.numberOfTrailingZeros(remaining)));
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,284 @@
+package com.yahtzee.Model;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Scores of a batch of rolls against every category, stored as a struct of arrays: one column of scores
+ * per category, plus a column of valid-category bitmasks, with one row per roll.
+ * <p>
+ * Rolls are packed multisets of at most five dice, see {@link DiceCounts}. Scoring a batch takes two
+ * kinds of passes. The first maps every roll to its {@link RollSpace} index through a lookup table keyed
+ * by its face counts read as a base-6 number, with no branch per roll. Then each column is filled by one
+ * tight loop reading a per-category column of the {@link ScoreTable}. Malformed rolls are not checked one
+ * by one: their flags are accumulated during the first pass and reported once it is over.
+ * <p>
+ * A matrix is reused from batch to batch; it is not thread-safe, except that a single call to
+ * {@link #scoreParallel(int[], int, int)} splits its batch across threads.
+ */
+public final class ScoreMatrix {
+
+    // Number of rows scored together by one thread of a parallel batch
+    public static final int PARALLEL_CHUNK = 1 << 14;
+
+    // Bits of the six face counts of a packed multiset
+    private static final int FACES_BITS = 6 * DiceCounts.FACE_BITS;
+    private static final int FACES_MASK = (1 << FACES_BITS) - 1;
+
+    // Lowest bit of each face count of a packed multiset
+    private static final int FACE_LOW_BITS = 0b001_001_001_001_001_001;
+
+    // RollSpace index by base-6 key, or -1 if the counts add up to more than five dice; malformed counts
+    // of 6 or 7 get keys up to that of all counts at 7, which stay in bounds and are rejected separately
+    private static final int[] INDICES = new int[keyOf(FACES_MASK) + 1];
+
+    // Score of each category by RollSpace index, one column per category
+    private static final int[][] SCORE_COLUMNS = new int[ScoreTable.CATEGORY_COUNT][RollSpace.MULTISET_COUNT];
+
+    // Bitmask of the valid categories by RollSpace index
+    private static final int[] VALID_MASKS = new int[RollSpace.MULTISET_COUNT];
+
+    static {
+        Arrays.fill(INDICES, -1);
+        for (int multiset = 0; multiset < RollSpace.MULTISET_COUNT; multiset++) {
+            INDICES[keyOf(RollSpace.getCounts(multiset))] = multiset;
+            VALID_MASKS[multiset] = ScoreTable.getValidMask(multiset);
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                SCORE_COLUMNS[category][multiset] = ScoreTable.getScore(category, multiset);
+            }
+        }
+    }
+
+    // Score of each category by row, one column per category
+    private final int[][] scores;
+
+    // Bitmask of the valid categories by row
+    private final int[] validMasks;
+
+    // RollSpace index of the roll of each row
+    private final int[] indices;
+
+    private int size;
+
+    /**
+     * Constructs an empty matrix.
+     *
+     * @param capacity The largest number of rolls scored in one batch.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    public ScoreMatrix(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        scores = new int[ScoreTable.CATEGORY_COUNT][capacity];
+        validMasks = new int[capacity];
+        indices = new int[capacity];
+    }
+
+    /**
+     * Scores a batch of rolls, replacing the previous batch. Row {@code i} holds roll {@code from + i}.
+     *
+     * @param rolls The packed rolls.
+     * @param from  The index of the first roll of the batch.
+     * @param to    The index after the last roll of the batch.
+     * @throws IllegalArgumentException If the batch does not fit, or a roll is not a multiset of at most
+     *                                  five dice; the rows are then unspecified.
+     */
+    public void score(int[] rolls, int from, int to) {
+        startBatch(from, to, rolls.length);
+        scoreRows(rolls, from, 0, to - from);
+    }
+
+    /**
+     * Scores the rolls of a buffer from its position to its limit, replacing the previous batch. The
+     * position of the buffer is left unchanged.
+     *
+     * @param rolls The packed rolls.
+     * @throws IllegalArgumentException If the batch does not fit, or a roll is not a multiset of at most
+     *                                  five dice; the rows are then unspecified.
+     */
+    public void score(IntBuffer rolls) {
+        if (rolls.hasArray()) {
+            score(rolls.array(), rolls.arrayOffset() + rolls.position(), rolls.arrayOffset() + rolls.limit());
+            return;
+        }
+        startBatch(rolls.position(), rolls.limit(), rolls.limit());
+        int invalid = 0;
+        for (int row = 0; row < size; row++) {
+            int counts = rolls.get(rolls.position() + row);
+            invalid |= index(counts, row);
+        }
+        checkRows(invalid, row -> rolls.get(rolls.position() + row), 0, size);
+        fillColumns(0, size);
+    }
+
+    /**
+     * Scores a batch of rolls like {@link #score(int[], int, int)}, splitting it into chunks of
+     * {@link #PARALLEL_CHUNK} rows scored in parallel.
+     *
+     * @param rolls The packed rolls.
+     * @param from  The index of the first roll of the batch.
+     * @param to    The index after the last roll of the batch.
+     * @throws IllegalArgumentException If the batch does not fit, or a roll is not a multiset of at most
+     *                                  five dice; the rows are then unspecified.
+     */
+    public void scoreParallel(int[] rolls, int from, int to) {
+        startBatch(from, to, rolls.length);
+        int chunkCount = (size + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(chunk -> {
+                    int start = chunk * PARALLEL_CHUNK;
+                    scoreRows(rolls, from + start, start, Math.min(size, start + PARALLEL_CHUNK));
+                });
+    }
+
+    /**
+     * Returns the number of rows of the current batch.
+     *
+     * @return The number of rolls scored by the last batch.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return validMasks.length;
+    }
+
+    /**
+     * Returns the column of scores of a category. The column is the matrix's own array, as long as the
+     * capacity, of which the first {@link #size()} entries are the rows of the current batch.
+     *
+     * @param category The index of the category in {@link com.yahtzee.Model.Categories.Util#ALL_CATEGORIES}.
+     * @return The column of scores, which must not be modified.
+     */
+    public int[] getScores(int category) {
+        return scores[category];
+    }
+
+    /**
+     * Returns the column of valid-category bitmasks, the matrix's own array like {@link #getScores(int)}.
+     *
+     * @return The column of bitmasks, which must not be modified.
+     */
+    public int[] getValidMasks() {
+        return validMasks;
+    }
+
+    /**
+     * Returns the score of a row for a category, as returned by {@link Category#calculateScore(int)}.
+     *
+     * @param category The index of the category.
+     * @param row      The row.
+     * @return The score.
+     */
+    public int getScore(int category, int row) {
+        checkRow(row);
+        return scores[category][row];
+    }
+
+    /**
+     * Returns the bitmask of the categories a row is valid for.
+     *
+     * @param row The row.
+     * @return A bitmask with one bit per valid category.
+     */
+    public int getValidMask(int row) {
+        checkRow(row);
+        return validMasks[row];
+    }
+
+    /**
+     * Checks that a batch fits and makes it the current batch.
+     */
+    private void startBatch(int from, int to, int length) {
+        if (from < 0 || to < from || to > length) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ") of " + length + " rolls");
+        }
+        if (to - from > getCapacity()) {
+            throw new IllegalArgumentException("Batch of " + (to - from) + " rolls exceeds the capacity " + getCapacity());
+        }
+        size = to - from;
+    }
+
+    /**
+     * Scores the rows from {@code start} to {@code end}, reading their rolls from {@code first} on.
+     */
+    private void scoreRows(int[] rolls, int first, int start, int end) {
+        int invalid = 0;
+        for (int row = start; row < end; row++) {
+            invalid |= index(rolls[first - start + row], row);
+        }
+        checkRows(invalid, row -> rolls[first - start + row], start, end);
+        fillColumns(start, end);
+    }
+
+    /**
+     * Stores the RollSpace index of the roll of a row.
+     *
+     * @return A negative value if the roll is malformed, zero otherwise.
+     */
+    private int index(int counts, int row) {
+        // A face count of 6 or 7 has its two high bits set, and no bit may be set above the six faces
+        int overflow = (counts >>> 1) & (counts >>> 2) & FACE_LOW_BITS | counts >>> FACES_BITS;
+        int index = INDICES[keyOf(counts & FACES_MASK)];
+        indices[row] = index;
+        return (index | -overflow) >> 31;
+    }
+
+    /**
+     * Fills every column of the rows from {@code start} to {@code end} from their RollSpace indices.
+     */
+    private void fillColumns(int start, int end) {
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            int[] column = SCORE_COLUMNS[category];
+            int[] out = scores[category];
+            for (int row = start; row < end; row++) {
+                out[row] = column[indices[row]];
+            }
+        }
+        for (int row = start; row < end; row++) {
+            validMasks[row] = VALID_MASKS[indices[row]];
+        }
+    }
+
+    /**
+     * Reports the first malformed roll of the rows from {@code start} to {@code end}, if any was flagged.
+     */
+    private void checkRows(int invalid, IntUnaryOperator rollOf, int start, int end) {
+        if (invalid == 0) {
+            return;
+        }
+        for (int row = start; row < end; row++) {
+            int counts = rollOf.applyAsInt(row);
+            if (counts >>> FACES_BITS != 0 || ((counts >>> 1) & (counts >>> 2) & FACE_LOW_BITS) != 0
+                    || DiceCounts.size(counts) > RollSpace.DICE) {
+                throw new IllegalArgumentException("Not a multiset of at most " + RollSpace.DICE + " dice at row " + row
+                        + ": " + Integer.toOctalString(counts));
+            }
+        }
+    }
+
+    /**
+     * Checks that a row belongs to the current batch.
+     */
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range " + size);
+        }
+    }
+
+    /**
+     * Returns the base-6 key of the face counts of a packed multiset, each count being at most five.
+     */
+    private static int keyOf(int counts) {
+        int key = 0;
+        for (int face = 6; face >= 1; face--) {
+            key = key * 6 + (counts >>> (DiceCounts.FACE_BITS * (face - 1)) & DiceCounts.FACE_MASK);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,141 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+
+import java.util.List;
+
+/**
+ * A precomputed lookup table of category scores for every canonical dice multiset.
+ * The table is built once, the first time it is used, by running each category in
+ * {@link com.yahtzee.Model.Categories.Util#ALL_CATEGORIES} over every multiset of {@link RollSpace}.
+ * Afterwards, scoring a multiset against a category is a single array read.
+ * <p>
+ * Categories are addressed by their position in {@code ALL_CATEGORIES} and multisets by their
+ * {@link RollSpace} index. Validity and potential are stored as bitmasks with one bit per category.
+ */
+public final class ScoreTable {
+
+    // Number of categories in the table
+    public static final int CATEGORY_COUNT = ALL_CATEGORIES.size();
+
+    // Bitmask with one bit set for every category
+    public static final int ALL_CATEGORIES_MASK = (1 << CATEGORY_COUNT) - 1;
+
+    // Score of each category for each multiset, stored row by row per multiset
+    private static final int[] SCORES = new int[RollSpace.MULTISET_COUNT * CATEGORY_COUNT];
+
+    // Bitmask of the categories that are valid for each multiset
+    private static final int[] VALID = new int[RollSpace.MULTISET_COUNT];
+
+    // Bitmask of the categories that are potential for each multiset
+    private static final int[] POTENTIAL = new int[RollSpace.MULTISET_COUNT];
+
+    static {
+        for (int index = 0; index < RollSpace.MULTISET_COUNT; index++) {
+            List<Integer> dice = DiceCounts.toList(RollSpace.getCounts(index));
+            for (int category = 0; category < CATEGORY_COUNT; category++) {
+                Category c = ALL_CATEGORIES.get(category);
+                SCORES[index * CATEGORY_COUNT + category] = c.calculateScore(dice);
+                if (c.isValid(dice)) {
+                    VALID[index] |= 1 << category;
+                }
+                if (c.isPotential(dice)) {
+                    POTENTIAL[index] |= 1 << category;
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ScoreTable() {
+    }
+
+    /**
+     * Returns the index of a category in the table.
+     *
+     * @param category The category.
+     * @return The position of the category in {@code ALL_CATEGORIES}.
+     * @throws IllegalArgumentException If the category is not one of {@code ALL_CATEGORIES}.
+     */
+    public static int indexOf(Category category) {
+        int index = ALL_CATEGORIES.indexOf(category);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown category: " + category);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the bitmask of a list of categories.
+     *
+     * @param categories The categories.
+     * @return A bitmask with the bit of every listed category set.
+     */
+    public static int maskOf(List<Category> categories) {
+        int mask = 0;
+        for (Category category : categories) {
+            mask |= 1 << indexOf(category);
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the score of a multiset for a category.
+     *
+     * @param category The category index.
+     * @param multiset The {@link RollSpace} index of the multiset.
+     * @return The score, as returned by {@link Category#calculateScore(List)}.
+     */
+    public static int getScore(int category, int multiset) {
+        return SCORES[multiset * CATEGORY_COUNT + category];
+    }
+
+    /**
+     * Returns whether a multiset is valid for a category.
+     *
+     * @param category The category index.
+     * @param multiset The {@link RollSpace} index of the multiset.
+     * @return The result of {@link Category#isValid(List)}.
+     */
+    public static boolean isValid(int category, int multiset) {
+        return (VALID[multiset] & (1 << category)) != 0;
+    }
+
+    /**
+     * Returns the bitmask of the categories a multiset is valid for.
+     *
+     * @param multiset The {@link RollSpace} index of the multiset.
+     * @return A bitmask with one bit per valid category.
+     */
+    public static int getValidMask(int multiset) {
+        return VALID[multiset];
+    }
+
+    /**
+     * Returns the bitmask of the categories a multiset is a potential match for.
+     *
+     * @param multiset The {@link RollSpace} index of the multiset.
+     * @return A bitmask with one bit per potential category.
+     */
+    public static int getPotentialMask(int multiset) {
+        return POTENTIAL[multiset];
+    }
+
+    /**
+     * Returns the highest score of a multiset across the categories of a bitmask.
+     *
+     * @param categories The bitmask of categories to consider.
+     * @param multiset   The {@link RollSpace} index of the multiset.
+     * @return The highest score, or 0 if the bitmask is empty.
+     */
+    public static int getMaxScore(int categories, int multiset) {
+        int maxScore = 0;
+        int row = multiset * CATEGORY_COUNT;
+        for (int remaining = categories; remaining != 0; remaining &= remaining - 1) {
+            maxScore = Math.max(maxScore, SCORES[row + Integer.numberOfTrailingZeros(remaining)]);
+        }
+        return maxScore;
+    }
+}
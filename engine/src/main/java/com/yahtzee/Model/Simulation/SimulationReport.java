@@ -0,0 +1,213 @@
+package com.yahtzee.Model.Simulation;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * The results of a batch of simulated games between two players: how many games each player won, the
+ * distribution of their final scores and how fast the games were played.
+ * <p>
+ * A report is filled game by game and reports of disjoint batches can be merged, so each thread of a
+ * simulation can fill its own report.
+ */
+public final class SimulationReport {
+
+    // Number of score buckets in each histogram
+    public static final int BUCKET_COUNT = 40;
+
+    // Width of a score bucket; the last bucket also holds every higher score
+    public static final int BUCKET_WIDTH = 10;
+
+    private final String[] names;
+    private final long[] wins = new long[2];
+    private final long[] scoreSums = new long[2];
+    private final long[] squaredScoreSums = new long[2];
+    private final int[] minScores = {Integer.MAX_VALUE, Integer.MAX_VALUE};
+    private final int[] maxScores = {Integer.MIN_VALUE, Integer.MIN_VALUE};
+    private final long[][] histograms = new long[2][BUCKET_COUNT];
+    private long games;
+    private long ties;
+    private long elapsedNanos;
+
+    /**
+     * Constructs an empty report.
+     *
+     * @param firstName  The name of the first player.
+     * @param secondName The name of the second player.
+     */
+    public SimulationReport(String firstName, String secondName) {
+        names = new String[]{firstName, secondName};
+    }
+
+    /**
+     * Records the result of a game.
+     *
+     * @param firstScore  The final score of the first player.
+     * @param secondScore The final score of the second player.
+     */
+    public void addGame(int firstScore, int secondScore) {
+        games++;
+        if (firstScore > secondScore) {
+            wins[0]++;
+        } else if (secondScore > firstScore) {
+            wins[1]++;
+        } else {
+            ties++;
+        }
+        addScore(0, firstScore);
+        addScore(1, secondScore);
+    }
+
+    /**
+     * Records a final score of a player.
+     */
+    private void addScore(int player, int score) {
+        scoreSums[player] += score;
+        squaredScoreSums[player] += (long) score * score;
+        minScores[player] = Math.min(minScores[player], score);
+        maxScores[player] = Math.max(maxScores[player], score);
+        histograms[player][Math.min(score / BUCKET_WIDTH, BUCKET_COUNT - 1)]++;
+    }
+
+    /**
+     * Adds the results of another report, covering a disjoint batch of games, to this report.
+     *
+     * @param other The report to merge into this one.
+     */
+    public void merge(SimulationReport other) {
+        games += other.games;
+        ties += other.ties;
+        for (int player = 0; player < 2; player++) {
+            wins[player] += other.wins[player];
+            scoreSums[player] += other.scoreSums[player];
+            squaredScoreSums[player] += other.squaredScoreSums[player];
+            minScores[player] = Math.min(minScores[player], other.minScores[player]);
+            maxScores[player] = Math.max(maxScores[player], other.maxScores[player]);
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                histograms[player][bucket] += other.histograms[player][bucket];
+            }
+        }
+    }
+
+    /**
+     * Sets the wall-clock time the simulation took.
+     *
+     * @param elapsedNanos The elapsed time in nanoseconds.
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getTies() {
+        return ties;
+    }
+
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    public String getName(int player) {
+        return names[player];
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the share of games won by a player.
+     *
+     * @param player The index of the player, 0 or 1.
+     * @return The win rate, between 0 and 1.
+     */
+    public double getWinRate(int player) {
+        return games == 0 ? 0.0 : (double) wins[player] / games;
+    }
+
+    /**
+     * Returns the mean final score of a player.
+     *
+     * @param player The index of the player, 0 or 1.
+     * @return The mean score.
+     */
+    public double getMeanScore(int player) {
+        return games == 0 ? 0.0 : (double) scoreSums[player] / games;
+    }
+
+    /**
+     * Returns the standard deviation of the final scores of a player.
+     *
+     * @param player The index of the player, 0 or 1.
+     * @return The standard deviation of the scores.
+     */
+    public double getScoreDeviation(int player) {
+        if (games == 0) {
+            return 0.0;
+        }
+        double mean = getMeanScore(player);
+        return Math.sqrt(Math.max(0.0, (double) squaredScoreSums[player] / games - mean * mean));
+    }
+
+    public int getMinScore(int player) {
+        return minScores[player];
+    }
+
+    public int getMaxScore(int player) {
+        return maxScores[player];
+    }
+
+    /**
+     * Returns the number of games in which a player's final score fell in a bucket.
+     *
+     * @param player The index of the player, 0 or 1.
+     * @param bucket The bucket, covering scores from {@code bucket * BUCKET_WIDTH}.
+     * @return The number of games.
+     */
+    public long getHistogramCount(int player, int bucket) {
+        return histograms[player][bucket];
+    }
+
+    /**
+     * Returns the number of games played per second of wall-clock time.
+     *
+     * @return The throughput of the simulation.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns a human-readable summary of the report.
+     *
+     * @return The summary, with one line per statistic and a score histogram per player.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Games: %d in %.2f s (%.1f games/s)%n",
+                games, elapsedNanos / 1e9, getGamesPerSecond()));
+        sb.append(String.format(Locale.ROOT, "Ties: %d (%.2f%%)%n", ties, games == 0 ? 0.0 : 100.0 * ties / games));
+        for (int player = 0; player < 2; player++) {
+            sb.append(String.format(Locale.ROOT, "%s: %d wins (%.2f%%), score %.2f +/- %.2f, min %d, max %d%n",
+                    names[player], wins[player], 100.0 * getWinRate(player), getMeanScore(player),
+                    getScoreDeviation(player), minScores[player], maxScores[player]));
+        }
+        for (int player = 0; player < 2; player++) {
+            sb.append(names[player]).append(" scores:\n");
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                if (histograms[player][bucket] > 0) {
+                    sb.append(String.format(Locale.ROOT, "  %3d-%-3s %d%n", bucket * BUCKET_WIDTH,
+                            bucket == BUCKET_COUNT - 1 ? "" : String.valueOf((bucket + 1) * BUCKET_WIDTH - 1),
+                            histograms[player][bucket]));
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
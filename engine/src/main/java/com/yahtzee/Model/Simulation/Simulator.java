@@ -0,0 +1,166 @@
+package com.yahtzee.Model.Simulation;
+
+import com.yahtzee.Model.AI;
+import com.yahtzee.Model.Dice.DiceSource;
+import com.yahtzee.Model.Dice.SplittableDiceSource;
+import com.yahtzee.Model.Player;
+import com.yahtzee.Model.Tournament;
+import com.yahtzee.Model.Solver.ExpectimaxSearch;
+import com.yahtzee.Model.Solver.MonteCarloSearch;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * A headless runner for computer-versus-computer games.
+ * <p>
+ * Every game is a standalone {@link Tournament} between two computer players, played turn by turn
+ * exactly as the game screen does: the dice are rolled, then {@link Tournament#confirmComputerRoll()}
+ * lets the {@link AI} decide. Ties for the first move of a round are broken by a die roll, like the
+ * tie breaker screen. Games are spread over a pool of threads and the results collected into a
+ * {@link SimulationReport}.
+ * <p>
+ * Each game rolls from its own {@link SplittableDiceSource}, seeded from the simulation seed and the
+ * game number, so with the HEURISTIC and OPTIMAL strategies a simulation gives the same results for the
+ * same seed whatever the number of threads. The search strategies stop on a time budget and are not reproducible.
+ * <p>
+ * A simulator owns its pool of threads, which {@link #close()} shuts down.
+ */
+public final class Simulator implements AutoCloseable {
+
+    // Default time budget of the search strategies for each decision, in milliseconds: the least with
+    // which MONTE_CARLO plays sensibly
+    public static final long DEFAULT_SEARCH_BUDGET_MILLIS = MonteCarloSearch.MIN_USEFUL_TIME_BUDGET_MILLIS;
+
+    // Multiplier spreading game numbers over the seed space
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private final AI.Mode firstMode;
+    private final AI.Mode secondMode;
+    private final ForkJoinPool pool;
+    private final long searchBudgetMillis;
+
+    // Searches of each thread, created on first use; every search decides on one thread only
+    private final ThreadLocal<ExpectimaxSearch> searches;
+    private final ThreadLocal<MonteCarloSearch> monteCarloSearches;
+
+    /**
+     * Constructs a simulator using all available processors and the default search budget.
+     *
+     * @param firstMode  The strategy of the first player.
+     * @param secondMode The strategy of the second player.
+     */
+    public Simulator(AI.Mode firstMode, AI.Mode secondMode) {
+        this(firstMode, secondMode, Runtime.getRuntime().availableProcessors(), DEFAULT_SEARCH_BUDGET_MILLIS);
+    }
+
+    /**
+     * Constructs a simulator.
+     *
+     * @param firstMode          The strategy of the first player.
+     * @param secondMode         The strategy of the second player.
+     * @param threads            The number of threads to play games on.
+     * @param searchBudgetMillis The time budget of the search strategies for each decision.
+     */
+    public Simulator(AI.Mode firstMode, AI.Mode secondMode, int threads, long searchBudgetMillis) {
+        this.firstMode = firstMode;
+        this.secondMode = secondMode;
+        this.pool = new ForkJoinPool(threads);
+        this.searchBudgetMillis = searchBudgetMillis;
+        this.searches = ThreadLocal.withInitial(() -> new ExpectimaxSearch(searchBudgetMillis, pool));
+        this.monteCarloSearches = ThreadLocal.withInitial(
+                () -> new MonteCarloSearch(searchBudgetMillis, 1, pool, new SplittableRandom().nextLong()));
+    }
+
+    /**
+     * Returns the time budget of the search strategies.
+     *
+     * @return The time budget for each decision, in milliseconds.
+     */
+    public long getSearchBudgetMillis() {
+        return searchBudgetMillis;
+    }
+
+    /**
+     * Plays a batch of games. The games are not logged.
+     *
+     * @param seed  The seed of the simulation.
+     * @param games The number of games to play.
+     * @return The report of the games.
+     * @throws java.util.concurrent.RejectedExecutionException If the simulator is closed.
+     */
+    public SimulationReport run(long seed, long games) {
+        String firstName = "Computer 1 (" + firstMode + ")";
+        String secondName = "Computer 2 (" + secondMode + ")";
+
+        long start = System.nanoTime();
+        try {
+            SimulationReport report = pool.submit(() -> LongStream.range(0, games).parallel().collect(
+                    () -> new SimulationReport(firstName, secondName),
+                    (partial, game) -> playGame(seed + game * SEED_STRIDE, partial),
+                    SimulationReport::merge)).get();
+            report.setElapsedNanos(System.nanoTime() - start);
+            return report;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        }
+    }
+
+    /**
+     * Shuts down the threads of the simulator once the running batch, if any, is over. No batch can be
+     * played afterwards.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays a single game and records its result.
+     *
+     * @param seed   The seed of the game.
+     * @param report The report to record the result in.
+     */
+    private void playGame(long seed, SimulationReport report) {
+        DiceSource source = new SplittableDiceSource(seed);
+        Player first = new Player("Computer 1", true, firstMode);
+        Player second = new Player("Computer 2", true, secondMode);
+        Tournament tournament = new Tournament(first, second, source);
+        tournament.getLogger().setEnabled(false);
+        tournament.setSearch(searches.get());
+        tournament.setMonteCarloSearch(monteCarloSearches.get());
+
+        while (!tournament.isOver()) {
+            if (tournament.getCurrentPlayer() == null) {
+                breakTie(tournament, first, second, source);
+            }
+            tournament.getDiceRoll().roll();
+            tournament.confirmComputerRoll();
+        }
+
+        report.addGame(tournament.getScoreCard().getTotalScore(first), tournament.getScoreCard().getTotalScore(second));
+    }
+
+    /**
+     * Decides who moves first in a tied round by rolling a die for each player until they differ.
+     */
+    private static void breakTie(Tournament tournament, Player first, Player second, DiceSource source) {
+        int firstDie;
+        int secondDie;
+        do {
+            firstDie = source.roll();
+            secondDie = source.roll();
+        } while (firstDie == secondDie);
+
+        if (firstDie > secondDie) {
+            tournament.setPlayerOrder(first, second);
+        } else {
+            tournament.setPlayerOrder(second, first);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.yahtzee.Model.Solver;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+import com.yahtzee.Model.TransitionTable;
+
+/**
+ * The odds of each category over the rest of a turn, when the dice are re-kept optimally between rolls.
+ * <p>
+ * For every category, two objectives are solved: the probability of ending the turn with the category
+ * valid, and the expected valid score of the category, counting an invalid hand as zero. Each objective
+ * is a single-category turn evaluated by a {@link TurnEvaluator}, whose keep values are kept in tables
+ * by category, rolls left and {@link RollSpace} index of the kept dice. A keep from which the category
+ * can no longer be reached is worth zero.
+ * <p>
+ * The tables are built once, on first use, and are immutable afterwards, so a query is a table lookup
+ * for a keep, or a maximum over the at most 31 ways to continue after a roll.
+ */
+public final class CategoryOdds {
+
+    // Most rolls a turn has left, before its first roll
+    public static final int MAX_ROLLS_LEFT = 3;
+
+    // Objectives solved for each category
+    private static final int PROBABILITY = 0;
+    private static final int EXPECTED_SCORE = 1;
+    private static final int OBJECTIVE_COUNT = 2;
+
+    // Value of standing with each five-dice hand, by objective, category and hand index
+    private final double[][][] handValues = new double[OBJECTIVE_COUNT][ScoreTable.CATEGORY_COUNT][RollSpace.HAND_COUNT];
+
+    // Value of each keep of at most four dice, by objective, category, rolls left minus one and keep index
+    private final double[][][][] keepValues =
+            new double[OBJECTIVE_COUNT][ScoreTable.CATEGORY_COUNT][MAX_ROLLS_LEFT - 1][TurnEvaluator.KEEP_COUNT];
+
+    // Value of a whole turn, before its first roll, by objective and category
+    private final double[][] turnValues = new double[OBJECTIVE_COUNT][ScoreTable.CATEGORY_COUNT];
+
+    /**
+     * Private constructor for the CategoryOdds class. It evaluates a turn for each category and objective.
+     */
+    private CategoryOdds() {
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            int multiset = RollSpace.indexOf(RollSpace.getHand(hand));
+            for (int valid = ScoreTable.getValidMask(multiset); valid != 0; valid &= valid - 1) {
+                int category = Integer.numberOfTrailingZeros(valid);
+                handValues[PROBABILITY][category][hand] = 1.0;
+                handValues[EXPECTED_SCORE][category][hand] = ScoreTable.getScore(category, multiset);
+            }
+        }
+
+        TurnEvaluator evaluator = new TurnEvaluator();
+        for (int objective = 0; objective < OBJECTIVE_COUNT; objective++) {
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                turnValues[objective][category] = evaluator.evaluate(1 << category, handValues[objective][category], null, 0.0);
+                for (int keep = 0; keep < TurnEvaluator.KEEP_COUNT; keep++) {
+                    keepValues[objective][category][0][keep] = evaluator.getKeepValue(3, keep);
+                    keepValues[objective][category][1][keep] = evaluator.getKeepValue(2, keep);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the singleton instance of the CategoryOdds class, building the tables on first use.
+     *
+     * @return the singleton instance of the CategoryOdds
+     */
+    public static CategoryOdds getInstance() {
+        return CategoryOddsHolder.INSTANCE;
+    }
+
+    /**
+     * Private static inner class to hold the singleton instance of the CategoryOdds class.
+     */
+    private static class CategoryOddsHolder {
+        private static final CategoryOdds INSTANCE = new CategoryOdds();
+    }
+
+    /**
+     * Returns the probability of ending the turn with a category valid, after a roll.
+     *
+     * @param category  The index of the category.
+     * @param kept      The packed multiset of the dice kept before the roll.
+     * @param rolled    The packed multiset of the rolled dice, which make five dice with the kept ones.
+     * @param rollsLeft The number of rolls left in the turn, from 0 to 2.
+     * @return The probability under the re-keeping that maximizes it.
+     */
+    public double getProbability(int category, int kept, int rolled, int rollsLeft) {
+        return getRollValue(PROBABILITY, category, kept, rolled, rollsLeft);
+    }
+
+    /**
+     * Returns the expected score of a category at the end of the turn, after a roll.
+     *
+     * @param category  The index of the category.
+     * @param kept      The packed multiset of the dice kept before the roll.
+     * @param rolled    The packed multiset of the rolled dice, which make five dice with the kept ones.
+     * @param rollsLeft The number of rolls left in the turn, from 0 to 2.
+     * @return The expected score under the re-keeping that maximizes it, counting invalid hands as zero.
+     */
+    public double getExpectedScore(int category, int kept, int rolled, int rollsLeft) {
+        return getRollValue(EXPECTED_SCORE, category, kept, rolled, rollsLeft);
+    }
+
+    /**
+     * Returns the probability of ending the turn with a category valid, after keeping some dice.
+     *
+     * @param category  The index of the category.
+     * @param kept      The packed multiset of all the kept dice.
+     * @param rollsLeft The number of rolls left in the turn, from 1 to 2, or 3 if no dice are kept.
+     * @return The probability under the re-keeping that maximizes it.
+     */
+    public double getProbability(int category, int kept, int rollsLeft) {
+        return getKeepValue(PROBABILITY, category, kept, rollsLeft);
+    }
+
+    /**
+     * Returns the expected score of a category at the end of the turn, after keeping some dice.
+     *
+     * @param category  The index of the category.
+     * @param kept      The packed multiset of all the kept dice.
+     * @param rollsLeft The number of rolls left in the turn, from 1 to 2, or 3 if no dice are kept.
+     * @return The expected score under the re-keeping that maximizes it, counting invalid hands as zero.
+     */
+    public double getExpectedScore(int category, int kept, int rollsLeft) {
+        return getKeepValue(EXPECTED_SCORE, category, kept, rollsLeft);
+    }
+
+    /**
+     * Returns the value of an objective after keeping some dice and before rolling the others.
+     * Five kept dice are stood on, whatever the rolls left.
+     */
+    private double getKeepValue(int objective, int category, int kept, int rollsLeft) {
+        checkCategory(category);
+        int keep = RollSpace.indexOf(kept);
+        if (DiceCounts.size(kept) == RollSpace.DICE) {
+            return handValues[objective][category][RollSpace.handIndexOf(kept)];
+        }
+        if (rollsLeft == MAX_ROLLS_LEFT && keep == 0) {
+            return turnValues[objective][category];
+        }
+        if (rollsLeft < 1 || rollsLeft >= MAX_ROLLS_LEFT) {
+            throw new IllegalArgumentException("Invalid rolls left after keeping " + DiceCounts.toList(kept) + ": " + rollsLeft);
+        }
+        return keepValues[objective][category][rollsLeft - 1][keep];
+    }
+
+    /**
+     * Returns the value of an objective after a roll: the best of standing and keeping a proper part of
+     * the rolled dice, if rolls are left.
+     */
+    private double getRollValue(int objective, int category, int kept, int rolled, int rollsLeft) {
+        checkCategory(category);
+        if (DiceCounts.size(kept) + DiceCounts.size(rolled) != RollSpace.DICE) {
+            throw new IllegalArgumentException("The kept and rolled dice must make " + RollSpace.DICE + " dice");
+        }
+        if (rollsLeft < 0 || rollsLeft >= MAX_ROLLS_LEFT) {
+            throw new IllegalArgumentException("Invalid rolls left after a roll: " + rollsLeft);
+        }
+        double value = handValues[objective][category][RollSpace.handIndexOf(DiceCounts.add(kept, rolled))];
+        if (rollsLeft == 0 || rolled == DiceCounts.EMPTY) {
+            return value;
+        }
+
+        int pair = TransitionTable.getRowStart(RollSpace.indexOf(kept)) + RollSpace.indexOf(rolled)
+                - RollSpace.getOutcomesStart(DiceCounts.size(rolled));
+        double[] values = keepValues[objective][category][rollsLeft - 1];
+        for (int i = TurnEvaluator.SUB_KEEP_START[pair]; i < TurnEvaluator.SUB_KEEP_START[pair + 1]; i++) {
+            value = Math.max(value, values[TurnEvaluator.SUB_KEEPS[i]]);
+        }
+        return value;
+    }
+
+    /**
+     * Rejects an index that is not a category of the {@link ScoreTable}.
+     */
+    private static void checkCategory(int category) {
+        if (category < 0 || category >= ScoreTable.CATEGORY_COUNT) {
+            throw new IllegalArgumentException("Invalid category index: " + category);
+        }
+    }
+}
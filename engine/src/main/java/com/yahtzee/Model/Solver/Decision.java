@@ -0,0 +1,81 @@
+package com.yahtzee.Model.Solver;
+
+import androidx.annotation.NonNull;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.Categories.Util;
+
+/**
+ * An immutable decision made by a solver for one position of a turn: which of the rolled dice to keep,
+ * whether to stand, which category to score or aim for, and the value the solver expects from it.
+ */
+public final class Decision {
+    private final int keep;
+    private final boolean stand;
+    private final int category;
+    private final double expectedValue;
+
+    /**
+     * Constructs a new Decision.
+     *
+     * @param keep          The packed multiset of rolled dice to keep, see {@link DiceCounts}.
+     * @param stand         True if the player should stand, false if the player should roll again.
+     * @param category      The index of the category to score or aim for, or -1 if there is none.
+     * @param expectedValue The value the solver expects from this decision.
+     */
+    public Decision(int keep, boolean stand, int category, double expectedValue) {
+        this.keep = keep;
+        this.stand = stand;
+        this.category = category;
+        this.expectedValue = expectedValue;
+    }
+
+    /**
+     * Returns the rolled dice to keep.
+     *
+     * @return The packed multiset of rolled dice to keep.
+     */
+    public int getKeep() {
+        return keep;
+    }
+
+    /**
+     * Returns whether the player should stand.
+     *
+     * @return True if the player should stand, false if the player should roll again.
+     */
+    public boolean isStand() {
+        return stand;
+    }
+
+    /**
+     * Returns the category to score when standing, or to aim for when rolling again.
+     *
+     * @return The index of the category in {@link Util#ALL_CATEGORIES}, or -1 if there is none.
+     */
+    public int getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the value the solver expects from this decision.
+     *
+     * @return The expected value.
+     */
+    public double getExpectedValue() {
+        return expectedValue;
+    }
+
+    /**
+     * Returns a string representation of the Decision.
+     *
+     * @return A string representation of the Decision.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        return (stand ? "Stand" : "Keep " + DiceCounts.toList(keep))
+                + " for " + (category < 0 ? "nothing" : Util.ALL_CATEGORIES.get(category))
+                + " (" + expectedValue + ")";
+    }
+}
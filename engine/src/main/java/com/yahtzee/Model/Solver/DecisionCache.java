@@ -0,0 +1,192 @@
+package com.yahtzee.Model.Solver;
+
+import androidx.annotation.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * A bounded, thread-safe cache of decisions keyed by a packed position.
+ * <p>
+ * The entries are spread over independently locked stripes, each evicting its least recently used
+ * entry once full, so games on different threads rarely wait on each other. A missing decision is
+ * computed outside the lock; if two threads miss the same key at once, both compute it and the last
+ * one stored wins, which is harmless since a key always maps to the same decision.
+ * <p>
+ * Hits, misses and evictions are counted to tell how well the cache serves a workload.
+ */
+public final class DecisionCache {
+
+    // Number of entries kept by the shared cache
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    // Number of independently locked stripes, a power of two
+    private static final int STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param capacity The maximum number of entries, at least one per stripe.
+     * @throws IllegalArgumentException If the capacity is smaller than the number of stripes.
+     */
+    public DecisionCache(int capacity) {
+        if (capacity < STRIPE_COUNT) {
+            throw new IllegalArgumentException("Capacity must be at least " + STRIPE_COUNT + ": " + capacity);
+        }
+        this.capacity = capacity;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(capacity / STRIPE_COUNT);
+        }
+    }
+
+    /**
+     * Returns the cache shared by every game, created on first use.
+     *
+     * @return The shared cache.
+     */
+    public static DecisionCache getInstance() {
+        return DecisionCacheHolder.INSTANCE;
+    }
+
+    /**
+     * Private static inner class to hold the shared instance of the DecisionCache class.
+     */
+    private static class DecisionCacheHolder {
+        private static final DecisionCache INSTANCE = new DecisionCache(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the decision for a key, computing and storing it if it is not cached.
+     *
+     * @param key     The packed position.
+     * @param compute The function computing the decision of a key that is not cached.
+     * @return The decision for the key.
+     */
+    public Decision get(long key, LongFunction<Decision> compute) {
+        Stripe stripe = stripeOf(key);
+        Decision decision;
+        synchronized (stripe) {
+            decision = stripe.get(key);
+        }
+        if (decision != null) {
+            hits.increment();
+            return decision;
+        }
+
+        misses.increment();
+        decision = compute.apply(key);
+        synchronized (stripe) {
+            stripe.put(key, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Removes every entry and resets the counters.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return The number of entries, at most the capacity.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the share of lookups answered from the cache.
+     *
+     * @return The hit rate, between 0 and 1.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns a summary of the cache counters.
+     *
+     * @return The size and counters of the cache.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "DecisionCache: %d/%d entries, %d hits, %d misses (%.2f%%), %d evictions",
+                size(), capacity, getHitCount(), getMissCount(), 100.0 * getHitRate(), getEvictionCount());
+    }
+
+    /**
+     * Returns the stripe holding a key, chosen from the high bits of the mixed key.
+     */
+    private Stripe stripeOf(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (mixed >>> (Long.SIZE - Integer.numberOfTrailingZeros(STRIPE_COUNT)))];
+    }
+
+    /**
+     * A stripe of the cache: a map in access order that drops its eldest entry once full.
+     * It is guarded by its own monitor.
+     */
+    private final class Stripe extends LinkedHashMap<Long, Decision> {
+        private static final long serialVersionUID = 1L;
+
+        private final int stripeCapacity;
+
+        Stripe(int stripeCapacity) {
+            super(16, 0.75f, true);
+            this.stripeCapacity = stripeCapacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Decision> eldest) {
+            if (size() > stripeCapacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.yahtzee.Model.Solver;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * An expectimax search for the two-player game on a shared scorecard.
+ * <p>
+ * Both players race for the same categories: whoever scores a category first claims it, and the player
+ * with the higher total when the card is complete wins. At the start of every round the player with the
+ * lower total goes first, and a tie is broken by a die roll. The search maximizes the win probability of
+ * the player to move, assuming the opponent maximizes their own.
+ * <p>
+ * Positions between turns are identified by the open categories, the score differential from the point
+ * of view of the player to move, and whether that player is the second to move in the round. Each turn
+ * is evaluated exactly with a {@link TurnEvaluator} over all rolls and keeps, with the positions after the
+ * turn searched recursively. The search deepens one turn at a time until its time budget runs out and
+ * returns the decision of the deepest completed search. Positions beyond the search depth are estimated
+ * from the score differential and the {@link OptimalSolver} value of the open categories.
+ * <p>
+ * Searched positions are stored in a fixed-size, lock-free {@link TranspositionTable} shared by all threads,
+ * keyed by their {@link Zobrist} hash. The value of a position does not depend on the game it comes from,
+ * so unless given a table of their own, all searches share one table and a search is cheap to create,
+ * such as one per game. The positions after the current turn are searched in parallel, in a pool the
+ * search borrows and never shuts down, so that any number of searches can share one pool.
+ */
+public final class ExpectimaxSearch {
+
+    // Default time budget for a decision, in milliseconds
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 500;
+
+    // Highest search depth, in turns
+    private static final int MAX_DEPTH = 24;
+
+    // Number of distinct scores a category can take, used to index (category, score) outcomes
+    private static final int SCORE_RANGE = 51;
+
+    // Spread of the final score differential per open category, used by the estimate
+    private static final double SPREAD_PER_CATEGORY = 12.0;
+
+    // Evaluator scratch space for each thread, shared by all searches
+    private static final ThreadLocal<TurnEvaluator> EVALUATORS = ThreadLocal.withInitial(TurnEvaluator::new);
+
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+
+    private volatile long timeBudgetMillis;
+    private volatile long deadline;
+    private volatile int lastDepth;
+
+    /**
+     * Constructs a new search in the common pool with the default time budget and the shared table.
+     */
+    public ExpectimaxSearch() {
+        this(DEFAULT_TIME_BUDGET_MILLIS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new search storing its positions in the shared table.
+     *
+     * @param timeBudgetMillis The time allowed for each decision, in milliseconds.
+     * @param pool             The pool to search in, which the search does not shut down.
+     */
+    public ExpectimaxSearch(long timeBudgetMillis, ForkJoinPool pool) {
+        this(timeBudgetMillis, pool, getSharedTable());
+    }
+
+    /**
+     * Constructs a new search.
+     *
+     * @param timeBudgetMillis The time allowed for each decision, in milliseconds.
+     * @param pool             The pool to search in, which the search does not shut down.
+     * @param table            The table to store searched positions in, which other searches may share.
+     */
+    public ExpectimaxSearch(long timeBudgetMillis, ForkJoinPool pool, TranspositionTable table) {
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Returns the table shared by the searches not given a table of their own, creating it on first use.
+     *
+     * @return The shared transposition table.
+     */
+    public static TranspositionTable getSharedTable() {
+        return SharedTableHolder.TABLE;
+    }
+
+    /**
+     * Private static inner class to hold the shared transposition table.
+     */
+    private static class SharedTableHolder {
+        private static final TranspositionTable TABLE = new TranspositionTable();
+    }
+
+    /**
+     * Returns the time allowed for each decision.
+     *
+     * @return The time budget in milliseconds.
+     */
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    /**
+     * Sets the time allowed for each decision. The first turn is always searched completely, so a
+     * decision may take longer than a very small budget.
+     *
+     * @param timeBudgetMillis The time budget in milliseconds.
+     */
+    public void setTimeBudgetMillis(long timeBudgetMillis) {
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * Returns the depth, in turns, of the deepest completed search of the last decision.
+     *
+     * @return The search depth of the last decision.
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * Returns the transposition table of the search, to inspect its statistics. The statistics of the
+     * shared table cover every search sharing it.
+     *
+     * @return The transposition table.
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Decides what the player to move should do in a position of their turn.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param scoreDiff      The total of the player to move minus the total of the opponent.
+     * @param second         True if the opponent has already played this round.
+     * @param kept           The packed multiset of dice kept so far.
+     * @param rolled         The packed multiset of dice rolled and not yet kept.
+     * @param roll           The number of the roll that produced the rolled dice, from 1 to 3.
+     * @return The decision maximizing the win probability; its expected value is that probability.
+     */
+    public Decision decide(int openCategories, int scoreDiff, boolean second, int kept, int rolled, int roll) {
+        if (openCategories == 0) {
+            return new Decision(rolled, true, -1, terminalValue(scoreDiff));
+        }
+
+        deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        table.newGeneration();
+        Decision best = decideAtDepth(openCategories, scoreDiff, second, kept, rolled, roll, 1, false);
+        lastDepth = 1;
+        for (int depth = 2; depth <= MAX_DEPTH; depth++) {
+            try {
+                best = decideAtDepth(openCategories, scoreDiff, second, kept, rolled, roll, depth, true);
+                lastDepth = depth;
+            } catch (SearchTimeout timeout) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Decides at a fixed search depth, searching the positions after the current turn in parallel.
+     *
+     * @param timed True if the search should stop when the deadline has passed.
+     * @return The best decision found at this depth.
+     */
+    private Decision decideAtDepth(int openCategories, int scoreDiff, boolean second,
+                                   int kept, int rolled, int roll, int depth, boolean timed) {
+        double[] outcomeValues = newOutcomeValues();
+        int[] outcomes = listOutcomes(openCategories);
+        IntConsumer search = outcome -> outcomeValues[outcome] = afterTurn(openCategories & ~(1 << outcome / SCORE_RANGE),
+                scoreDiff + outcome % SCORE_RANGE, second, depth - 1, timed);
+        try {
+            if (ForkJoinTask.getPool() == pool) {
+                // Already on a thread of the pool, which other tasks such as simulated games keep busy: a timed
+                // out parallel search would leave its forked subtasks queued over the caller's own subtasks
+                IntStream.of(outcomes).forEach(search);
+            } else {
+                pool.submit(() -> IntStream.of(outcomes).parallel().forEach(search)).get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SearchTimeout) {
+                throw (SearchTimeout) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchTimeout();
+        }
+        double deadValue = afterTurn(openCategories, scoreDiff, second, depth - 1, timed);
+
+        double[] handValues = new double[RollSpace.HAND_COUNT];
+        int[] handCategories = new int[RollSpace.HAND_COUNT];
+        fillHandValues(openCategories, outcomeValues, deadValue, handValues, handCategories);
+
+        int hand = RollSpace.handIndexOf(DiceCounts.add(kept, rolled));
+        int bestKeep = rolled;
+        double bestValue = handValues[hand];
+        if (roll < 3 && rolled != DiceCounts.EMPTY) {
+            TurnEvaluator evaluator = EVALUATORS.get();
+            evaluator.evaluate(openCategories, handValues, null, deadValue);
+
+            int[] parts = new int[32];
+            int partCount = TurnEvaluator.subMultisets(rolled, 1, DiceCounts.EMPTY, parts, 0);
+            for (int i = 0; i < partCount; i++) {
+                if (parts[i] == rolled) {
+                    continue;
+                }
+                double value = evaluator.getKeepValue(roll + 1, RollSpace.indexOf(DiceCounts.add(kept, parts[i])));
+                if (value > bestValue) {
+                    bestValue = value;
+                    bestKeep = parts[i];
+                }
+            }
+        }
+
+        boolean stand = bestKeep == rolled;
+        int category = stand
+                ? handCategories[hand]
+                : OptimalSolver.getInstance().getTargetCategory(openCategories, DiceCounts.add(kept, bestKeep));
+        return new Decision(bestKeep, stand, category, bestValue);
+    }
+
+    /**
+     * Returns a fresh array for the values of (category, score) outcomes.
+     *
+     * @return An array indexed by {@code category * SCORE_RANGE + score}.
+     */
+    private static double[] newOutcomeValues() {
+        return new double[ScoreTable.CATEGORY_COUNT * SCORE_RANGE];
+    }
+
+    /**
+     * Lists the distinct (category, score) outcomes a turn can end with.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @return The outcomes, each encoded as {@code category * SCORE_RANGE + score}.
+     */
+    private static int[] listOutcomes(int openCategories) {
+        boolean[] seen = new boolean[ScoreTable.CATEGORY_COUNT * SCORE_RANGE];
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            int multiset = RollSpace.indexOf(RollSpace.getHand(hand));
+            for (int valid = ScoreTable.getValidMask(multiset) & openCategories; valid != 0; valid &= valid - 1) {
+                int category = Integer.numberOfTrailingZeros(valid);
+                seen[category * SCORE_RANGE + ScoreTable.getScore(category, multiset)] = true;
+            }
+        }
+        return IntStream.range(0, seen.length).filter(outcome -> seen[outcome]).toArray();
+    }
+
+    /**
+     * Fills the value of standing with each hand: the best outcome among the valid open categories, or
+     * the value of scoring nothing if no open category is valid.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param outcomeValues  The value of each (category, score) outcome.
+     * @param deadValue      The value of scoring nothing this turn.
+     * @param handValues     The array to fill with the value of each hand.
+     * @param handCategories The array to fill with the best category of each hand, -1 if none is valid.
+     */
+    private static void fillHandValues(int openCategories, double[] outcomeValues, double deadValue,
+                                       double[] handValues, int[] handCategories) {
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            int multiset = RollSpace.indexOf(RollSpace.getHand(hand));
+            int best = -1;
+            double bestValue = deadValue;
+            for (int valid = ScoreTable.getValidMask(multiset) & openCategories; valid != 0; valid &= valid - 1) {
+                int category = Integer.numberOfTrailingZeros(valid);
+                double value = outcomeValues[category * SCORE_RANGE + ScoreTable.getScore(category, multiset)];
+                if (best < 0 || value > bestValue) {
+                    bestValue = value;
+                    best = category;
+                }
+            }
+            handValues[hand] = bestValue;
+            handCategories[hand] = best;
+        }
+    }
+
+    /**
+     * Returns the win probability of a player who has just finished their turn.
+     *
+     * @param openCategories The bitmask of categories still open after the turn.
+     * @param scoreDiff      The player's total minus the opponent's total after the turn.
+     * @param second         True if the player was the second to move in the round.
+     * @param depth          The number of turns still to search.
+     * @param timed          True if the search should stop when the deadline has passed.
+     * @return The win probability of the player.
+     */
+    private double afterTurn(int openCategories, int scoreDiff, boolean second, int depth, boolean timed) {
+        if (openCategories == 0) {
+            return terminalValue(scoreDiff);
+        }
+        if (!second) {
+            return 1.0 - turnValue(openCategories, -scoreDiff, true, depth, timed);
+        }
+
+        // A new round starts: the player with the lower total goes first. A tie is broken by a die roll,
+        // and since both players then face the same position, each wins with probability one half
+        if (scoreDiff < 0) {
+            return turnValue(openCategories, scoreDiff, false, depth, timed);
+        }
+        if (scoreDiff > 0) {
+            return 1.0 - turnValue(openCategories, -scoreDiff, false, depth, timed);
+        }
+        return 0.5;
+    }
+
+    /**
+     * Returns the win probability of the player to move before the first roll of their turn.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param scoreDiff      The total of the player to move minus the opponent's total.
+     * @param second         True if the opponent has already played this round.
+     * @param depth          The number of turns still to search, including this one.
+     * @param timed          True if the search should stop when the deadline has passed.
+     * @return The win probability of the player to move.
+     */
+    private double turnValue(int openCategories, int scoreDiff, boolean second, int depth, boolean timed) {
+        if (depth == 0) {
+            return estimate(openCategories, scoreDiff);
+        }
+        if (timed && System.nanoTime() > deadline) {
+            throw new SearchTimeout();
+        }
+
+        long key = Zobrist.hash(openCategories, scoreDiff, second);
+        TranspositionTable.Entry entry = table.get(key);
+        if (entry != null && entry.getDepth() >= depth) {
+            return entry.getValue();
+        }
+
+        double[] outcomeValues = newOutcomeValues();
+        Arrays.fill(outcomeValues, Double.NaN);
+        double deadValue = afterTurn(openCategories, scoreDiff, second, depth - 1, timed);
+
+        double[] handValues = new double[RollSpace.HAND_COUNT];
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            int multiset = RollSpace.indexOf(RollSpace.getHand(hand));
+            double bestValue = deadValue;
+            boolean scored = false;
+            for (int valid = ScoreTable.getValidMask(multiset) & openCategories; valid != 0; valid &= valid - 1) {
+                int category = Integer.numberOfTrailingZeros(valid);
+                int score = ScoreTable.getScore(category, multiset);
+                int outcome = category * SCORE_RANGE + score;
+                if (Double.isNaN(outcomeValues[outcome])) {
+                    outcomeValues[outcome] = afterTurn(openCategories & ~(1 << category), scoreDiff + score, second, depth - 1, timed);
+                }
+                if (!scored || outcomeValues[outcome] > bestValue) {
+                    bestValue = outcomeValues[outcome];
+                    scored = true;
+                }
+            }
+            handValues[hand] = bestValue;
+        }
+
+        double value = EVALUATORS.get().evaluate(openCategories, handValues, null, deadValue);
+        table.put(key, depth, TranspositionTable.EXACT, value);
+        return value;
+    }
+
+    /**
+     * Estimates the win probability of the player to move beyond the search depth, from the current
+     * differential plus the {@link OptimalSolver} differential still to be gained by the player to move.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param scoreDiff      The total of the player to move minus the opponent's total.
+     * @return The estimated win probability.
+     */
+    private static double estimate(int openCategories, int scoreDiff) {
+        return estimateWinProbability(openCategories, scoreDiff + OptimalSolver.getInstance().getValue(openCategories));
+    }
+
+    /**
+     * Estimates the win probability of a player from the final score differential they expect.
+     * The final differential is assumed to be roughly normal around the expected one, with a spread
+     * growing with the number of open categories.
+     *
+     * @param openCategories The bitmask of open categories, at least one.
+     * @param expectedLead   The expected final score differential of the player.
+     * @return The estimated win probability.
+     */
+    static double estimateWinProbability(int openCategories, double expectedLead) {
+        double spread = SPREAD_PER_CATEGORY * Math.sqrt(Integer.bitCount(openCategories));
+
+        // Logistic approximation of the normal distribution function
+        return 1.0 / (1.0 + Math.exp(-1.702 * expectedLead / spread));
+    }
+
+    /**
+     * Returns the win probability of a player once the scorecard is complete.
+     *
+     * @param scoreDiff The player's total minus the opponent's total.
+     * @return 1 for a win, 0.5 for a tie and 0 for a loss.
+     */
+    private static double terminalValue(int scoreDiff) {
+        return scoreDiff > 0 ? 1.0 : scoreDiff == 0 ? 0.5 : 0.0;
+    }
+
+    /**
+     * Thrown to abandon a search iteration once the deadline has passed.
+     */
+    private static final class SearchTimeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SearchTimeout() {
+            super(null, null, false, false);
+        }
+    }
+}
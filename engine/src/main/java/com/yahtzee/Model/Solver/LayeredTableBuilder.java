@@ -0,0 +1,175 @@
+package com.yahtzee.Model.Solver;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Builds a table whose states fall into layers, where every state only depends on states of earlier
+ * layers, such as the bitmasks of open categories layered by the number of open categories.
+ * <p>
+ * The layers are built one after the other, in dependency order. Within a layer the states are
+ * independent, so the layer is split in halves recursively down to small chunks, which the threads of a
+ * {@link ForkJoinPool} solve and steal from each other; a layer is over once all its chunks are. A
+ * listener is told after every layer how many states are built and how long it took, from which the
+ * progress and throughput of the build follow.
+ */
+public final class LayeredTableBuilder {
+
+    // Number of chunks each thread of the pool gets per layer on average, to balance uneven states
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    /**
+     * Solves one state of the table, storing its value wherever the table lives. It is called from the
+     * threads of the pool, at most once per state, after every state of the earlier layers is solved.
+     */
+    public interface StateSolver {
+        void solve(int state);
+    }
+
+    /**
+     * Receives the progress of a build.
+     */
+    public interface Listener {
+
+        /**
+         * Called on the building thread after each layer.
+         *
+         * @param completedLayers The number of layers built so far.
+         * @param layerCount      The number of layers of the table.
+         * @param completedStates The number of states built so far.
+         * @param stateCount      The number of states of the table.
+         * @param elapsedNanos    The time since the build started.
+         */
+        void onLayerBuilt(int completedLayers, int layerCount, int completedStates, int stateCount, long elapsedNanos);
+    }
+
+    // States of each layer, in dependency order
+    private final int[][] layers;
+    private final int stateCount;
+
+    /**
+     * Constructs a builder of the given layers.
+     *
+     * @param layers The states of each layer, in dependency order.
+     */
+    public LayeredTableBuilder(int[][] layers) {
+        this.layers = new int[layers.length][];
+        int count = 0;
+        for (int layer = 0; layer < layers.length; layer++) {
+            this.layers[layer] = layers[layer].clone();
+            count += layers[layer].length;
+        }
+        this.stateCount = count;
+    }
+
+    /**
+     * Returns a builder of the non-empty bitmasks of a number of bits, layered by the number of bits
+     * set, from one up to all of them.
+     *
+     * @param bits The number of bits, from 1 to 30.
+     * @return The builder.
+     * @throws IllegalArgumentException If the number of bits is out of range.
+     */
+    public static LayeredTableBuilder ofBitmasks(int bits) {
+        if (bits < 1 || bits > 30) {
+            throw new IllegalArgumentException("Invalid number of bits: " + bits);
+        }
+        int[][] layers = new int[bits][];
+        int[] sizes = new int[bits + 1];
+        for (int bitCount = 1; bitCount <= bits; bitCount++) {
+            layers[bitCount - 1] = new int[binomial(bits, bitCount)];
+        }
+        for (int mask = 1; mask < 1 << bits; mask++) {
+            int bitCount = Integer.bitCount(mask);
+            layers[bitCount - 1][sizes[bitCount]++] = mask;
+        }
+        return new LayeredTableBuilder(layers);
+    }
+
+    /**
+     * Builds the table, solving every state of every layer.
+     *
+     * @param pool     The pool to solve the states in.
+     * @param solver   The solver of a single state.
+     * @param listener The listener of the progress, or null.
+     * @return The time the build took, in nanoseconds.
+     */
+    public long build(ForkJoinPool pool, StateSolver solver, Listener listener) {
+        long start = System.nanoTime();
+        int completedStates = 0;
+        for (int layer = 0; layer < layers.length; layer++) {
+            int[] states = layers[layer];
+            int grain = Math.max(1, states.length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+            pool.invoke(new LayerChunk(states, 0, states.length, grain, solver));
+            completedStates += states.length;
+            if (listener != null) {
+                listener.onLayerBuilt(layer + 1, layers.length, completedStates, stateCount, System.nanoTime() - start);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    public int getLayerCount() {
+        return layers.length;
+    }
+
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    /**
+     * Returns the states of a layer.
+     *
+     * @param layer The index of the layer.
+     * @return A copy of the states of the layer.
+     */
+    public int[] getLayer(int layer) {
+        return Arrays.copyOf(layers[layer], layers[layer].length);
+    }
+
+    /**
+     * Returns the binomial coefficient {@code n} choose {@code k}.
+     */
+    private static int binomial(int n, int k) {
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return (int) result;
+    }
+
+    /**
+     * A range of the states of a layer, solved directly if small enough or else split in halves.
+     */
+    private static final class LayerChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] states;
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final StateSolver solver;
+
+        LayerChunk(int[] states, int from, int to, int grain, StateSolver solver) {
+            this.states = states;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.solver = solver;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    solver.solve(states[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new LayerChunk(states, from, middle, grain, solver),
+                    new LayerChunk(states, middle, to, grain, solver));
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.yahtzee.Model.Solver;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An optimal solver for the race of two players filling one shared scorecard.
+ * <p>
+ * Whoever scores a category first claims it, and the players take turns. For every bitmask of open
+ * categories, the solver computes the expected final score differential of the player to move over the
+ * opponent, when both make every keep, stand and scoring decision to maximize their own differential.
+ * The opponent moves next with the categories left open, so scoring a category is worth its score minus
+ * the value of the bitmask left, and a turn that ends without a valid category is worth minus the value
+ * of the same bitmask: a dead turn hands the move to the opponent instead of being retried for free.
+ * The values are found by dynamic programming over the 4,096 bitmasks, from one open category up to
+ * twelve; the bitmasks with the same number of open categories only depend on smaller ones and are
+ * solved in parallel, see {@link LayeredTableBuilder}. The rule that the trailing player starts each
+ * round is left out, so the values are exact for alternating turns and an estimate for the game.
+ * <p>
+ * A dead turn leaves the bitmask unchanged, so its value depends on itself. Within a bitmask, the turn
+ * value is a convex, piecewise linear function of the value of a dead turn with a slope below one (the
+ * probability of scoring nothing), so the fixed point is found exactly by a few Newton steps.
+ * <p>
+ * Solving takes seconds, so the values can instead be solved once offline, written to a
+ * {@link StrategyTable} file and read back in place at runtime, see {@link #install(StrategyTable)}.
+ */
+public final class OptimalSolver {
+
+    // Number of bitmasks of open categories
+    public static final int STATE_COUNT = 1 << ScoreTable.CATEGORY_COUNT;
+
+    // Number of bitmasks solved: all but the full scorecard, which has nothing left to gain
+    public static final int SOLVED_STATE_COUNT = STATE_COUNT - 1;
+
+    // Newton iterations stop once successive values differ by less than this
+    private static final double TOLERANCE = 1e-9;
+
+    // Upper bound on Newton iterations per bitmask
+    private static final int MAX_ITERATIONS = 64;
+
+    // Expected final score differential of the player to move for each bitmask of open categories, solved
+    // on the heap or read in place from a StrategyTable
+    private final DoubleBuffer values;
+
+    // Solver installed from a strategy table, answering instead of the solved instance
+    private static volatile OptimalSolver installed;
+
+    // Evaluator scratch space for each thread
+    private final ThreadLocal<TurnEvaluator> evaluators = ThreadLocal.withInitial(TurnEvaluator::new);
+
+    /**
+     * Private constructor for the OptimalSolver class. It solves every bitmask of open categories, layer by
+     * layer of the number of open categories, splitting each layer across a pool.
+     *
+     * @param pool     The pool to solve in.
+     * @param listener The listener of the progress of the solving, or null.
+     */
+    private OptimalSolver(ForkJoinPool pool, LayeredTableBuilder.Listener listener) {
+        values = DoubleBuffer.allocate(STATE_COUNT);
+        LayeredTableBuilder.ofBitmasks(ScoreTable.CATEGORY_COUNT)
+                .build(pool, open -> values.put(open, solve(open)), listener);
+    }
+
+    /**
+     * Solves every bitmask of open categories into a new solver, reporting the progress after each number
+     * of open categories. Use this to build tables offline; {@link #getInstance()} solves once in the
+     * common pool.
+     *
+     * @param pool     The pool to solve in.
+     * @param listener The listener of the progress, or null.
+     * @return The solver.
+     */
+    public static OptimalSolver solve(ForkJoinPool pool, LayeredTableBuilder.Listener listener) {
+        return new OptimalSolver(pool, listener);
+    }
+
+    /**
+     * Private constructor for a solver whose values are already solved.
+     *
+     * @param values The expected remaining score for each bitmask of open categories.
+     */
+    private OptimalSolver(DoubleBuffer values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a solver answering from the values of a strategy table, without solving anything.
+     *
+     * @param table The strategy table.
+     * @return The solver, reading the table in place.
+     */
+    public static OptimalSolver fromTable(StrategyTable table) {
+        return new OptimalSolver(table.getOptimalValues());
+    }
+
+    /**
+     * Makes every later call to {@link #getInstance()} answer from a strategy table, so that the values
+     * are never solved at runtime. Install the table before the first decision to avoid solving at all.
+     *
+     * @param table The strategy table.
+     */
+    public static void install(StrategyTable table) {
+        installed = fromTable(table);
+    }
+
+    /**
+     * Returns the singleton instance of the OptimalSolver class: the solver installed from a strategy
+     * table if there is one, or else the solver solving all states on first use.
+     *
+     * @return the singleton instance of the OptimalSolver
+     */
+    public static OptimalSolver getInstance() {
+        OptimalSolver solver = installed;
+        return solver != null ? solver : OptimalSolverHolder.INSTANCE;
+    }
+
+    /**
+     * Private static inner class to hold the singleton instance of the OptimalSolver class.
+     */
+    private static class OptimalSolverHolder {
+        private static final OptimalSolver INSTANCE = new OptimalSolver(ForkJoinPool.commonPool(), null);
+    }
+
+    /**
+     * Returns the expected score the player to move gains over the opponent until the scorecard is full.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @return The expected final score differential of the player to move under optimal play.
+     */
+    public double getValue(int openCategories) {
+        return values.get(openCategories);
+    }
+
+    /**
+     * Returns the value of a bitmask for the player whose turn just ended: the opponent moves next with
+     * these categories open, so it is the opposite of their value.
+     *
+     * @param openCategories The bitmask of categories left open.
+     * @return The expected final score differential of the player whose turn ended.
+     */
+    private double getValueAfterTurn(int openCategories) {
+        return -values.get(openCategories);
+    }
+
+    /**
+     * Solves a single bitmask, assuming every smaller bitmask is already solved.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @return The expected final score differential of the player to move.
+     */
+    private double solve(int openCategories) {
+        TurnEvaluator evaluator = evaluators.get();
+        double[] handValues = new double[RollSpace.HAND_COUNT];
+        double[] handSlopes = new double[RollSpace.HAND_COUNT];
+
+        // Newton steps towards the value that equals the turn value when a dead turn is worth minus it
+        double value = 0.0;
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            fillHandValues(openCategories, -value, handValues, handSlopes);
+            double turnValue = evaluator.evaluate(openCategories, handValues, handSlopes, -value);
+            double slope = evaluator.getTurnSlope();
+            double next = value + (turnValue - value) / (1.0 + slope);
+            if (Math.abs(next - value) < TOLERANCE) {
+                return next;
+            }
+            value = next;
+        }
+        return value;
+    }
+
+    /**
+     * Fills the value of standing with each hand: the best valid open category plus the value of the
+     * categories left open after the turn, or the value of scoring nothing if no open category is valid.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param deadValue      The value of scoring nothing this turn.
+     * @param handValues     The array to fill with the value of each hand.
+     * @param handSlopes     The array to fill with the slope of each hand value, or null.
+     */
+    private void fillHandValues(int openCategories, double deadValue, double[] handValues, double[] handSlopes) {
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            int best = getBestCategory(openCategories, hand);
+            if (best < 0) {
+                handValues[hand] = deadValue;
+            } else {
+                int multiset = RollSpace.indexOf(RollSpace.getHand(hand));
+                handValues[hand] = ScoreTable.getScore(best, multiset) + getValueAfterTurn(openCategories & ~(1 << best));
+            }
+            if (handSlopes != null) {
+                handSlopes[hand] = best < 0 ? 1.0 : 0.0;
+            }
+        }
+    }
+
+    /**
+     * Returns the best category to score a hand in: the valid open category with the highest score
+     * plus value of the categories left open after the turn.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param hand           The hand index.
+     * @return The index of the best category, or -1 if no open category is valid.
+     */
+    private int getBestCategory(int openCategories, int hand) {
+        int multiset = RollSpace.indexOf(RollSpace.getHand(hand));
+        int valid = ScoreTable.getValidMask(multiset) & openCategories;
+
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int remaining = valid; remaining != 0; remaining &= remaining - 1) {
+            int category = Integer.numberOfTrailingZeros(remaining);
+            double value = ScoreTable.getScore(category, multiset) + getValueAfterTurn(openCategories & ~(1 << category));
+            if (value > bestValue) {
+                bestValue = value;
+                best = category;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Decides what to do in a position of a turn.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of dice kept so far.
+     * @param rolled         The packed multiset of dice rolled and not yet kept; with the kept dice
+     *                       it must make five dice.
+     * @param roll           The number of the roll that produced the rolled dice, from 1 to 3.
+     * @return The optimal decision.
+     */
+    public Decision decide(int openCategories, int kept, int rolled, int roll) {
+        int hand = RollSpace.handIndexOf(DiceCounts.add(kept, rolled));
+        if (openCategories == 0) {
+            return new Decision(rolled, true, -1, 0.0);
+        }
+
+        double deadValue = getValueAfterTurn(openCategories);
+        double[] handValues = new double[RollSpace.HAND_COUNT];
+        fillHandValues(openCategories, deadValue, handValues, null);
+
+        int bestKeep = rolled;
+        double bestValue = handValues[hand];
+        if (roll < 3 && rolled != DiceCounts.EMPTY) {
+            TurnEvaluator evaluator = evaluators.get();
+            evaluator.evaluate(openCategories, handValues, null, deadValue);
+
+            int[] parts = new int[32];
+            int partCount = TurnEvaluator.subMultisets(rolled, 1, DiceCounts.EMPTY, parts, 0);
+            for (int i = 0; i < partCount; i++) {
+                if (parts[i] == rolled) {
+                    continue;
+                }
+                double value = evaluator.getKeepValue(roll + 1, RollSpace.indexOf(DiceCounts.add(kept, parts[i])));
+                if (value > bestValue) {
+                    bestValue = value;
+                    bestKeep = parts[i];
+                }
+            }
+        }
+
+        boolean stand = bestKeep == rolled;
+        int category = stand
+                ? getBestCategory(openCategories, hand)
+                : getTargetCategory(openCategories, DiceCounts.add(kept, bestKeep));
+        return new Decision(bestKeep, stand, category, bestValue);
+    }
+
+    /**
+     * Returns the category to aim for after keeping some dice: the open category with the highest
+     * expected score after one more roll plus the value of the categories left open after the turn.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param kept           The packed multiset of all kept dice.
+     * @return The index of the category to aim for.
+     */
+    public int getTargetCategory(int openCategories, int kept) {
+        int rolledCount = RollSpace.DICE - DiceCounts.size(kept);
+
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int remaining = openCategories; remaining != 0; remaining &= remaining - 1) {
+            int category = Integer.numberOfTrailingZeros(remaining);
+            double value = getValueAfterTurn(openCategories & ~(1 << category));
+            for (int outcome = RollSpace.getOutcomesStart(rolledCount); outcome < RollSpace.getOutcomesEnd(rolledCount); outcome++) {
+                int multiset = RollSpace.indexOf(DiceCounts.add(kept, RollSpace.getCounts(outcome)));
+                if (ScoreTable.isValid(category, multiset)) {
+                    value += RollSpace.getProbability(outcome) * ScoreTable.getScore(category, multiset);
+                }
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                best = category;
+            }
+        }
+        return best;
+    }
+}
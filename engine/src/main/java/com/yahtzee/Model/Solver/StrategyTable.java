@@ -0,0 +1,261 @@
+package com.yahtzee.Model.Solver;
+
+import com.yahtzee.Model.ScoreTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A precomputed strategy table in a compact, versioned binary format, so that the tables of the
+ * {@link OptimalSolver} are solved once, offline, and only read at runtime.
+ * <p>
+ * The file is little-endian and laid out as follows:
+ * <ul>
+ *     <li>A header of four ints: the magic number {@link #MAGIC}, the format version {@link #VERSION},
+ *     the number of sections and the CRC-32 of every byte after the header.</li>
+ *     <li>A directory of one entry per section, three ints each: the section id, the offset of the
+ *     section from the start of the file and its length in bytes.</li>
+ *     <li>The sections, each starting on a multiple of eight bytes.</li>
+ * </ul>
+ * The {@link #PARAMETERS} section records what the values were solved with, so a table solved with
+ * other rules is rejected instead of silently used. The {@link #OPTIMAL_VALUES} section holds the
+ * expected final score differential of the player to move for every bitmask of open categories, as
+ * doubles indexed by bitmask.
+ * <p>
+ * A table is validated once when it is opened and its sections are then read in place: a mapped
+ * file is never copied to the heap, and its values are paged in by the operating system as they are used.
+ */
+public final class StrategyTable {
+
+    // Magic number at the start of every table file, "YZST" read as little-endian bytes
+    public static final int MAGIC = 0x5453_5A59;
+
+    // Version of the format; tables of any other version are rejected. Version 2 held lone-player scores
+    public static final int VERSION = 3;
+
+    // Ids of the sections
+    public static final int PARAMETERS = 1;
+    public static final int OPTIMAL_VALUES = 2;
+
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int DIRECTORY_ENTRY_BYTES = 3 * Integer.BYTES;
+    private static final int SECTION_ALIGNMENT = Double.BYTES;
+
+    // Parameters section: the number of bitmasks and the number of categories
+    private static final int PARAMETERS_BYTES = 2 * Integer.BYTES;
+
+    // Largest table accepted from a stream
+    private static final int MAX_STREAM_BYTES = 1 << 24;
+
+    private final ByteBuffer buffer;
+    private final long checksum;
+
+    /**
+     * Constructs a table over a validated buffer.
+     *
+     * @param buffer   The whole table, little-endian.
+     * @param checksum The checksum of the table.
+     */
+    private StrategyTable(ByteBuffer buffer, long checksum) {
+        this.buffer = buffer;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Encodes the values of a solver into a table.
+     *
+     * @param solver The solver.
+     * @return A heap buffer holding the whole table, ready to be written.
+     */
+    public static ByteBuffer encode(OptimalSolver solver) {
+        int[] ids = {PARAMETERS, OPTIMAL_VALUES};
+        int[] lengths = {PARAMETERS_BYTES, OptimalSolver.STATE_COUNT * Double.BYTES};
+        int[] offsets = new int[ids.length];
+        int position = HEADER_BYTES + ids.length * DIRECTORY_ENTRY_BYTES;
+        for (int i = 0; i < ids.length; i++) {
+            position = align(position);
+            offsets[i] = position;
+            position += lengths[i];
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(position).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            int entry = HEADER_BYTES + i * DIRECTORY_ENTRY_BYTES;
+            buffer.putInt(entry, ids[i]).putInt(entry + 4, offsets[i]).putInt(entry + 8, lengths[i]);
+        }
+
+        buffer.putInt(offsets[0], OptimalSolver.STATE_COUNT)
+                .putInt(offsets[0] + Integer.BYTES, ScoreTable.CATEGORY_COUNT);
+        for (int open = 0; open < OptimalSolver.STATE_COUNT; open++) {
+            buffer.putDouble(offsets[1] + open * Double.BYTES, solver.getValue(open));
+        }
+
+        buffer.putInt(12, (int) checksumOf(buffer));
+        return buffer;
+    }
+
+    /**
+     * Writes the values of a solver to a table file, replacing any existing file.
+     *
+     * @param solver The solver.
+     * @param file   The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(OptimalSolver solver, Path file) throws IOException {
+        ByteBuffer buffer = encode(solver);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Maps a table file into memory, read-only.
+     *
+     * @param file The file to map.
+     * @return The table.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a valid table of this version.
+     */
+    public static StrategyTable map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Strategy table too large: " + channel.size() + " bytes");
+            }
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a table from a stream, such as an asset that cannot be mapped, into memory outside the heap.
+     *
+     * @param in The stream, read to its end but not closed.
+     * @return The table.
+     * @throws IOException              If the stream cannot be read.
+     * @throws IllegalArgumentException If the stream does not hold a valid table of this version.
+     */
+    public static StrategyTable read(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(MAX_STREAM_BYTES + 1);
+        if (bytes.length > MAX_STREAM_BYTES) {
+            throw new IllegalArgumentException("Strategy table larger than " + MAX_STREAM_BYTES + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return wrap(buffer);
+    }
+
+    /**
+     * Validates a table held in a buffer: its magic number, version, directory, checksum and parameters.
+     *
+     * @param buffer The whole table, from index 0 to its capacity; its position and limit are ignored.
+     * @return The table, reading the buffer in place.
+     * @throws IllegalArgumentException If the buffer does not hold a valid table of this version.
+     */
+    public static StrategyTable wrap(ByteBuffer buffer) {
+        ByteBuffer table = buffer.duplicate().clear().order(ByteOrder.LITTLE_ENDIAN);
+        if (table.capacity() < HEADER_BYTES || table.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a strategy table");
+        }
+        if (table.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported strategy table version " + table.getInt(4)
+                    + ", expected " + VERSION);
+        }
+        int sectionCount = table.getInt(8);
+        if (sectionCount < 0 || HEADER_BYTES + (long) sectionCount * DIRECTORY_ENTRY_BYTES > table.capacity()) {
+            throw new IllegalArgumentException("Corrupt strategy table directory");
+        }
+        long checksum = checksumOf(table);
+        if ((int) checksum != table.getInt(12)) {
+            throw new IllegalArgumentException("Strategy table checksum mismatch");
+        }
+
+        StrategyTable strategyTable = new StrategyTable(table, checksum);
+        ByteBuffer parameters = strategyTable.getSection(PARAMETERS, PARAMETERS_BYTES);
+        if (parameters.getInt(0) != OptimalSolver.STATE_COUNT
+                || parameters.getInt(Integer.BYTES) != ScoreTable.CATEGORY_COUNT) {
+            throw new IllegalArgumentException("Strategy table solved with other parameters");
+        }
+        strategyTable.getSection(OPTIMAL_VALUES, OptimalSolver.STATE_COUNT * Double.BYTES);
+        return strategyTable;
+    }
+
+    /**
+     * Returns the expected remaining score of every bitmask of open categories.
+     *
+     * @return A read-only view of the values, indexed by bitmask, reading the table in place.
+     */
+    public DoubleBuffer getOptimalValues() {
+        return getSection(OPTIMAL_VALUES, OptimalSolver.STATE_COUNT * Double.BYTES).asDoubleBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the checksum of the table.
+     *
+     * @return The CRC-32 of every byte after the header.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns the size of the table.
+     *
+     * @return The number of bytes of the whole table.
+     */
+    public int getByteCount() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Finds a section in the directory.
+     *
+     * @param id     The id of the section.
+     * @param length The length the section must have.
+     * @return A little-endian view of the section.
+     * @throws IllegalArgumentException If the section is missing, misplaced or of another length.
+     */
+    private ByteBuffer getSection(int id, int length) {
+        int sectionCount = buffer.getInt(8);
+        for (int i = 0; i < sectionCount; i++) {
+            int entry = HEADER_BYTES + i * DIRECTORY_ENTRY_BYTES;
+            if (buffer.getInt(entry) != id) {
+                continue;
+            }
+            int offset = buffer.getInt(entry + 4);
+            if (buffer.getInt(entry + 8) != length || offset < 0 || offset % SECTION_ALIGNMENT != 0
+                    || (long) offset + length > buffer.capacity()) {
+                throw new IllegalArgumentException("Corrupt strategy table section " + id);
+            }
+            ByteBuffer section = buffer.duplicate();
+            section.limit(offset + length).position(offset);
+            return section.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        throw new IllegalArgumentException("Strategy table has no section " + id);
+    }
+
+    /**
+     * Returns the CRC-32 of every byte of a table after its header.
+     */
+    private static long checksumOf(ByteBuffer table) {
+        CRC32 crc = new CRC32();
+        crc.update(table.duplicate().position(HEADER_BYTES));
+        return crc.getValue();
+    }
+
+    /**
+     * Rounds a position up to the alignment of a section.
+     */
+    private static int align(int position) {
+        return (position + SECTION_ALIGNMENT - 1) / SECTION_ALIGNMENT * SECTION_ALIGNMENT;
+    }
+}
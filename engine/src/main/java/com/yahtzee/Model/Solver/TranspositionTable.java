@@ -0,0 +1,267 @@
+package com.yahtzee.Model.Solver;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size, lock-free transposition table of searched positions, keyed by a 64-bit hash such as a
+ * {@link Zobrist} hash.
+ * <p>
+ * Each position maps to one slot of three words: a check word, the metadata (depth, bound and search
+ * generation) and the value. The check word is the exclusive or of the key and the other two words, so a
+ * slot torn by concurrent writes fails the check and reads as a miss instead of returning a wrong value.
+ * Threads therefore share the table without any lock, at the cost of an occasional lost entry.
+ * <p>
+ * When two positions map to the same slot, the {@link Replacement} policy decides which one stays.
+ * Probes, hits, stores and overwrites are counted to tell how well the table serves a search.
+ */
+public final class TranspositionTable {
+
+    // Default number of slots, three words each
+    public static final int DEFAULT_CAPACITY = 1 << 18;
+
+    // Kinds of bound an entry holds on the value of its position
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    // Largest depth an entry can hold
+    public static final int MAX_DEPTH = 0xFF;
+
+    // Layout of the metadata: a used flag, the depth, the bound and the generation
+    private static final long USED = 1L;
+    private static final int DEPTH_SHIFT = 1;
+    private static final int BOUND_SHIFT = 9;
+    private static final int GENERATION_SHIFT = 11;
+    private static final int GENERATION_MASK = 0xFF;
+
+    private static final int WORDS_PER_SLOT = 3;
+
+    /**
+     * How a store decides whether to overwrite the entry of another position in its slot.
+     */
+    public enum Replacement {
+        // The new entry always replaces the old one
+        ALWAYS,
+        // The old entry stays if it was searched deeper during the current generation
+        DEPTH_PREFERRED
+    }
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final Replacement replacement;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder overwrites = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Constructs an empty table with the default capacity, preferring deeper entries.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_CAPACITY, Replacement.DEPTH_PREFERRED);
+    }
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param capacity    The number of slots, rounded up to a power of two.
+     * @param replacement The replacement policy.
+     * @throws IllegalArgumentException If the capacity is not positive or too large.
+     */
+    public TranspositionTable(int capacity, Replacement replacement) {
+        if (capacity <= 0 || capacity > 1 << 28) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int slotCount = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AtomicLongArray(slotCount * WORDS_PER_SLOT);
+        this.mask = slotCount - 1;
+        this.replacement = replacement;
+    }
+
+    /**
+     * Starts a new generation, such as a new search. Entries of older generations may then be replaced
+     * by any entry, however deep they are.
+     */
+    public void newGeneration() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key The hash of the position.
+     * @return The entry of the position, or null if it is not in the table.
+     */
+    public Entry get(long key) {
+        probes.increment();
+        int slot = slotOf(key);
+        long check = slots.get(slot);
+        long meta = slots.get(slot + 1);
+        long value = slots.get(slot + 2);
+        if ((meta & USED) == 0 || (check ^ meta ^ value) != key) {
+            return null;
+        }
+        hits.increment();
+        return new Entry((int) (meta >>> DEPTH_SHIFT & MAX_DEPTH), (int) (meta >>> BOUND_SHIFT & 3),
+                Double.longBitsToDouble(value));
+    }
+
+    /**
+     * Stores the value of a position, unless the replacement policy keeps the entry already in its slot.
+     *
+     * @param key   The hash of the position.
+     * @param depth The depth the position was searched to, at most {@link #MAX_DEPTH}.
+     * @param bound The kind of bound the value is: {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}.
+     * @param value The value of the position.
+     * @return True if the value was stored.
+     */
+    public boolean put(long key, int depth, int bound, double value) {
+        int slot = slotOf(key);
+        long oldCheck = slots.get(slot);
+        long oldMeta = slots.get(slot + 1);
+        long oldValue = slots.get(slot + 2);
+        boolean used = (oldMeta & USED) != 0;
+        boolean samePosition = used && (oldCheck ^ oldMeta ^ oldValue) == key;
+
+        if (used && !samePosition && replacement == Replacement.DEPTH_PREFERRED
+                && (int) (oldMeta >>> GENERATION_SHIFT & GENERATION_MASK) == generation
+                && (int) (oldMeta >>> DEPTH_SHIFT & MAX_DEPTH) > depth) {
+            rejections.increment();
+            return false;
+        }
+
+        long meta = USED | (long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT | (long) bound << BOUND_SHIFT
+                | (long) generation << GENERATION_SHIFT;
+        long bits = Double.doubleToRawLongBits(value);
+        slots.set(slot + 1, meta);
+        slots.set(slot + 2, bits);
+        slots.set(slot, key ^ meta ^ bits);
+        stores.increment();
+        if (used && !samePosition) {
+            overwrites.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Removes every entry and resets the counters.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+        probes.reset();
+        hits.reset();
+        stores.reset();
+        overwrites.reset();
+        rejections.reset();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public Replacement getReplacement() {
+        return replacement;
+    }
+
+    /**
+     * Returns the number of slots holding an entry, by scanning the table.
+     *
+     * @return The number of used slots.
+     */
+    public int getOccupancy() {
+        int used = 0;
+        for (int slot = 0; slot < slots.length(); slot += WORDS_PER_SLOT) {
+            if ((slots.get(slot + 1) & USED) != 0) {
+                used++;
+            }
+        }
+        return used;
+    }
+
+    public long getProbeCount() {
+        return probes.sum();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getStoreCount() {
+        return stores.sum();
+    }
+
+    public long getOverwriteCount() {
+        return overwrites.sum();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * Returns the share of probes that found their position.
+     *
+     * @return The hit rate, between 0 and 1.
+     */
+    public double getHitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0 ? 0.0 : (double) hits.sum() / probeCount;
+    }
+
+    /**
+     * Returns a summary of the table counters.
+     *
+     * @return The occupancy and counters of the table.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "TranspositionTable: %d/%d slots, %d probes, %d hits (%.2f%%), %d stores, %d overwrites, %d rejections",
+                getOccupancy(), getCapacity(), getProbeCount(), getHitCount(), 100.0 * getHitRate(),
+                getStoreCount(), getOverwriteCount(), getRejectionCount());
+    }
+
+    /**
+     * Returns the index of the first word of the slot of a key, chosen from the high bits of the key.
+     */
+    private int slotOf(long key) {
+        return ((int) (key >>> 32) & mask) * WORDS_PER_SLOT;
+    }
+
+    /**
+     * An entry of the table: the value of a position, the depth it was searched to and the kind of bound.
+     */
+    public static final class Entry {
+        private final int depth;
+        private final int bound;
+        private final double value;
+
+        Entry(int depth, int bound, double value) {
+            this.depth = depth;
+            this.bound = bound;
+            this.value = value;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public int getBound() {
+            return bound;
+        }
+
+        public double getValue() {
+            return value;
+        }
+    }
+}
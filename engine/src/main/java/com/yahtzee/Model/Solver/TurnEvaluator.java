@@ -0,0 +1,235 @@
+package com.yahtzee.Model.Solver;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+import com.yahtzee.Model.TransitionTable;
+
+import java.util.Arrays;
+
+/**
+ * Evaluates a single turn of up to three rolls under optimal keep and stand decisions.
+ * <p>
+ * In this game kept dice stay kept for the rest of the turn, so the state after a roll is a pair of
+ * multisets: the dice kept before the roll and the outcome of the roll. After the first and second
+ * roll the player either stands, or keeps a proper part of the outcome and rolls the rest again; after
+ * the third roll the player must stand. A turn ends without scoring if, after keeping, none of the open
+ * categories is still a potential match for the kept dice.
+ * <p>
+ * The evaluator is given the value of standing with each of the 252 five-dice hands and the value of a
+ * turn that ends without scoring, and computes the value of every keep before the second and third
+ * roll as well as the value of the whole turn. It can also carry a slope alongside every value: the
+ * derivative of the value with respect to the value of ending without scoring, which is the
+ * probability of ending the turn without scoring under the chosen decisions.
+ * <p>
+ * Instances hold scratch arrays and are not thread-safe; use one evaluator per thread.
+ */
+public final class TurnEvaluator {
+
+    // Number of keeps that still leave dice to roll (multisets of zero to four dice)
+    static final int KEEP_COUNT = RollSpace.getOutcomesStart(RollSpace.DICE);
+
+    // Number of (kept, rolled) pairs, i.e. states after a roll; pair i is entry i of the TransitionTable
+    static final int PAIR_COUNT = TransitionTable.ENTRY_COUNT;
+
+    // Packed multiset of the rolled dice for each pair
+    static final int[] PAIR_OUTCOME = new int[PAIR_COUNT];
+
+    // First entry in SUB_KEEPS for each pair
+    static final int[] SUB_KEEP_START;
+
+    // Keeps reachable from each pair by keeping a proper part of the rolled dice
+    static final int[] SUB_KEEPS;
+
+    static {
+        SUB_KEEP_START = new int[PAIR_COUNT + 1];
+
+        int[] subKeeps = new int[PAIR_COUNT * 32];
+        int subKeepCount = 0;
+        int[] scratch = new int[32];
+        for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+            int kept = RollSpace.getCounts(keep);
+            int rolled = RollSpace.DICE - DiceCounts.size(kept);
+            int pair = TransitionTable.getRowStart(keep);
+            for (int outcome = RollSpace.getOutcomesStart(rolled); outcome < RollSpace.getOutcomesEnd(rolled); outcome++, pair++) {
+                int outcomeCounts = RollSpace.getCounts(outcome);
+                PAIR_OUTCOME[pair] = outcomeCounts;
+
+                SUB_KEEP_START[pair] = subKeepCount;
+                int parts = subMultisets(outcomeCounts, 1, DiceCounts.EMPTY, scratch, 0);
+                for (int i = 0; i < parts; i++) {
+                    if (scratch[i] != outcomeCounts) {
+                        subKeeps[subKeepCount++] = RollSpace.indexOf(DiceCounts.add(kept, scratch[i]));
+                    }
+                }
+            }
+        }
+        SUB_KEEP_START[PAIR_COUNT] = subKeepCount;
+        SUB_KEEPS = Arrays.copyOf(subKeeps, subKeepCount);
+    }
+
+    // Value and slope of each keep before the second roll
+    private final double[] secondRollValues = new double[KEEP_COUNT];
+    private final double[] secondRollSlopes = new double[KEEP_COUNT];
+
+    // Value and slope of each keep before the third roll
+    private final double[] thirdRollValues = new double[KEEP_COUNT];
+    private final double[] thirdRollSlopes = new double[KEEP_COUNT];
+
+    // Value and slope of the whole turn, before the first roll
+    private double turnValue;
+    private double turnSlope;
+
+    /**
+     * Collects every sub-multiset of a multiset, using faces from {@code face} to 6.
+     *
+     * @param counts   The multiset to take parts of.
+     * @param face     The lowest face still to be assigned a count.
+     * @param part     The part built so far.
+     * @param out      The array to collect parts into.
+     * @param position The next free position in the array.
+     * @return The next free position after collecting.
+     */
+    static int subMultisets(int counts, int face, int part, int[] out, int position) {
+        if (face > 6) {
+            out[position] = part;
+            return position + 1;
+        }
+        int shift = DiceCounts.FACE_BITS * (face - 1);
+        for (int count = 0; count <= DiceCounts.count(counts, face); count++) {
+            position = subMultisets(counts, face + 1, part + (count << shift), out, position);
+        }
+        return position;
+    }
+
+    /**
+     * Returns whether keeping the given dice ends the turn because none of the open categories is
+     * still a potential match. Keeping no dice never ends the turn.
+     *
+     * @param keep           The {@link RollSpace} index of the kept dice.
+     * @param openCategories The bitmask of open categories.
+     * @return True if the turn ends without scoring, false otherwise.
+     */
+    public static boolean isDeadKeep(int keep, int openCategories) {
+        return keep != 0 && (ScoreTable.getPotentialMask(keep) & openCategories) == 0;
+    }
+
+    /**
+     * Evaluates a turn.
+     *
+     * @param openCategories The bitmask of open categories, used to detect keeps that end the turn.
+     * @param handValues     The value of standing with each five-dice hand, by hand index.
+     * @param handSlopes     The slope of each hand value, or null to skip slope tracking.
+     * @param deadValue      The value of a turn that ends because of a dead keep.
+     * @return The value of the turn before the first roll.
+     */
+    public double evaluate(int openCategories, double[] handValues, double[] handSlopes, double deadValue) {
+        boolean slopes = handSlopes != null;
+
+        // Before the third roll: the outcome is always stood on
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            if (isDeadKeep(keep, openCategories)) {
+                thirdRollValues[keep] = deadValue;
+                thirdRollSlopes[keep] = 1.0;
+                continue;
+            }
+            thirdRollValues[keep] = TransitionTable.expectedValue(keep, handValues);
+            thirdRollSlopes[keep] = slopes ? TransitionTable.expectedValue(keep, handSlopes) : 0.0;
+        }
+
+        // Before the second roll: the outcome is stood on or partly kept for the third roll
+        for (int keep = 0; keep < KEEP_COUNT; keep++) {
+            if (isDeadKeep(keep, openCategories)) {
+                secondRollValues[keep] = deadValue;
+                secondRollSlopes[keep] = 1.0;
+                continue;
+            }
+            double value = 0.0;
+            double slope = 0.0;
+            for (int pair = TransitionTable.getRowStart(keep); pair < TransitionTable.getRowEnd(keep); pair++) {
+                int best = bestSubKeep(pair, thirdRollValues, handValues);
+                double probability = TransitionTable.getProbability(pair);
+                int hand = TransitionTable.getHand(pair);
+                value += probability * (best < 0 ? handValues[hand] : thirdRollValues[best]);
+                if (slopes) {
+                    slope += probability * (best < 0 ? handSlopes[hand] : thirdRollSlopes[best]);
+                }
+            }
+            secondRollValues[keep] = value;
+            secondRollSlopes[keep] = slope;
+        }
+
+        // Before the first roll: nothing is kept yet
+        double value = 0.0;
+        double slope = 0.0;
+        for (int pair = TransitionTable.getRowStart(0); pair < TransitionTable.getRowEnd(0); pair++) {
+            int best = bestSubKeep(pair, secondRollValues, handValues);
+            double probability = TransitionTable.getProbability(pair);
+            int hand = TransitionTable.getHand(pair);
+            value += probability * (best < 0 ? handValues[hand] : secondRollValues[best]);
+            if (slopes) {
+                slope += probability * (best < 0 ? handSlopes[hand] : secondRollSlopes[best]);
+            }
+        }
+        turnValue = value;
+        turnSlope = slope;
+        return value;
+    }
+
+    /**
+     * Finds the best way to continue from a pair: standing, or keeping a proper part of the rolled dice.
+     *
+     * @param pair       The pair to continue from.
+     * @param keepValues The value of each keep before the next roll.
+     * @param handValues The value of standing with each hand.
+     * @return The keep index of the best part to keep, or -1 if standing is best.
+     */
+    private static int bestSubKeep(int pair, double[] keepValues, double[] handValues) {
+        double bestValue = handValues[TransitionTable.getHand(pair)];
+        int best = -1;
+        for (int i = SUB_KEEP_START[pair]; i < SUB_KEEP_START[pair + 1]; i++) {
+            double value = keepValues[SUB_KEEPS[i]];
+            if (value > bestValue) {
+                bestValue = value;
+                best = SUB_KEEPS[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the value of the turn computed by the last call to {@link #evaluate}.
+     *
+     * @return The value of the turn before the first roll.
+     */
+    public double getTurnValue() {
+        return turnValue;
+    }
+
+    /**
+     * Returns the slope of the turn value computed by the last call to {@link #evaluate}.
+     *
+     * @return The probability of ending the turn without scoring, if slopes were tracked.
+     */
+    public double getTurnSlope() {
+        return turnSlope;
+    }
+
+    /**
+     * Returns the value of keeping some dice and rolling the rest, as computed by the last call to
+     * {@link #evaluate}.
+     *
+     * @param roll The number of the roll that follows the keep, 2 or 3.
+     * @param keep The {@link RollSpace} index of all kept dice, holding at most four dice.
+     * @return The value of the keep.
+     */
+    public double getKeepValue(int roll, int keep) {
+        if (roll == 2) {
+            return secondRollValues[keep];
+        }
+        if (roll == 3) {
+            return thirdRollValues[keep];
+        }
+        throw new IllegalArgumentException("Dice are only rolled again on roll 2 or 3, not " + roll);
+    }
+}
@@ -0,0 +1,173 @@
+package com.yahtzee.Model.Solver;
+
+import com.yahtzee.Model.GameState;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys of game positions, for transposition tables.
+ * <p>
+ * Every feature of a position has a fixed random key, and the hash of a position is the exclusive or
+ * of the keys of its features. Positions reached through different move orders hash the same, and a
+ * search can update a hash move by move by toggling the keys that change. The features are the open
+ * categories, the owner of each filled category, the score differential, the player to move and whether
+ * the other player moves after them, the roll number and the kept and rolled dice. A search hashes only
+ * the features its positions depend on.
+ */
+public final class Zobrist {
+
+    // Largest score differential that has a key, either way
+    public static final int MAX_SCORE_DIFF = 1023;
+
+    // Seed of the keys, fixed so that hashes are the same from run to run
+    private static final long SEED = 0x5A0B_415BL;
+
+    private static final long[] OPEN = new long[ScoreTable.CATEGORY_COUNT];
+    private static final long[][] OWNER = new long[2][ScoreTable.CATEGORY_COUNT];
+    private static final long[] SCORE_DIFF = new long[2 * MAX_SCORE_DIFF + 1];
+    private static final long[] MOVER = new long[2];
+    private static final long[] NEXT_PLAYER = new long[1];
+    private static final long[] ROLL = new long[4];
+    private static final long[] KEPT = new long[RollSpace.MULTISET_COUNT];
+    private static final long[] ROLLED = new long[RollSpace.MULTISET_COUNT];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] keys : new long[][]{OPEN, OWNER[0], OWNER[1], SCORE_DIFF, MOVER, NEXT_PLAYER, ROLL, KEPT, ROLLED}) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of every open category of a bitmask.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @return The exclusive or of the keys of the open categories.
+     */
+    public static long open(int openCategories) {
+        long hash = 0;
+        for (int remaining = openCategories; remaining != 0; remaining &= remaining - 1) {
+            hash ^= OPEN[Integer.numberOfTrailingZeros(remaining)];
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the key of a filled category and the player who filled it.
+     *
+     * @param category The index of the category.
+     * @param owner    The index of the player, {@link GameState#FIRST} or {@link GameState#SECOND}.
+     * @return The key.
+     */
+    public static long owner(int category, int owner) {
+        return OWNER[owner][category];
+    }
+
+    /**
+     * Returns the key of a score differential. A search that only needs a rough differential passes a
+     * bucket of differentials instead, such as the differential divided by a bucket width.
+     *
+     * @param scoreDiff The score differential or its bucket, at most {@link #MAX_SCORE_DIFF} either way.
+     * @return The key.
+     * @throws IllegalArgumentException If the differential is out of range.
+     */
+    public static long scoreDiff(int scoreDiff) {
+        if (scoreDiff < -MAX_SCORE_DIFF || scoreDiff > MAX_SCORE_DIFF) {
+            throw new IllegalArgumentException("Score differential out of range: " + scoreDiff);
+        }
+        return SCORE_DIFF[scoreDiff + MAX_SCORE_DIFF];
+    }
+
+    /**
+     * Returns the key of the player to move.
+     *
+     * @param player The index of the player; for searches from the point of view of the player to move,
+     *               {@link GameState#SECOND} marks the second player to move in the round.
+     * @return The key.
+     */
+    public static long mover(int player) {
+        return MOVER[player];
+    }
+
+    /**
+     * Returns the key marking that the other player moves after the player to move in the round.
+     *
+     * @return The key.
+     */
+    public static long nextPlayer() {
+        return NEXT_PLAYER[0];
+    }
+
+    /**
+     * Returns the key of a roll number.
+     *
+     * @param roll The roll number, from 0 to 3.
+     * @return The key.
+     */
+    public static long roll(int roll) {
+        return ROLL[roll];
+    }
+
+    /**
+     * Returns the key of the kept dice.
+     *
+     * @param kept The packed multiset of kept dice.
+     * @return The key.
+     */
+    public static long kept(int kept) {
+        return KEPT[RollSpace.indexOf(kept)];
+    }
+
+    /**
+     * Returns the key of the rolled dice.
+     *
+     * @param rolled The packed multiset of dice rolled and not yet kept.
+     * @return The key.
+     */
+    public static long rolled(int rolled) {
+        return ROLLED[RollSpace.indexOf(rolled)];
+    }
+
+    /**
+     * Returns the hash of a position between turns, as seen by the player to move: the open categories,
+     * the score differential and whether the player moves second in the round.
+     *
+     * @param openCategories The bitmask of open categories.
+     * @param scoreDiff      The total of the player to move minus the total of the opponent.
+     * @param second         True if the opponent has already played this round.
+     * @return The hash.
+     */
+    public static long hash(int openCategories, int scoreDiff, boolean second) {
+        return open(openCategories) ^ scoreDiff(scoreDiff) ^ MOVER[second ? 1 : 0];
+    }
+
+    /**
+     * Returns the hash of every feature of a game state.
+     *
+     * @param state The game state.
+     * @return The hash.
+     */
+    public static long hash(GameState state) {
+        long hash = open(state.getOpenCategories())
+                ^ scoreDiff(state.getTotalScore(GameState.FIRST) - state.getTotalScore(GameState.SECOND))
+                ^ ROLL[state.getRoll()] ^ kept(state.getKept()) ^ rolled(state.getRolled());
+        for (int filled = ~state.getOpenCategories() & ScoreTable.ALL_CATEGORIES_MASK; filled != 0; filled &= filled - 1) {
+            int category = Integer.numberOfTrailingZeros(filled);
+            hash ^= OWNER[state.getOwner(category)][category];
+        }
+        if (state.hasNextPlayer()) {
+            hash ^= NEXT_PLAYER[0];
+        }
+        return state.getMover() == GameState.NO_PLAYER ? hash : hash ^ MOVER[state.getMover()];
+    }
+}
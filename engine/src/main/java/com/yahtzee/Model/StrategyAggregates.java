@@ -0,0 +1,122 @@
+package com.yahtzee.Model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The aggregates of every {@link StrategyNode} for one bitmask of categories: the expected highest score
+ * of the categories once the dice missing from the node's path are rolled, and the best leaf below the node.
+ * <p>
+ * Both aggregates only depend on the multiset of the dice on the node's path, not on their order, so they
+ * are stored by {@link RollSpace} index. The best leaf is the first leaf, in id order, reaching the highest
+ * score of the categories, and is stored as its offset among the leaves below the node; it is found by
+ * dynamic programming from the five-dice hands up, each node taking the first best of its six children.
+ * <p>
+ * The strategy tree never changes, so aggregates are never invalidated. They are built on first use for a
+ * bitmask and kept in a small shared cache that drops the least recently used bitmask once full.
+ */
+final class StrategyAggregates {
+
+    // Number of bitmasks whose aggregates are kept
+    static final int CACHE_CAPACITY = 256;
+
+    // Aggregates of the most recently used bitmasks, in access order, guarded by its own monitor
+    private static final Map<Integer, StrategyAggregates> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, StrategyAggregates> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    // Number of leaves below a node of each depth, or of dice still missing from its path (6^missing)
+    private static final int[] LEAF_COUNTS = new int[StrategyTree.DEPTH + 1];
+
+    static {
+        LEAF_COUNTS[0] = 1;
+        for (int missing = 1; missing <= StrategyTree.DEPTH; missing++) {
+            LEAF_COUNTS[missing] = LEAF_COUNTS[missing - 1] * StrategyTree.FACES;
+        }
+    }
+
+    // Expected highest score of the categories for each multiset of kept dice
+    private final double[] expectedValues = new double[RollSpace.MULTISET_COUNT];
+
+    // Offset of the best leaf among the leaves below a node, for each multiset of dice on its path
+    private final int[] bestLeafOffsets = new int[RollSpace.MULTISET_COUNT];
+
+    /**
+     * Builds the aggregates of a bitmask of categories.
+     *
+     * @param categories The bitmask of categories, see {@link ScoreTable#maskOf(java.util.List)}.
+     */
+    private StrategyAggregates(int categories) {
+        int firstHand = RollSpace.getOutcomesStart(RollSpace.DICE);
+        double[] handScores = new double[RollSpace.HAND_COUNT];
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            handScores[hand] = ScoreTable.getMaxScore(categories, firstHand + hand);
+        }
+        TransitionTable.expectedValues(handScores, expectedValues);
+
+        // The best score reachable below each multiset, filled from the largest multisets down
+        int[] bestScores = new int[RollSpace.MULTISET_COUNT];
+        for (int multiset = RollSpace.MULTISET_COUNT - 1; multiset >= 0; multiset--) {
+            int counts = RollSpace.getCounts(multiset);
+            int missing = RollSpace.DICE - DiceCounts.size(counts);
+            if (missing == 0) {
+                bestScores[multiset] = ScoreTable.getMaxScore(categories, multiset);
+                continue;
+            }
+            int bestScore = -1;
+            for (int face = 1; face <= StrategyTree.FACES; face++) {
+                int child = RollSpace.indexOf(DiceCounts.withDie(counts, face));
+                if (bestScores[child] > bestScore) {
+                    bestScore = bestScores[child];
+                    bestLeafOffsets[multiset] = (face - 1) * LEAF_COUNTS[missing - 1] + bestLeafOffsets[child];
+                }
+            }
+            bestScores[multiset] = bestScore;
+        }
+    }
+
+    /**
+     * Returns the aggregates of a bitmask of categories, building them if they are not cached.
+     * Two threads missing the same bitmask at once may both build it, which is harmless since the
+     * aggregates of a bitmask are always the same.
+     *
+     * @param categories The bitmask of categories.
+     * @return The aggregates of the bitmask.
+     */
+    static StrategyAggregates of(int categories) {
+        StrategyAggregates aggregates;
+        synchronized (CACHE) {
+            aggregates = CACHE.get(categories);
+        }
+        if (aggregates == null) {
+            aggregates = new StrategyAggregates(categories);
+            synchronized (CACHE) {
+                CACHE.put(categories, aggregates);
+            }
+        }
+        return aggregates;
+    }
+
+    /**
+     * Returns the expected highest score of the categories once the dice missing from a multiset are rolled.
+     *
+     * @param multiset The {@link RollSpace} index of the kept dice.
+     * @return The expected highest score.
+     */
+    double getExpectedValue(int multiset) {
+        return expectedValues[multiset];
+    }
+
+    /**
+     * Returns the offset of the best leaf among the leaves below a node.
+     *
+     * @param multiset The {@link RollSpace} index of the dice on the node's path.
+     * @return The offset, from 0 to the leaf count of the node minus one.
+     */
+    int getBestLeafOffset(int multiset) {
+        return bestLeafOffsets[multiset];
+    }
+}
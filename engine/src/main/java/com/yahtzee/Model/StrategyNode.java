@@ -0,0 +1,346 @@
+package com.yahtzee.Model;
+
+import androidx.annotation.NonNull;
+
+import com.yahtzee.Model.Solver.CategoryOdds;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This class represents a node in the strategy tree used for decision-making in the Yahtzee game.
+ * A node is a lightweight view over a node id of a {@link StrategyTree}; the tree structure itself
+ * is implicit in the id, so nodes hold no children or parent references and can be created freely.
+ */
+public class StrategyNode {
+
+    // Probability of each category being valid once the dice missing from a multiset are rolled,
+    // indexed by category then RollSpace index of the kept dice
+    private static final double[][] PROBABILITIES = new double[ScoreTable.CATEGORY_COUNT][RollSpace.MULTISET_COUNT];
+
+    // Expected valid score of each category once the dice missing from a multiset are rolled, zero when invalid
+    private static final double[][] EXPECTED_VALUES = new double[ScoreTable.CATEGORY_COUNT][RollSpace.MULTISET_COUNT];
+
+    static {
+        double[][] handValid = new double[ScoreTable.CATEGORY_COUNT][RollSpace.HAND_COUNT];
+        double[][] handScores = new double[ScoreTable.CATEGORY_COUNT][RollSpace.HAND_COUNT];
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            int multiset = RollSpace.indexOf(RollSpace.getHand(hand));
+            for (int valid = ScoreTable.getValidMask(multiset); valid != 0; valid &= valid - 1) {
+                int category = Integer.numberOfTrailingZeros(valid);
+                handValid[category][hand] = 1.0;
+                handScores[category][hand] = ScoreTable.getScore(category, multiset);
+            }
+        }
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            TransitionTable.expectedValues(handValid[category], PROBABILITIES[category]);
+            TransitionTable.expectedValues(handScores[category], EXPECTED_VALUES[category]);
+        }
+    }
+
+    private final StrategyTree tree;
+    private final int id;
+
+    /**
+     * Constructs a view of the node with the given id in the given tree.
+     *
+     * @param tree the tree the node belongs to
+     * @param id   the id of the node within the tree
+     */
+    StrategyNode(StrategyTree tree, int id) {
+        this.tree = tree;
+        this.id = id;
+    }
+
+    /**
+     * Returns the root node of the strategy tree this node belongs to.
+     *
+     * @return The root node of the strategy tree
+     */
+    public StrategyNode getRoot() {
+        return tree.getRoot();
+    }
+
+    /**
+     * Returns a string representation of the path from the root node to the current node, formatted
+     * as a series of values separated by " -> ".
+     *
+     * @return A string representing the path from the root to the current node.
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        return getPath().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(" -> "));
+    }
+
+    /**
+     * Compares this node to another object for equality.
+     * Two nodes are equal if they are views of the same node of the same tree.
+     *
+     * @param obj The object to compare this node to.
+     * @return True if both refer to the same node, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof StrategyNode)) {
+            return false;
+        }
+        StrategyNode other = (StrategyNode) obj;
+        return tree == other.tree && id == other.id;
+    }
+
+    /**
+     * Returns a hash code value for the node, which is its id.
+     *
+     * @return The hash code of the node.
+     */
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    /**
+     * Returns the id of the node within its tree.
+     *
+     * @return the id of the node
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the depth of the node, i.e. the number of dice on its path.
+     *
+     * @return the depth of the node
+     */
+    public int getDepth() {
+        return tree.getDepth(id);
+    }
+
+    /**
+     * Returns whether the current node is a leaf node, i.e., it has no children.
+     *
+     * @return true if the node is a leaf, false otherwise
+     */
+    public boolean isLeaf() {
+        return tree.isLeaf(id);
+    }
+
+    /**
+     * Returns the parent of the current node, if it exists.
+     *
+     * @return an Optional containing the parent node, or an empty Optional for the root
+     */
+    public Optional<StrategyNode> getParent() {
+        int parent = tree.getParent(id);
+        return parent < 0 ? Optional.empty() : Optional.of(tree.getNode(parent));
+    }
+
+    /**
+     * Returns the child node with the specified value, if it exists.
+     *
+     * @param value the value of the child node to retrieve
+     * @return an Optional containing the child node, or an empty Optional if no such child exists
+     */
+    public Optional<StrategyNode> getChild(int value) {
+        int child = tree.getChild(id, value);
+        return child < 0 ? Optional.empty() : Optional.of(tree.getNode(child));
+    }
+
+    /**
+     * Retrieves the child node corresponding to a specific path of values.
+     * The path is a sequence of dice values, and this method navigates through the tree to find the
+     * corresponding node.
+     *
+     * @param path A list of integers representing the path to the desired child node.
+     * @return An Optional containing the node at the specified path, or an empty Optional if not found.
+     */
+    public Optional<StrategyNode> getChild(List<Integer> path) {
+        int current = id;
+        for (int value : path) {
+            current = tree.getChild(current, value);
+            if (current < 0) return Optional.empty();
+        }
+        return Optional.of(tree.getNode(current));
+    }
+
+    /**
+     * Returns the children of the current node, ordered by value.
+     *
+     * @return A list of the child nodes, empty for a leaf.
+     */
+    public List<StrategyNode> getChildren() {
+        if (isLeaf()) {
+            return List.of();
+        }
+        List<StrategyNode> children = new ArrayList<>(StrategyTree.FACES);
+        for (int value = 1; value <= StrategyTree.FACES; value++) {
+            children.add(tree.getNode(tree.getChild(id, value)));
+        }
+        return children;
+    }
+
+    /**
+     * Returns the path from the root node to the current node as a list of values.
+     *
+     * @return A list of integers representing the path from the root to the current node.
+     */
+    public List<Integer> getPath() {
+        int[] dice = new int[StrategyTree.DEPTH];
+        int depth = tree.getPath(id, dice);
+        return IntStream.of(dice).limit(depth).boxed().collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the value of the current node.
+     *
+     * @return the value of the node
+     */
+    public int getValue() {
+        return tree.getValue(id);
+    }
+
+    /**
+     * Returns the dice on the path from the root to the current node as a packed multiset.
+     *
+     * @return The multiset of the dice on the path, see {@link DiceCounts}.
+     */
+    public int getCounts() {
+        int[] dice = new int[StrategyTree.DEPTH];
+        int depth = tree.getPath(id, dice);
+        int counts = DiceCounts.EMPTY;
+        for (int i = 0; i < depth; i++) {
+            counts = DiceCounts.withDie(counts, dice[i]);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the probability that the given category is valid once the remaining dice of this
+     * node's path are rolled. The probability of every multiset of kept dice is computed once, as the
+     * product of its row of the {@link TransitionTable} with the validity of the category in each hand.
+     *
+     * @param category The category to evaluate.
+     * @return The probability that the category will be valid.
+     */
+    public double getProbability(Category category) {
+        return PROBABILITIES[ScoreTable.indexOf(category)][RollSpace.indexOf(getCounts())];
+    }
+
+    /**
+     * Calculates the expected score based on the current path and a given category. The expected score
+     * of every multiset of kept dice is computed once, as the product of its row of the
+     * {@link TransitionTable} with the valid score of the category in each hand.
+     *
+     * @param category The category to evaluate.
+     * @return The expected score for the current path and category.
+     */
+    public double getExpectedValue(Category category) {
+        return EXPECTED_VALUES[ScoreTable.indexOf(category)][RollSpace.indexOf(getCounts())];
+    }
+
+    /**
+     * Returns the probability that the given category is valid at the end of the turn, when the dice of
+     * this node's path are kept and the others re-kept optimally over the rolls left.
+     *
+     * @param category  The category to evaluate.
+     * @param rollsLeft The number of rolls left in the turn, from 1 to 2, or 3 at the root.
+     * @return The probability that the category will be valid, see {@link CategoryOdds}.
+     */
+    public double getProbability(Category category, int rollsLeft) {
+        return CategoryOdds.getInstance().getProbability(ScoreTable.indexOf(category), getCounts(), rollsLeft);
+    }
+
+    /**
+     * Calculates the expected score of a category at the end of the turn, when the dice of this node's
+     * path are kept and the others re-kept optimally over the rolls left.
+     *
+     * @param category  The category to evaluate.
+     * @param rollsLeft The number of rolls left in the turn, from 1 to 2, or 3 at the root.
+     * @return The expected score, counting invalid hands as zero, see {@link CategoryOdds}.
+     */
+    public double getExpectedValue(Category category, int rollsLeft) {
+        return CategoryOdds.getInstance().getExpectedScore(ScoreTable.indexOf(category), getCounts(), rollsLeft);
+    }
+
+    /**
+     * Calculates the expected score for a list of categories, selecting the maximum score across all categories.
+     * Each hand of the node's row of the {@link TransitionTable} is weighted by its probability and scored
+     * with the highest score across the categories; the result is memoized for the bitmask of the categories,
+     * see {@link StrategyAggregates}.
+     *
+     * @param categories A list of categories to evaluate.
+     * @return The expected score for the current path and categories.
+     */
+    public double getExpectedValue(List<Category> categories) {
+        return StrategyAggregates.of(ScoreTable.maskOf(categories)).getExpectedValue(RollSpace.indexOf(getCounts()));
+    }
+
+    /**
+     * Returns the best descendant node based on a given category.
+     * The best descendant is the first leaf below this node with the highest score for the given category.
+     *
+     * @param category The category to evaluate.
+     * @return The best descendant node based on the category.
+     */
+    public StrategyNode getBestDescendant(Category category) {
+        return getBestLeaf(1 << ScoreTable.indexOf(category));
+    }
+
+    /**
+     * Returns the best descendant node based on a list of categories.
+     * The best descendant is the first leaf below this node with the highest score across all categories.
+     *
+     * @param categories A list of categories to evaluate.
+     * @return The best descendant node based on the categories.
+     */
+    public StrategyNode getBestDescendant(List<Category> categories) {
+        return getBestLeaf(ScoreTable.maskOf(categories));
+    }
+
+    /**
+     * Returns the first leaf below this node with the highest score across a bitmask of categories,
+     * from the memoized aggregates of the bitmask.
+     *
+     * @param categories The bitmask of categories.
+     * @return The best leaf, or this node if it is a leaf.
+     */
+    private StrategyNode getBestLeaf(int categories) {
+        if (isLeaf()) {
+            return this;
+        }
+        int offset = StrategyAggregates.of(categories).getBestLeafOffset(RollSpace.indexOf(getCounts()));
+        return tree.getNode(tree.getFirstLeaf(id) + offset);
+    }
+
+    /**
+     * Returns the leaf nodes of the current node. The returned list is a read-only view over the
+     * contiguous range of leaf ids below this node; leaf nodes are created as they are accessed.
+     *
+     * @return A list of leaf nodes.
+     */
+    public List<StrategyNode> getLeafNodes() {
+        int firstLeaf = tree.getFirstLeaf(id);
+        int leafCount = tree.getLeafCount(id);
+        return new AbstractList<>() {
+            @Override
+            public StrategyNode get(int index) {
+                if (index < 0 || index >= leafCount) {
+                    throw new IndexOutOfBoundsException("Leaf index " + index + " out of range " + leafCount);
+                }
+                return tree.getNode(firstLeaf + index);
+            }
+
+            @Override
+            public int size() {
+                return leafCount;
+            }
+        };
+    }
+}
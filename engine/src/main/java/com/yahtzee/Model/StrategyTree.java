@@ -0,0 +1,189 @@
+package com.yahtzee.Model;
+
+/**
+ * This class represents a strategy tree used for decision-making in the Yahtzee game.
+ * The tree is a complete 6-ary tree of depth 5 where each node represents a sequence of dice values.
+ * Instead of linking node objects together, every node is addressed by an integer id computed from
+ * its base-6 dice path, and its depth and value are stored in primitive arrays. {@link StrategyNode}
+ * objects are lightweight views over an id and are created on demand.
+ * <p>
+ * Nodes are laid out level by level: the root has id 0, the nodes at depth 1 follow, and so on.
+ * Within a level, nodes are ordered by their dice path read as a base-6 number, so the leaves
+ * below any node always occupy one contiguous range of ids.
+ */
+public class StrategyTree {
+
+    // Number of faces on a die, which is also the branching factor of the tree
+    public static final int FACES = 6;
+
+    // Number of dice in a roll, which is also the depth of the tree
+    public static final int DEPTH = 5;
+
+    // Id of the first node at each depth, plus the total node count as the last entry
+    private static final int[] LEVEL_OFFSETS = new int[DEPTH + 2];
+
+    // Number of nodes at each depth (6^depth)
+    private static final int[] LEVEL_SIZES = new int[DEPTH + 1];
+
+    static {
+        int size = 1;
+        for (int depth = 0; depth <= DEPTH; depth++) {
+            LEVEL_SIZES[depth] = size;
+            LEVEL_OFFSETS[depth + 1] = LEVEL_OFFSETS[depth] + size;
+            size *= FACES;
+        }
+    }
+
+    // Depth of each node, indexed by node id
+    private final byte[] depths;
+
+    // Dice value of each node, indexed by node id (0 for the root)
+    private final byte[] values;
+
+    private final StrategyNode root;
+
+    /**
+     * Constructs a new StrategyTree. It fills the depth and value arrays for every node of the tree.
+     * A tree is never modified afterwards, so one instance can be shared freely between threads.
+     */
+    public StrategyTree() {
+        int nodeCount = LEVEL_OFFSETS[DEPTH + 1];
+        depths = new byte[nodeCount];
+        values = new byte[nodeCount];
+
+        for (int depth = 1; depth <= DEPTH; depth++) {
+            for (int index = 0; index < LEVEL_SIZES[depth]; index++) {
+                int id = LEVEL_OFFSETS[depth] + index;
+                depths[id] = (byte) depth;
+                values[id] = (byte) (index % FACES + 1);
+            }
+        }
+
+        root = new StrategyNode(this, 0);
+    }
+
+    /**
+     * Returns the root node of the strategy tree.
+     *
+     * @return the root node of the strategy tree
+     */
+    public StrategyNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns a view of the node with the given id.
+     *
+     * @param id the id of the node
+     * @return the node with the given id
+     */
+    public StrategyNode getNode(int id) {
+        return id == 0 ? root : new StrategyNode(this, id);
+    }
+
+    /**
+     * Returns the total number of nodes in the tree.
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return depths.length;
+    }
+
+    /**
+     * Returns the depth of a node, i.e. the number of dice on its path.
+     *
+     * @param id the id of the node
+     * @return the depth of the node
+     */
+    public int getDepth(int id) {
+        return depths[id];
+    }
+
+    /**
+     * Returns the dice value of a node.
+     *
+     * @param id the id of the node
+     * @return the value of the node, or 0 for the root
+     */
+    public int getValue(int id) {
+        return values[id];
+    }
+
+    /**
+     * Returns whether a node is a leaf.
+     *
+     * @param id the id of the node
+     * @return true if the node has no children, false otherwise
+     */
+    public boolean isLeaf(int id) {
+        return depths[id] == DEPTH;
+    }
+
+    /**
+     * Returns the id of the parent of a node.
+     *
+     * @param id the id of the node
+     * @return the id of the parent node, or -1 for the root
+     */
+    public int getParent(int id) {
+        int depth = depths[id];
+        if (depth == 0) return -1;
+        int index = id - LEVEL_OFFSETS[depth];
+        return LEVEL_OFFSETS[depth - 1] + index / FACES;
+    }
+
+    /**
+     * Returns the id of the child of a node reached by the given dice value.
+     *
+     * @param id    the id of the node
+     * @param value the dice value of the child (1 to 6)
+     * @return the id of the child node, or -1 if the node is a leaf or the value is not a dice value
+     */
+    public int getChild(int id, int value) {
+        int depth = depths[id];
+        if (depth == DEPTH || value < 1 || value > FACES) return -1;
+        int index = id - LEVEL_OFFSETS[depth];
+        return LEVEL_OFFSETS[depth + 1] + index * FACES + value - 1;
+    }
+
+    /**
+     * Returns the id of the first leaf below a node. The leaves below a node occupy the ids
+     * from this value up to, but excluding, this value plus {@link #getLeafCount(int)}.
+     *
+     * @param id the id of the node
+     * @return the id of the first leaf below the node
+     */
+    public int getFirstLeaf(int id) {
+        int depth = depths[id];
+        int index = id - LEVEL_OFFSETS[depth];
+        return LEVEL_OFFSETS[DEPTH] + index * LEVEL_SIZES[DEPTH - depth];
+    }
+
+    /**
+     * Returns the number of leaves below a node.
+     *
+     * @param id the id of the node
+     * @return the number of leaves below the node (1 for a leaf)
+     */
+    public int getLeafCount(int id) {
+        return LEVEL_SIZES[DEPTH - depths[id]];
+    }
+
+    /**
+     * Writes the dice path from the root to a node into the given array.
+     *
+     * @param id   the id of the node
+     * @param dice the array to fill; must hold at least {@link #getDepth(int)} entries
+     * @return the number of dice written
+     */
+    public int getPath(int id, int[] dice) {
+        int depth = depths[id];
+        int index = id - LEVEL_OFFSETS[depth];
+        for (int position = depth - 1; position >= 0; position--) {
+            dice[position] = index % FACES + 1;
+            index /= FACES;
+        }
+        return depth;
+    }
+}
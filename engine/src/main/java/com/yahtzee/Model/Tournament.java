@@ -3,6 +3,12 @@ package com.yahtzee.Model;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.yahtzee.Model.Dice.DiceSource;
+import com.yahtzee.Model.Dice.SplittableDiceSource;
+import com.yahtzee.Model.Solver.DecisionCache;
+import com.yahtzee.Model.Solver.ExpectimaxSearch;
+import com.yahtzee.Model.Solver.MonteCarloSearch;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
@@ -13,15 +19,10 @@ import java.util.stream.Collectors;
  * Handles player turns, rounds, dice rolls, and scorecard updates.
  */
 public class Tournament {
-    private static Tournament instance;
-
     // List of players participating in the tournament
-    private final List<Player> players = new ArrayList<>(List.of(
-            new Player("Human", false),
-            new Player("Computer", true)
-    ));
+    private final List<Player> players;
     private ScoreCard scoreCard = new ScoreCard();
-    private final DiceRoll diceRoll = new DiceRoll();
+    private final DiceRoll diceRoll;
 
     // Current round number
     private int currentRound;
@@ -41,42 +42,51 @@ public class Tournament {
     // Queue for determining the order of players
     private Queue<Player> turnOrder;
 
-    /**
-     * Private constructor for the singleton pattern.
-     * Initializes a new tournament with default settings.
-     */
-    private Tournament() {
-        currentRound = 1;
-        currentTurn = 1;
-        ScoreCard scoreCard = new ScoreCard();
-    }
+    // Strategy used by the AI for help and for the computer player's decisions
+    private AI.Mode aiMode = AI.Mode.HEURISTIC;
+
+    // Log of the game
+    private final Logger logger = new Logger();
+
+    // Search used by the AI in EXPECTIMAX mode, created on first use in the common pool
+    private ExpectimaxSearch search;
+
+    // Search used by the AI in MONTE_CARLO mode, created on first use in the common pool
+    private MonteCarloSearch monteCarloSearch;
+
+    // Cache of the AI decisions in HEURISTIC and OPTIMAL modes, shared with other games by default
+    private DecisionCache decisionCache = DecisionCache.getInstance();
 
     /**
-     * Returns the singleton instance of the Tournament class.
-     *
-     * @return the Tournament instance
+     * Constructs a new game between the human and the computer with default settings.
      */
-    public static Tournament getInstance() {
-        if (instance == null) {
-            instance = new Tournament();
-        }
-        return instance;
+    public Tournament() {
+        this(new Player("Human", false), new Player("Computer", true), new SplittableDiceSource());
     }
 
     /**
-     * Starts a new game by creating a new instance of the Tournament class.
+     * Constructs a new game between two players.
+     * Every game owns its scorecard, dice, dice source and log, so any number of games can be played
+     * at the same time as long as each game is used by one thread at a time.
+     *
+     * @param first  the first player
+     * @param second the second player
+     * @param source the source the dice draw their rolls from
      */
-    public static void startNewGame() {
-        instance = new Tournament();
-        Logger.log("New game started");
+    public Tournament(Player first, Player second, DiceSource source) {
+        players = new ArrayList<>(List.of(first, second));
+        diceRoll = new DiceRoll(source);
+        currentRound = 1;
+        currentTurn = 1;
     }
 
     /**
-     * Loads a game from a serialized string.
+     * Loads a game between the human and the computer from a serialized string.
      *
      * @param gameString the serialized game string
+     * @return the loaded game
      */
-    public static void setFromString(String gameString) {
+    public static Tournament fromString(String gameString) {
         List<String> lines = gameString.lines().collect(Collectors.toList());
 
         int roundNumber = 1;
@@ -101,13 +111,14 @@ public class Tournament {
         Player computer = new Player("Computer", true);
         ScoreCard scoreCard = ScoreCard.fromString(scorecardSerial, human, computer);
 
-        instance = new Tournament();
-        instance.setScoreCard(scoreCard);
-        instance.setCurrentRound(roundNumber);
+        Tournament tournament = new Tournament();
+        tournament.setScoreCard(scoreCard);
+        tournament.setCurrentRound(roundNumber);
 
-        Logger.log("Game loaded from serial");
+        tournament.logger.log("Game loaded from serial");
 
-        instance.determinePlayerOrder();
+        tournament.determinePlayerOrder();
+        return tournament;
     }
 
     @NonNull
@@ -136,6 +147,10 @@ public class Tournament {
         return players;
     }
 
+    public Logger getLogger() {
+        return logger;
+    }
+
 
     public int getCurrentRound() {
         return currentRound;
@@ -163,27 +178,68 @@ public class Tournament {
         return currentHelp;
     }
 
+    public AI.Mode getAiMode() {
+        if (currentPlayer != null && currentPlayer.getAiMode() != null) {
+            return currentPlayer.getAiMode();
+        }
+        return aiMode;
+    }
+
+    public void setAiMode(AI.Mode aiMode) {
+        this.aiMode = aiMode;
+    }
+
+    public ExpectimaxSearch getSearch() {
+        if (search == null) {
+            search = new ExpectimaxSearch();
+        }
+        return search;
+    }
+
+    public void setSearch(ExpectimaxSearch search) {
+        this.search = search;
+    }
+
+    public MonteCarloSearch getMonteCarloSearch() {
+        if (monteCarloSearch == null) {
+            monteCarloSearch = new MonteCarloSearch();
+        }
+        return monteCarloSearch;
+    }
+
+    public void setMonteCarloSearch(MonteCarloSearch monteCarloSearch) {
+        this.monteCarloSearch = monteCarloSearch;
+    }
+
+    public DecisionCache getDecisionCache() {
+        return decisionCache;
+    }
+
+    public void setDecisionCache(DecisionCache decisionCache) {
+        this.decisionCache = decisionCache;
+    }
+
 
     /**
      * Handles a player's decision to stand, ending their turn.
      * Logs dice rolls and calculates available categories.
      */
     public void stand() {
-        Logger.log(currentPlayer.getName() + " rolls " + diceRoll.getRolledDiceValues());
-        Logger.log(currentPlayer.getName() + " keeps dice: " + diceRoll.getRolledDiceValues());
+        logger.log(currentPlayer.getName() + " rolls " + diceRoll.getRolledDiceValues());
+        logger.log(currentPlayer.getName() + " keeps dice: " + diceRoll.getRolledDiceValues());
 
         keepAllDice();
-        Logger.log(currentPlayer.getName() + "'s kept dice from all rolls: " + diceRoll.getKeptDiceValues());
+        logger.log(currentPlayer.getName() + "'s kept dice from all rolls: " + diceRoll.getKeptDiceValues());
 
         if (currentTurn < 3) {
-            Logger.log(currentPlayer.getName() + " stands");
+            logger.log(currentPlayer.getName() + " stands");
         }
 
-        if (scoreCard.getValidCategories(diceRoll.getKeptDiceValues()).isEmpty()) {
+        if (scoreCard.getValidMask(diceRoll.getKeptCounts()) == 0) {
             finishTurn();
         }
 
-        Logger.log("");
+        logger.log("");
     }
 
     /**
@@ -192,27 +248,27 @@ public class Tournament {
      */
     public void reRoll() {
         if (!diceRoll.isAllDiceRolled()) {
-            Logger.log("Not all dice are rolled. Not rerolling");
+            logger.log("Not all dice are rolled. Not rerolling");
             return;
         }
 
         if (currentTurn >= 3) {
-            Logger.log("Max rerolls reached. Not rerolling");
+            logger.log("Max rerolls reached. Not rerolling");
             return;
         }
 
-        Logger.log(currentPlayer.getName() + " rolls " + diceRoll.getRolledDiceValues());
-        Logger.log(currentPlayer.getName() + " keeps dice: " + diceRoll.getMarkedDiceValues());
+        logger.log(currentPlayer.getName() + " rolls " + diceRoll.getRolledDiceValues());
+        logger.log(currentPlayer.getName() + " keeps dice: " + diceRoll.getMarkedDiceValues());
         diceRoll.keepMarked();
-        Logger.log(currentPlayer.getName() + "'s kept dice from all rolls: " + diceRoll.getKeptDiceValues());
+        logger.log(currentPlayer.getName() + "'s kept dice from all rolls: " + diceRoll.getKeptDiceValues());
         diceRoll.resetUnkept();
         currentTurn++;
 
-        if (scoreCard.getPotentialCategories(diceRoll.getKeptDiceValues()).isEmpty()) {
+        if (scoreCard.getPotentialMask(diceRoll.getKeptCounts()) == 0) {
             finishTurn();
         }
 
-        Logger.log("");
+        logger.log("");
 
     }
 
@@ -227,6 +283,15 @@ public class Tournament {
         return currentTurn;
     }
 
+    /**
+     * Sets the number of the roll in progress, to restore a saved {@link GameState}.
+     *
+     * @param turnNumber the roll number, from 1 to 3
+     */
+    void setTurnNumber(int turnNumber) {
+        currentTurn = turnNumber;
+    }
+
     /**
      * Handles category selection by the player.
      *
@@ -234,11 +299,10 @@ public class Tournament {
      */
     public void selectCategory(Category category) {
         if (category != null && scoreCard.getAvailableCategories().contains(category)) {
-            List<Integer> diceValues = diceRoll.getKeptDiceValues();
-            int score = category.calculateScore(diceValues);
+            int score = category.calculateScore(diceRoll.getKeptCounts());
             scoreCard.setScore(category, score, currentRound, currentPlayer);
-            Logger.log(currentPlayer.getName() + " selected " + category + " for " + score + " points");
-            Logger.log("");
+            logger.log(currentPlayer.getName() + " selected " + category + " for " + score + " points");
+            logger.log("");
         }
 
         finishTurn();
@@ -272,23 +336,23 @@ public class Tournament {
         int p1Score = scoreCard.getTotalScore(p1);
         int p2Score = scoreCard.getTotalScore(p2);
 
-        Logger.log(p1.getName() + " score: " + p1Score);
-        Logger.log(p2.getName() + " score: " + p2Score);
+        logger.log(p1.getName() + " score: " + p1Score);
+        logger.log(p2.getName() + " score: " + p2Score);
 
         if (p1Score < p2Score) {
             currentPlayer = p1;
             nextPlayer = p2;
-            Logger.log(p1.getName() + " goes first");
+            logger.log(p1.getName() + " goes first");
         } else if (p2Score < p1Score) {
             currentPlayer = p2;
             nextPlayer = p1;
-            Logger.log(p2.getName() + " goes first");
+            logger.log(p2.getName() + " goes first");
         } else {
             currentPlayer = null;
             nextPlayer = null;
-            Logger.log("Players are tied");
+            logger.log("Players are tied");
         }
-        Logger.log("");
+        logger.log("");
     }
 
     /**
@@ -379,7 +443,7 @@ public class Tournament {
         }
 
         getHelp();
-        Logger.log("Computer's target category: " + currentHelp.getTargetCategory());
+        logger.log("Computer's target category: " + currentHelp.getTargetCategory());
 
 
         if (currentHelp.getStand() || currentTurn >= 3) {
@@ -397,7 +461,7 @@ public class Tournament {
             getHelp();
             selectCategory(currentHelp.getTargetCategory());
         }
-        Logger.log("");
+        logger.log("");
 
     }
 
@@ -406,9 +470,9 @@ public class Tournament {
      */
     public void checkOver() {
         if (isOver()) {
-            Logger.log("Game over");
-            Logger.log(getResultText());
-            Logger.log("");
+            logger.log("Game over");
+            logger.log(getResultText());
+            logger.log("");
         }
     }
 }
@@ -0,0 +1,123 @@
+package com.yahtzee.Model;
+
+/**
+ * The sparse transition matrix from every multiset of kept dice to the five-dice hands it can end in.
+ * <p>
+ * Row {@code keep} lists the hands reached by rolling the dice missing from the {@link RollSpace}
+ * multiset {@code keep}, each with the exact probability of its roll. The rows are stored one after the
+ * other in compressed form: the entries of a row are the indices from {@link #getRowStart(int)} up to,
+ * but excluding, {@link #getRowEnd(int)}, ordered like the outcomes of the roll in {@link RollSpace}.
+ * A keep of five dice has a single entry, its own hand, with probability one.
+ * <p>
+ * Any expected value after a roll is then a dot product of a row with a vector of values indexed by
+ * hand, see {@link #expectedValue(int, double[])}.
+ */
+public final class TransitionTable {
+
+    // Number of entries of the whole matrix
+    public static final int ENTRY_COUNT;
+
+    // First entry of each row, plus the entry count as the last element
+    private static final int[] ROW_STARTS = new int[RollSpace.MULTISET_COUNT + 1];
+
+    // Hand index, from 0 to RollSpace.HAND_COUNT - 1, and probability of each entry
+    private static final int[] HANDS;
+    private static final double[] PROBABILITIES;
+
+    static {
+        int entries = 0;
+        for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+            ROW_STARTS[keep] = entries;
+            int rolled = RollSpace.DICE - DiceCounts.size(RollSpace.getCounts(keep));
+            entries += RollSpace.getOutcomesEnd(rolled) - RollSpace.getOutcomesStart(rolled);
+        }
+        ROW_STARTS[RollSpace.MULTISET_COUNT] = entries;
+        ENTRY_COUNT = entries;
+
+        HANDS = new int[ENTRY_COUNT];
+        PROBABILITIES = new double[ENTRY_COUNT];
+        for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+            int kept = RollSpace.getCounts(keep);
+            int rolled = RollSpace.DICE - DiceCounts.size(kept);
+            int entry = ROW_STARTS[keep];
+            for (int outcome = RollSpace.getOutcomesStart(rolled); outcome < RollSpace.getOutcomesEnd(rolled); outcome++, entry++) {
+                HANDS[entry] = RollSpace.handIndexOf(DiceCounts.add(kept, RollSpace.getCounts(outcome)));
+                PROBABILITIES[entry] = RollSpace.getProbability(outcome);
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TransitionTable() {
+    }
+
+    /**
+     * Returns the first entry of the row of a keep.
+     *
+     * @param keep The {@link RollSpace} index of the kept dice.
+     * @return The index of the first entry.
+     */
+    public static int getRowStart(int keep) {
+        return ROW_STARTS[keep];
+    }
+
+    /**
+     * Returns the end (exclusive) of the row of a keep.
+     *
+     * @param keep The {@link RollSpace} index of the kept dice.
+     * @return The index after the last entry.
+     */
+    public static int getRowEnd(int keep) {
+        return ROW_STARTS[keep + 1];
+    }
+
+    /**
+     * Returns the hand an entry leads to.
+     *
+     * @param entry The index of the entry.
+     * @return The hand index, from 0 to {@link RollSpace#HAND_COUNT} - 1, see {@link RollSpace#getHand(int)}.
+     */
+    public static int getHand(int entry) {
+        return HANDS[entry];
+    }
+
+    /**
+     * Returns the probability of an entry, which is the probability of the roll completing its hand.
+     *
+     * @param entry The index of the entry.
+     * @return The probability.
+     */
+    public static double getProbability(int entry) {
+        return PROBABILITIES[entry];
+    }
+
+    /**
+     * Returns the expected value of a keep: the dot product of its row with a vector of hand values.
+     *
+     * @param keep       The {@link RollSpace} index of the kept dice.
+     * @param handValues The value of each hand, indexed by hand index.
+     * @return The expected value after rolling the dice not kept.
+     */
+    public static double expectedValue(int keep, double[] handValues) {
+        double value = 0.0;
+        for (int entry = ROW_STARTS[keep]; entry < ROW_STARTS[keep + 1]; entry++) {
+            value += PROBABILITIES[entry] * handValues[HANDS[entry]];
+        }
+        return value;
+    }
+
+    /**
+     * Returns the expected value of every keep at once, multiplying the whole matrix by a vector.
+     *
+     * @param handValues The value of each hand, indexed by hand index.
+     * @param keepValues The array to fill with the expected value of each keep, indexed by
+     *                   {@link RollSpace} index; at least {@link RollSpace#MULTISET_COUNT} long.
+     */
+    public static void expectedValues(double[] handValues, double[] keepValues) {
+        for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+            keepValues[keep] = expectedValue(keep, handValues);
+        }
+    }
+}
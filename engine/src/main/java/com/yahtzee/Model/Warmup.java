@@ -0,0 +1,276 @@
+package com.yahtzee.Model;
+
+import com.yahtzee.Model.Solver.CategoryOdds;
+import com.yahtzee.Model.Solver.DecisionCache;
+import com.yahtzee.Model.Solver.OptimalSolver;
+import com.yahtzee.Model.Solver.TurnEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Builds the lazily initialized tables of the engine on a background thread.
+ * <p>
+ * The tables the AI relies on are built on first use, by whichever thread first needs them. On a phone
+ * that is the UI thread asking for a hint, which then stalls for as long as the tables take to build. A
+ * warm-up started at launch builds them ahead of time, stage by stage, and signals its progress to
+ * listeners; a screen can hold back hints until the warm-up is ready, after which every hint only reads
+ * tables that already exist.
+ * <p>
+ * A warm-up runs once, on a daemon thread, and its state can be read from any thread. If a stage fails, the
+ * warm-up stops there and is over without being ready: the failure is recorded, the listeners are told, and
+ * the tables left are built on first use as they would be without a warm-up.
+ */
+public final class Warmup {
+
+    /**
+     * A stage of the warm-up: a group of tables built together.
+     */
+    public enum Stage {
+        // Scores, reachable scores and roll transitions of every multiset of dice
+        TABLES {
+            @Override
+            void run() {
+                ScoreTable.getScore(0, 0);
+                ReachTable.getMaxScore(0, 0);
+                TransitionTable.getRowStart(0);
+                new TurnEvaluator();
+            }
+        },
+        // Multi-roll odds of every category, shown with each hint
+        CATEGORY_ODDS {
+            @Override
+            void run() {
+                CategoryOdds.getInstance();
+            }
+        },
+        // Classes of the AI and of its hints, loaded by advising on a sample roll of a blank scorecard,
+        // through a private cache so that the shared one is left untouched
+        ADVICE {
+            @Override
+            void run() {
+                AI.getCachedHelp(new DecisionCache(SAMPLE_CACHE_CAPACITY), AI.Mode.HEURISTIC, new ScoreCard(),
+                        List.of(), List.of(1, 2, 3, 4, 6), 1);
+            }
+        },
+        // Expected scores of every scorecard, only needed by the OPTIMAL strategy
+        OPTIMAL_SOLVER {
+            @Override
+            void run() {
+                OptimalSolver.getInstance();
+            }
+        };
+
+        /**
+         * Builds the tables of the stage, if they are not built yet.
+         */
+        abstract void run();
+    }
+
+    // Capacity of the throwaway cache of the sample advice
+    private static final int SAMPLE_CACHE_CAPACITY = 16;
+
+    // Stages needed to give hints with the HEURISTIC strategy
+    public static final List<Stage> HELP_STAGES = List.of(Stage.TABLES, Stage.CATEGORY_ODDS, Stage.ADVICE);
+
+    /**
+     * Receives the progress of a warm-up.
+     */
+    public interface Listener {
+
+        /**
+         * Called on the warm-up thread after each stage, or on the registering thread if the warm-up
+         * was already over. The warm-up is ready once both counts are equal; if a stage fails, the
+         * listener is called once more with the stages built before it, and the warm-up is over.
+         *
+         * @param completedStages The number of stages built so far.
+         * @param stageCount      The number of stages of the warm-up.
+         */
+        void onProgress(int completedStages, int stageCount);
+    }
+
+    private final List<Stage> stages;
+
+    // Builds the tables of a stage
+    private final Consumer<Stage> runner;
+
+    private final AtomicInteger completedStages = new AtomicInteger();
+    private final CountDownLatch over = new CountDownLatch(1);
+
+    // Stage that stopped the warm-up and its failure, if any, written before the latch is released
+    private volatile Stage failedStage;
+    private volatile Throwable failure;
+
+    // Listeners still waiting for progress, guarded by the monitor of the warm-up
+    private final List<Listener> listeners = new ArrayList<>();
+
+    /**
+     * Constructs a warm-up of the given stages, which is not started yet.
+     *
+     * @param stages The stages to build, in order.
+     * @param runner The builder of the tables of a stage.
+     */
+    private Warmup(List<Stage> stages, Consumer<Stage> runner) {
+        this.stages = List.copyOf(stages);
+        this.runner = runner;
+    }
+
+    /**
+     * Starts a warm-up of the given stages on a new daemon thread.
+     *
+     * @param stages The stages to build, in order.
+     * @return The running warm-up.
+     * @throws IllegalArgumentException If there is no stage to build.
+     */
+    public static Warmup start(List<Stage> stages) {
+        return start(stages, Stage::run);
+    }
+
+    /**
+     * Starts a warm-up of the given stages on a new daemon thread, building each stage with a runner,
+     * such as one failing on purpose.
+     *
+     * @param stages The stages to build, in order.
+     * @param runner The builder of the tables of a stage.
+     * @return The running warm-up.
+     * @throws IllegalArgumentException If there is no stage to build.
+     */
+    static Warmup start(List<Stage> stages, Consumer<Stage> runner) {
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("A warm-up needs at least one stage");
+        }
+        Warmup warmup = new Warmup(stages, runner);
+        Thread thread = new Thread(warmup::run, "yahtzee-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return warmup;
+    }
+
+    /**
+     * Builds every stage in order, signalling the listeners after each one, until a stage fails.
+     */
+    private void run() {
+        for (Stage stage : stages) {
+            Throwable stageFailure = null;
+            try {
+                runner.accept(stage);
+            } catch (RuntimeException | Error e) {
+                stageFailure = e;
+            }
+            int completed;
+            List<Listener> notified;
+            synchronized (this) {
+                completed = stageFailure == null ? completedStages.incrementAndGet() : completedStages.get();
+                if (stageFailure != null) {
+                    failedStage = stage;
+                    failure = stageFailure;
+                }
+                if (stageFailure != null || completed == stages.size()) {
+                    over.countDown();
+                }
+                notified = List.copyOf(listeners);
+            }
+            for (Listener listener : notified) {
+                listener.onProgress(completed, stages.size());
+            }
+            if (stageFailure != null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Registers a listener for the rest of the warm-up. If the warm-up is already over, the listener is
+     * called once right away instead.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(Listener listener) {
+        synchronized (this) {
+            if (!isOver()) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.onProgress(completedStages.get(), stages.size());
+    }
+
+    /**
+     * Unregisters a listener, such as a screen that is closed.
+     *
+     * @param listener The listener.
+     */
+    public synchronized void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns whether every stage is built, so that using its tables never blocks.
+     *
+     * @return True if the warm-up is over and no stage failed.
+     */
+    public boolean isReady() {
+        return isOver() && failure == null;
+    }
+
+    /**
+     * Returns whether the warm-up has stopped, either with every stage built or at a failed stage.
+     * Either way, nothing is gained by waiting any longer for it.
+     *
+     * @return True if the warm-up is over.
+     */
+    public boolean isOver() {
+        return over.getCount() == 0;
+    }
+
+    /**
+     * Returns the failure that stopped the warm-up.
+     *
+     * @return The exception thrown by the failed stage, or empty if no stage failed so far.
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * Waits for the warm-up to be over.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit    The unit of the timeout.
+     * @return True if the warm-up is ready, false if the time ran out first.
+     * @throws InterruptedException  If the waiting thread is interrupted.
+     * @throws IllegalStateException If a stage failed, with the failure as its cause.
+     */
+    public boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!over.await(timeout, unit)) {
+            return false;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Warm-up stage " + failedStage + " failed", failure);
+        }
+        return true;
+    }
+
+    public int getCompletedStages() {
+        return completedStages.get();
+    }
+
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    /**
+     * Returns the share of the stages built so far.
+     *
+     * @return The progress, between 0 and 1.
+     */
+    public double getProgress() {
+        return (double) completedStages.get() / stages.size();
+    }
+}
@@ -0,0 +1,46 @@
+package com.yahtzee.Cli;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import com.yahtzee.Model.AI;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class ArgumentsTest {
+
+    @Test
+    public void separatesOptionsFromPositionalArguments() {
+        Arguments arguments = new Arguments(new String[]{"analyze", "game.txt", "--rolled", "2,2,5", "--roll", "2"}, 1);
+
+        assertEquals("game.txt", arguments.getPositional(0));
+        assertNull(arguments.getPositional(1));
+        assertEquals(List.of(2, 2, 5), arguments.getDice("rolled"));
+        assertEquals(List.of(), arguments.getDice("kept"));
+        assertEquals(2, arguments.getInt("roll", 1));
+        assertEquals(1000, arguments.getLong("games", 1000));
+    }
+
+    @Test
+    public void readsModesInAnyCase() {
+        Arguments arguments = new Arguments(new String[]{"--first", "monte_carlo"}, 0);
+
+        assertEquals(AI.Mode.MONTE_CARLO, arguments.getMode("first", AI.Mode.HEURISTIC));
+        assertEquals(AI.Mode.OPTIMAL, arguments.getMode("second", AI.Mode.OPTIMAL));
+    }
+
+    @Test
+    public void rejectsMalformedValues() {
+        assertThrows(IllegalArgumentException.class, () -> new Arguments(new String[]{"--games"}, 0));
+
+        Arguments arguments = new Arguments(new String[]{"--games", "many", "--threads", "-1", "--mode", "lucky",
+                "--rolled", "1,7"}, 0);
+        assertThrows(IllegalArgumentException.class, () -> arguments.getLong("games", 1));
+        assertThrows(IllegalArgumentException.class, () -> arguments.getInt("threads", 1));
+        assertThrows(IllegalArgumentException.class, () -> arguments.getMode("mode", AI.Mode.HEURISTIC));
+        assertThrows(IllegalArgumentException.class, () -> arguments.getDice("rolled"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ACES;
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static com.yahtzee.Model.Categories.Util.FIVES;
+import static com.yahtzee.Model.Categories.Util.FOURS;
+import static com.yahtzee.Model.Categories.Util.LARGE_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.THREE_OF_A_KIND;
+import static com.yahtzee.Model.Categories.Util.TWOS;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.Solver.DecisionCache;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class AITest {
+
+    @Test
+    public void tiesGoToTheFirstLeafOfTheStrategyTree() {
+        // Keeping a 2 and keeping a 4 both reach a Yahtzee; the outcome [2, 2] comes first in the tree
+        int open = ScoreTable.maskOf(List.of(TWOS, FOURS, FIVES, THREE_OF_A_KIND, YAHTZEE));
+        int keep = AI.getDiceToKeep(open, DiceCounts.of(List.of(2, 2, 4)), DiceCounts.of(List.of(2, 4)));
+
+        assertEquals(List.of(2), DiceCounts.toList(keep));
+    }
+
+    @Test
+    public void keepsTheRolledDiceOfAValidPriorityCategory() {
+        int open = ScoreTable.maskOf(List.of(ACES, LARGE_STRAIGHT));
+        int keep = AI.getDiceToKeep(open, DiceCounts.EMPTY, DiceCounts.of(List.of(5, 3, 2, 6, 4)));
+
+        assertEquals(List.of(2, 3, 4, 5, 6), DiceCounts.toList(keep));
+    }
+
+    @Test
+    public void keepsNothingOnceEveryDieIsKept() {
+        int keep = AI.getDiceToKeep(ScoreTable.ALL_CATEGORIES_MASK, DiceCounts.of(List.of(1, 2, 3, 4, 5)), DiceCounts.EMPTY);
+
+        assertEquals(DiceCounts.EMPTY, keep);
+    }
+
+    @Test
+    public void helpAgreesWithTheSeparateDecisions() {
+        Random random = new Random(7);
+        Player human = new Player("Human", false);
+        for (int position = 0; position < 500; position++) {
+            ScoreCard scoreCard = new ScoreCard();
+            for (Category category : ALL_CATEGORIES) {
+                if (random.nextInt(3) == 0) {
+                    scoreCard.setScore(category, 0, 1, human);
+                }
+            }
+            List<Integer> keptDice = randomDice(random, random.nextInt(RollSpace.DICE));
+            List<Integer> rolledDice = randomDice(random, RollSpace.DICE - keptDice.size());
+            Help help = AI.getHelp(scoreCard, keptDice, rolledDice);
+
+            assertEquals(AI.getDiceToKeep(scoreCard, keptDice, rolledDice), help.getDiceToKeep());
+            assertEquals(AI.getStandStatus(scoreCard, keptDice, rolledDice), help.getStand());
+            Help cached = AI.getCachedHelp(new DecisionCache(DecisionCache.DEFAULT_CAPACITY), AI.Mode.HEURISTIC,
+                    scoreCard, keptDice, rolledDice, 2);
+            assertEquals(help.toString(), cached.toString());
+        }
+    }
+
+    @Test
+    public void helpGivesTheExpectedScoreOfOneMoreRollOfEachOpenCategory() {
+        ScoreCard scoreCard = new ScoreCard();
+        scoreCard.setScore(ACES, 3, 1, new Player("Human", false));
+        List<Integer> keptDice = List.of(6, 6);
+        Help help = AI.getHelp(scoreCard, keptDice, List.of(6, 1, 2));
+
+        assertEquals(List.of(6), help.getDiceToKeep());
+        assertFalse(help.getExpectedScore(ACES).isPresent());
+        int kept = RollSpace.indexOf(DiceCounts.of(List.of(6, 6, 6)));
+        for (Category category : scoreCard.getAvailableCategories()) {
+            double expected = ReachTable.getExpectedScore(ScoreTable.indexOf(category), kept);
+            assertEquals(category.toString(), expected, help.getExpectedScore(category).orElseThrow(), 1e-9);
+        }
+        assertTrue(help.toString().contains("Expected " + YAHTZEE));
+    }
+
+    @Test
+    public void helpAfterTheThirdRollGivesTheOddsOfTheHandHeld() {
+        ScoreCard scoreCard = new ScoreCard();
+        List<Integer> keptDice = List.of(6, 6);
+        List<Integer> rolledDice = List.of(6, 6, 2);
+        Help help = AI.getCachedHelp(new DecisionCache(DecisionCache.DEFAULT_CAPACITY), AI.Mode.HEURISTIC,
+                scoreCard, keptDice, rolledDice, 3);
+
+        List<Integer> hand = List.of(6, 6, 6, 6, 2);
+        for (Category category : ALL_CATEGORIES) {
+            boolean valid = category.isValid(hand);
+            double score = valid ? category.calculateScore(hand) : 0;
+            assertEquals(category.toString(), valid ? 1.0 : 0.0, help.getProbability(category).orElseThrow(), 0.0);
+            assertEquals(category.toString(), score, help.getExpectedScore(category).orElseThrow(), 0.0);
+        }
+        assertEquals(0.0, help.getProbability(YAHTZEE).orElseThrow(), 0.0);
+    }
+
+    @Test
+    public void keepsPartOfTheRollWhateverItsOrder() {
+        Random random = new Random(11);
+        for (int position = 0; position < 2000; position++) {
+            int open = random.nextInt(ScoreTable.ALL_CATEGORIES_MASK) + 1;
+            List<Integer> keptDice = randomDice(random, random.nextInt(RollSpace.DICE));
+            List<Integer> rolledDice = randomDice(random, RollSpace.DICE - keptDice.size());
+            int rolled = DiceCounts.of(rolledDice);
+            int keep = AI.getDiceToKeep(open, DiceCounts.of(keptDice), rolled);
+
+            assertEquals(keep, DiceCounts.intersect(keep, rolled));
+            Collections.shuffle(rolledDice, random);
+            assertEquals(keep, AI.getDiceToKeep(open, DiceCounts.of(keptDice), DiceCounts.of(rolledDice)));
+        }
+    }
+
+    @Test
+    public void combinationsAreEverySubsetOfTheElements() {
+        List<List<Integer>> combinations = AI.getCombinations(List.of(1, 2, 3));
+
+        assertEquals(List.of(List.of(), List.of(1), List.of(2), List.of(1, 2), List.of(3), List.of(1, 3),
+                List.of(2, 3), List.of(1, 2, 3)), combinations);
+        assertEquals(32, AI.getCombinations(List.of(6, 6, 6, 6, 6)).size());
+    }
+
+    private static List<Integer> randomDice(Random random, int count) {
+        List<Integer> dice = new ArrayList<>();
+        for (int die = 0; die < count; die++) {
+            dice.add(random.nextInt(6) + 1);
+        }
+        return dice;
+    }
+}
@@ -0,0 +1,25 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class CategoryTest {
+
+    @Test
+    public void packedDiceAgreeWithListsOfUpToFiveDice() {
+        for (int index = 0; index < RollSpace.MULTISET_COUNT; index++) {
+            int counts = RollSpace.getCounts(index);
+            List<Integer> dice = DiceCounts.toList(counts);
+            for (Category category : ALL_CATEGORIES) {
+                String message = category + " " + dice;
+                assertEquals(message, category.calculateScore(dice), category.calculateScore(counts));
+                assertEquals(message, category.isValid(dice), category.isValid(counts));
+                assertEquals(message, category.isPotential(dice), category.isPotential(counts));
+            }
+        }
+    }
+}
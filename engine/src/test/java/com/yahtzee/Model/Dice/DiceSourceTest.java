@@ -0,0 +1,76 @@
+package com.yahtzee.Model.Dice;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.DiceRoll;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class DiceSourceTest {
+
+    @Test
+    public void sameSeedRollsTheSame() {
+        assertArrayEquals(rolls(new SplittableDiceSource(42), 1000), rolls(new SplittableDiceSource(42), 1000));
+        assertFalse(Arrays.equals(rolls(new SplittableDiceSource(42), 1000), rolls(new SplittableDiceSource(43), 1000)));
+    }
+
+    @Test
+    public void rollsEveryFaceAndNothingElse() {
+        int[] faces = new int[7];
+        for (int roll : rolls(new SplittableDiceSource(5), 60_000)) {
+            faces[roll]++;
+        }
+
+        assertEquals(0, faces[0]);
+        for (int face = 1; face <= 6; face++) {
+            assertTrue("Face " + face + " rolled " + faces[face] + " times", Math.abs(faces[face] - 10_000) < 500);
+        }
+    }
+
+    @Test
+    public void splitSourcesAreReproducibleAndIndependent() {
+        SplittableDiceSource source = new SplittableDiceSource(9);
+        SplittableDiceSource replay = new SplittableDiceSource(9);
+        SplittableDiceSource first = source.split();
+        SplittableDiceSource second = source.split();
+
+        assertArrayEquals(rolls(replay.split(), 100), rolls(first, 100));
+        assertArrayEquals(rolls(replay.split(), 100), rolls(second, 100));
+        assertFalse(Arrays.equals(rolls(new SplittableDiceSource(9).split(), 100), rolls(second, 100)));
+    }
+
+    @Test
+    public void scriptedSourceReplaysItsScript() {
+        ScriptedDiceSource source = new ScriptedDiceSource(3, 1, 4, 1, 5, 6, 2);
+        DiceRoll diceRoll = new DiceRoll(source);
+        diceRoll.roll();
+
+        assertEquals(List.of(3, 1, 4, 1, 5), diceRoll.getRolledDiceValues());
+        assertEquals(5, source.getPosition());
+        assertEquals(2, source.getRemaining());
+        assertEquals(6, source.roll());
+        assertEquals(2, source.roll());
+        assertThrows(IllegalStateException.class, source::roll);
+    }
+
+    @Test
+    public void scriptedSourceRejectsWhatIsNotADieValue() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedDiceSource(1, 7));
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedDiceSource(0));
+    }
+
+    private static int[] rolls(DiceSource source, int count) {
+        int[] rolls = new int[count];
+        for (int i = 0; i < count; i++) {
+            rolls[i] = source.roll();
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,61 @@
+package com.yahtzee.Model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DiceCountsTest {
+
+    @Test
+    public void packsAndUnpacksEveryMultiset() {
+        for (int index = 0; index < RollSpace.MULTISET_COUNT; index++) {
+            int counts = RollSpace.getCounts(index);
+            List<Integer> dice = DiceCounts.toList(counts);
+
+            assertEquals(counts, DiceCounts.of(dice));
+            assertEquals(dice.size(), DiceCounts.size(counts));
+            for (int face = 1; face <= 6; face++) {
+                int expected = 0;
+                for (int die : dice) {
+                    expected += die == face ? 1 : 0;
+                }
+                assertEquals(expected, DiceCounts.count(counts, face));
+            }
+        }
+    }
+
+    @Test
+    public void combinesMultisetsLikeLists() {
+        for (int first = 0; first < RollSpace.MULTISET_COUNT; first++) {
+            for (int second = 0; second < RollSpace.MULTISET_COUNT; second++) {
+                List<Integer> firstDice = DiceCounts.toList(RollSpace.getCounts(first));
+                List<Integer> secondDice = DiceCounts.toList(RollSpace.getCounts(second));
+
+                List<Integer> common = new ArrayList<>();
+                List<Integer> rest = new ArrayList<>(secondDice);
+                for (Integer die : firstDice) {
+                    if (rest.remove(die)) {
+                        common.add(die);
+                    }
+                }
+                assertEquals(DiceCounts.of(common),
+                        DiceCounts.intersect(RollSpace.getCounts(first), RollSpace.getCounts(second)));
+                if (firstDice.size() + secondDice.size() <= RollSpace.DICE) {
+                    List<Integer> all = new ArrayList<>(firstDice);
+                    all.addAll(secondDice);
+                    assertEquals(DiceCounts.of(all), DiceCounts.add(RollSpace.getCounts(first), RollSpace.getCounts(second)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void addsOneDieAtATime() {
+        int counts = DiceCounts.withDie(DiceCounts.withDie(DiceCounts.EMPTY, 6), 2);
+
+        assertEquals(List.of(2, 6), DiceCounts.toList(counts));
+    }
+}
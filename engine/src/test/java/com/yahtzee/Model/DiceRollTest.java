@@ -0,0 +1,41 @@
+package com.yahtzee.Model;
+
+import static org.junit.Assert.assertEquals;
+
+import com.yahtzee.Model.Dice.ScriptedDiceSource;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class DiceRollTest {
+
+    @Test
+    public void packedDiceAgreeWithTheValueLists() {
+        DiceRoll diceRoll = new DiceRoll(new ScriptedDiceSource(3, 6, 3, 1, 5, 2, 2, 4));
+        diceRoll.roll();
+        diceRoll.getDice().get(0).setKept(true);
+        diceRoll.getDice().get(2).setKept(true);
+        diceRoll.getDice().get(4).setMarked(true);
+
+        assertEquals(DiceCounts.of(List.of(3, 3)), diceRoll.getKeptCounts());
+        assertEquals(DiceCounts.of(List.of(5)), diceRoll.getMarkedCounts());
+        assertEquals(DiceCounts.of(List.of(6, 1, 5)), diceRoll.getRolledCounts());
+        assertPackedAgree(diceRoll);
+
+        diceRoll.roll();
+
+        assertEquals(DiceCounts.of(List.of(2, 2, 5)), diceRoll.getRolledCounts());
+        assertPackedAgree(diceRoll);
+        diceRoll.keepMarked();
+        assertEquals(DiceCounts.of(List.of(3, 3, 5)), diceRoll.getKeptCounts());
+        assertEquals(DiceCounts.EMPTY, diceRoll.getMarkedCounts());
+        assertPackedAgree(diceRoll);
+    }
+
+    private static void assertPackedAgree(DiceRoll diceRoll) {
+        assertEquals(DiceCounts.of(diceRoll.getKeptDiceValues()), diceRoll.getKeptCounts());
+        assertEquals(DiceCounts.of(diceRoll.getMarkedDiceValues()), diceRoll.getMarkedCounts());
+        assertEquals(DiceCounts.of(diceRoll.getRolledDiceValues()), diceRoll.getRolledCounts());
+    }
+}
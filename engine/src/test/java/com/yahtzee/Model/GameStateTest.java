@@ -0,0 +1,162 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static com.yahtzee.Model.Categories.Util.FULL_HOUSE;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.Dice.SplittableDiceSource;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class GameStateTest {
+
+    private final Player first = new Player("Computer 1", true);
+    private final Player second = new Player("Computer 2", true);
+
+    @Test
+    public void movesLikeATournamentThroughWholeGames() {
+        for (long seed = 0; seed < 20; seed++) {
+            Tournament tournament = new Tournament(first, second, new SplittableDiceSource(seed));
+            tournament.getLogger().setEnabled(false);
+            GameState state = GameState.newGame();
+            assertEquals(state, GameState.of(tournament));
+
+            while (!tournament.isOver()) {
+                if (tournament.getCurrentPlayer() == null) {
+                    tournament.setPlayerOrder(first, second);
+                    state = state.withPlayerOrder(GameState.FIRST);
+                    assertSameState(tournament, state);
+                }
+
+                tournament.getDiceRoll().roll();
+                state = state.roll(tournament.getDiceRoll().getRolledCounts());
+                assertSameState(tournament, state);
+
+                Help help = AI.getHelp(tournament.getScoreCard(), tournament.getDiceRoll().getKeptDiceValues(),
+                        tournament.getDiceRoll().getRolledDiceValues());
+                if (help.getStand() || tournament.getTurnNumber() >= 3) {
+                    tournament.stand();
+                    state = state.stand();
+                    assertSameState(tournament, state);
+                    if (tournament.getDiceRoll().isAllDiceKept()) {
+                        Category category = tournament.getScoreCard()
+                                .getValidCategories(tournament.getDiceRoll().getKeptCounts()).get(0);
+                        tournament.selectCategory(category);
+                        state = state.score(ScoreTable.indexOf(category));
+                        assertSameState(tournament, state);
+                    }
+                } else {
+                    int keep = DiceCounts.of(help.getDiceToKeep());
+                    markDice(tournament.getDiceRoll(), keep);
+                    tournament.reRoll();
+                    state = state.keep(keep);
+                    assertSameState(tournament, state);
+                }
+            }
+
+            assertTrue(state.isOver());
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                Category entry = ALL_CATEGORIES.get(category);
+                assertEquals((int) tournament.getScoreCard().getScore(entry).orElseThrow(), state.getScore(category));
+                assertEquals((int) tournament.getScoreCard().getRound(entry).orElseThrow(), state.getRound(category));
+            }
+            assertEquals(tournament.getScoreCard().getTotalScore(first), state.getTotalScore(GameState.FIRST));
+            assertEquals(tournament.getScoreCard().getTotalScore(second), state.getTotalScore(GameState.SECOND));
+        }
+    }
+
+    @Test
+    public void leavesItselfUntouchedByAMove() {
+        GameState state = GameState.newGame().withPlayerOrder(GameState.SECOND);
+        GameState rolled = state.roll(DiceCounts.of(List.of(2, 2, 2, 5, 5)));
+        GameState standing = rolled.stand();
+        int fullHouse = ScoreTable.indexOf(FULL_HOUSE);
+        GameState scored = standing.score(fullHouse);
+
+        assertNotSame(state, rolled);
+        assertEquals(DiceCounts.EMPTY, state.getRolled());
+        assertEquals(DiceCounts.of(List.of(2, 2, 2, 5, 5)), rolled.getRolled());
+        assertEquals(DiceCounts.of(List.of(2, 2, 2, 5, 5)), standing.getKept());
+        assertEquals(GameState.SECOND, scored.getOwner(fullHouse));
+        assertEquals(GameState.FIRST, scored.getMover());
+        assertEquals(1, scored.getCurrentRound());
+        assertEquals(GameState.NO_PLAYER, state.getOwner(fullHouse));
+    }
+
+    @Test
+    public void rejectsMovesOutOfTurn() {
+        GameState state = GameState.newGame().withPlayerOrder(GameState.FIRST);
+
+        assertThrows(IllegalStateException.class, state::stand);
+        assertThrows(IllegalArgumentException.class, () -> state.roll(DiceCounts.of(List.of(1, 2))));
+        GameState rolled = state.roll(DiceCounts.of(List.of(1, 2, 3, 4, 6)));
+        assertThrows(IllegalStateException.class, () -> rolled.roll(DiceCounts.of(List.of(1, 2, 3, 4, 6))));
+        assertThrows(IllegalArgumentException.class, () -> rolled.keep(DiceCounts.of(List.of(5))));
+        assertThrows(IllegalStateException.class, () -> rolled.score(0));
+    }
+
+    @Test
+    public void restoresTheTournamentOfAState() {
+        GameState state = GameState.newGame().withPlayerOrder(GameState.SECOND)
+                .roll(DiceCounts.of(List.of(6, 6, 6, 1, 3)))
+                .keep(DiceCounts.of(List.of(6, 6, 6)));
+        Tournament tournament = state.toTournament(first, second, new SplittableDiceSource(1));
+
+        assertEquals(state, GameState.of(tournament));
+        assertEquals(second, tournament.getCurrentPlayer());
+        assertEquals(first, tournament.getNextPlayer());
+        assertEquals(2, tournament.getTurnNumber());
+        tournament.getDiceRoll().roll();
+        state = state.roll(tournament.getDiceRoll().getRolledCounts());
+        assertEquals(state, GameState.of(tournament));
+    }
+
+    @Test
+    public void keepsPlayingPastTheLastRoundItCanRecord() {
+        GameState state = GameState.newGame();
+        int yahtzee = ScoreTable.indexOf(YAHTZEE);
+        // Turns ending without a score leave every category open, so rounds go on as long as they last
+        while (state.getCurrentRound() <= GameState.MAX_FILLED_ROUND + 10) {
+            if (state.getMover() == GameState.NO_PLAYER) {
+                state = state.withPlayerOrder(GameState.FIRST);
+            }
+            state = state.roll(DiceCounts.of(List.of(1, 2, 3, 4, 6))).stand().score(-1);
+        }
+        int round = state.getCurrentRound();
+        state = state.withPlayerOrder(GameState.FIRST).roll(DiceCounts.of(List.of(4, 4, 4, 4, 4))).stand().score(yahtzee);
+
+        assertEquals(GameState.MAX_FILLED_ROUND + 11, round);
+        assertEquals(GameState.MAX_FILLED_ROUND, state.getRound(yahtzee));
+        assertEquals(50, state.getScore(yahtzee));
+        Tournament tournament = state.toTournament(first, second, new SplittableDiceSource(1));
+        assertEquals(round, tournament.getCurrentRound());
+        assertEquals(state, GameState.of(tournament));
+    }
+
+    /**
+     * Checks that the tournament is in the state, and that the state restores to the same tournament.
+     */
+    private void assertSameState(Tournament tournament, GameState state) {
+        assertEquals(state, GameState.of(tournament));
+        assertEquals(state, GameState.of(state.toTournament(first, second, new SplittableDiceSource(0))));
+    }
+
+    /**
+     * Marks rolled dice to keep, as a player does before rerolling.
+     */
+    private static void markDice(DiceRoll diceRoll, int keep) {
+        int left = keep;
+        for (Die die : diceRoll.getRolledDice()) {
+            if (DiceCounts.count(left, die.getValue()) > 0) {
+                die.setMarked(true);
+                left -= DiceCounts.withDie(DiceCounts.EMPTY, die.getValue());
+            }
+        }
+    }
+}
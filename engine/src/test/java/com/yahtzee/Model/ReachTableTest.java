@@ -0,0 +1,57 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static com.yahtzee.Model.Categories.Util.LARGE_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReachTableTest {
+
+    @Test
+    public void agreesWithEveryOrderedRollOfTheOtherDice() {
+        for (int kept = 0; kept < RollSpace.MULTISET_COUNT; kept++) {
+            List<Integer> keptDice = DiceCounts.toList(RollSpace.getCounts(kept));
+            int rollCount = (int) Math.pow(6, RollSpace.DICE - keptDice.size());
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                Category c = ALL_CATEGORIES.get(category);
+                int maxScore = ReachTable.UNREACHABLE;
+                double total = 0;
+                for (int sequence = 0; sequence < rollCount; sequence++) {
+                    List<Integer> hand = new ArrayList<>(keptDice);
+                    for (int rest = sequence; hand.size() < RollSpace.DICE; rest /= 6) {
+                        hand.add(rest % 6 + 1);
+                    }
+                    if (c.isValid(hand)) {
+                        maxScore = Math.max(maxScore, c.calculateScore(hand));
+                        total += c.calculateScore(hand);
+                    }
+                }
+
+                String message = c + " " + keptDice;
+                assertEquals(message, maxScore, ReachTable.getMaxScore(category, kept));
+                assertEquals(message, total / rollCount, ReachTable.getExpectedScore(category, kept), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void pointsToTheFirstOutcomeReachingTheHighestScore() {
+        int kept = RollSpace.indexOf(DiceCounts.of(List.of(2, 3, 4, 5)));
+        int outcome = ReachTable.getFirstMaxOutcome(ScoreTable.indexOf(LARGE_STRAIGHT), kept);
+
+        assertEquals(DiceCounts.of(List.of(1)), RollSpace.getCounts(RollSpace.getOutcomesStart(1) + outcome));
+    }
+
+    @Test
+    public void marksCategoriesNoOutcomeMakesValid() {
+        int kept = RollSpace.indexOf(DiceCounts.of(List.of(1, 2)));
+
+        assertEquals(ReachTable.UNREACHABLE, ReachTable.getMaxScore(ScoreTable.indexOf(YAHTZEE), kept));
+        assertEquals(0.0, ReachTable.getExpectedScore(ScoreTable.indexOf(YAHTZEE), kept), 0.0);
+    }
+}
@@ -0,0 +1,58 @@
+package com.yahtzee.Model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class RollSpaceTest {
+
+    @Test
+    public void indexesEveryMultisetOfAtMostFiveDice() {
+        assertEquals(462, RollSpace.MULTISET_COUNT);
+        assertEquals(252, RollSpace.getOutcomesEnd(RollSpace.DICE) - RollSpace.getOutcomesStart(RollSpace.DICE));
+        for (int index = 0; index < RollSpace.MULTISET_COUNT; index++) {
+            assertEquals(index, RollSpace.indexOf(RollSpace.getCounts(index)));
+        }
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            assertEquals(hand, RollSpace.handIndexOf(RollSpace.getHand(hand)));
+        }
+    }
+
+    @Test
+    public void groupsMultisetsBySize() {
+        for (int size = 0; size <= RollSpace.DICE; size++) {
+            double total = 0;
+            for (int index = RollSpace.getOutcomesStart(size); index < RollSpace.getOutcomesEnd(size); index++) {
+                assertEquals(size, DiceCounts.size(RollSpace.getCounts(index)));
+                total += RollSpace.getProbability(index);
+            }
+            assertEquals(1.0, total, 1e-12);
+        }
+    }
+
+    @Test
+    public void weighsHandsByTheirNumberOfOrderedRolls() {
+        int[] rolls = new int[RollSpace.HAND_COUNT];
+        for (int sequence = 0; sequence < 7776; sequence++) {
+            int counts = DiceCounts.EMPTY;
+            for (int die = 0, rest = sequence; die < RollSpace.DICE; die++, rest /= 6) {
+                counts = DiceCounts.withDie(counts, rest % 6 + 1);
+            }
+            rolls[RollSpace.handIndexOf(counts)]++;
+        }
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            int index = RollSpace.indexOf(RollSpace.getHand(hand));
+            assertEquals(rolls[hand] / 7776.0, RollSpace.getProbability(index), 1e-15);
+        }
+    }
+
+    @Test
+    public void rejectsMoreThanFiveDice() {
+        int sixDice = DiceCounts.of(List.of(1, 2, 3, 4, 5, 6));
+
+        assertThrows(IllegalArgumentException.class, () -> RollSpace.indexOf(sixDice));
+    }
+}
@@ -0,0 +1,110 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ACES;
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static com.yahtzee.Model.Categories.Util.FULL_HOUSE;
+import static com.yahtzee.Model.Categories.Util.SIXES;
+import static com.yahtzee.Model.Categories.Util.THREE_OF_A_KIND;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class ScoreCardTest {
+
+    private final Player human = new Player("Human", false);
+    private final Player computer = new Player("Computer", true);
+
+    @Test
+    public void packedDiceAgreeWithTheValueLists() {
+        Random random = new Random(5);
+        for (int card = 0; card < 50; card++) {
+            ScoreCard scoreCard = new ScoreCard();
+            for (Category category : ALL_CATEGORIES) {
+                if (random.nextBoolean()) {
+                    scoreCard.setScore(category, 0, 1, random.nextBoolean() ? human : computer);
+                }
+            }
+
+            assertEquals(ScoreTable.maskOf(scoreCard.getAvailableCategories()), scoreCard.getAvailableMask());
+            for (int index = 0; index < RollSpace.MULTISET_COUNT; index++) {
+                int counts = RollSpace.getCounts(index);
+                List<Integer> dice = DiceCounts.toList(counts);
+                assertEquals(scoreCard.getValidCategories(dice), scoreCard.getValidCategories(counts));
+                assertEquals(scoreCard.getPotentialCategories(dice), scoreCard.getPotentialCategories(counts));
+                assertEquals(ScoreTable.maskOf(scoreCard.getValidCategories(dice)), scoreCard.getValidMask(counts));
+                assertEquals(ScoreTable.maskOf(scoreCard.getPotentialCategories(dice)), scoreCard.getPotentialMask(counts));
+            }
+        }
+    }
+
+    @Test
+    public void equalCardsHaveEqualHashCodes() {
+        ScoreCard first = new ScoreCard();
+        first.setScore(SIXES, 18, 1, human);
+        first.setScore(FULL_HOUSE, 25, 2, computer);
+        ScoreCard second = new ScoreCard();
+        second.setScore(FULL_HOUSE, 25, 2, computer);
+        second.setScore(SIXES, 18, 1, human);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        second.setScore(SIXES, 18, 3, human);
+        assertNotEquals(first, second);
+        second.setScore(SIXES, 18, 1, computer);
+        assertNotEquals(first, second);
+        assertNotEquals(new ScoreCard(), first);
+        assertEquals(new ScoreCard().hashCode(), new ScoreCard().hashCode());
+    }
+
+    @Test
+    public void ordersPlayersByTheirFirstCategoryOnTheCard() {
+        ScoreCard scoreCard = new ScoreCard();
+        scoreCard.setScore(THREE_OF_A_KIND, 20, 1, human);
+
+        assertEquals(List.of(human), scoreCard.getPlayers());
+        scoreCard.setScore(SIXES, 24, 2, computer);
+        assertEquals(List.of(computer, human), scoreCard.getPlayers());
+        scoreCard.setScore(ACES, 3, 3, human);
+        assertEquals(List.of(human, computer), scoreCard.getPlayers());
+        // Winning the only category of the computer over leaves the human alone on the card
+        scoreCard.setScore(SIXES, 24, 3, human);
+        assertEquals(List.of(human), scoreCard.getPlayers());
+    }
+
+    @Test
+    public void keepsTotalsWhenACategoryChangesHands() {
+        ScoreCard scoreCard = new ScoreCard();
+        scoreCard.setScore(YAHTZEE, 50, 1, computer);
+        scoreCard.setScore(THREE_OF_A_KIND, 22, 2, human);
+
+        assertEquals(50, scoreCard.getTotalScore(computer));
+        scoreCard.setScore(YAHTZEE, 50, 3, human);
+        assertEquals(0, scoreCard.getTotalScore(computer));
+        assertEquals(72, scoreCard.getTotalScore(human));
+        assertEquals(human, scoreCard.getWinner(YAHTZEE).orElseThrow());
+        assertEquals(3, (int) scoreCard.getRound(YAHTZEE).orElseThrow());
+        assertFalse(scoreCard.getScore(ACES).isPresent());
+        assertFalse(scoreCard.getWinner().isPresent());
+    }
+
+    @Test
+    public void readsBackItsStringForm() {
+        ScoreCard scoreCard = new ScoreCard();
+        for (int i = 0; i < ScoreTable.CATEGORY_COUNT; i++) {
+            scoreCard.setScore(ALL_CATEGORIES.get(i), i, i + 1, i % 3 == 0 ? human : computer);
+        }
+        ScoreCard read = ScoreCard.fromString(scoreCard.toString(), human, computer);
+
+        assertEquals(scoreCard, read);
+        assertEquals(scoreCard.hashCode(), read.hashCode());
+        assertTrue(read.isComplete());
+        assertEquals(computer, read.getWinner().orElseThrow());
+    }
+}
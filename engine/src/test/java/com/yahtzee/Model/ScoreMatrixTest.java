@@ -0,0 +1,130 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.Random;
+
+public class ScoreMatrixTest {
+
+    @Test
+    public void agreesWithTheCategoriesOnEveryMultiset() {
+        int[] rolls = new int[RollSpace.MULTISET_COUNT];
+        for (int index = 0; index < rolls.length; index++) {
+            rolls[index] = RollSpace.getCounts(index);
+        }
+        ScoreMatrix matrix = new ScoreMatrix(rolls.length);
+        matrix.score(rolls, 0, rolls.length);
+
+        assertEquals(rolls.length, matrix.size());
+        assertRows(matrix, rolls, 0);
+    }
+
+    @Test
+    public void scoresPartOfAnArray() {
+        int[] rolls = randomRolls(1000, 4);
+        ScoreMatrix matrix = new ScoreMatrix(500);
+        matrix.score(rolls, 300, 800);
+
+        assertEquals(500, matrix.size());
+        assertRows(matrix, rolls, 300);
+    }
+
+    @Test
+    public void scoresTheRemainingRollsOfABuffer() {
+        int[] rolls = randomRolls(1000, 5);
+        ScoreMatrix matrix = new ScoreMatrix(1000);
+
+        IntBuffer heap = IntBuffer.wrap(rolls, 100, 600).slice();
+        heap.position(50);
+        matrix.score(heap);
+        assertEquals(550, matrix.size());
+        assertEquals(50, heap.position());
+        assertRows(matrix, rolls, 150);
+
+        IntBuffer direct = ByteBuffer.allocateDirect(rolls.length * Integer.BYTES).asIntBuffer();
+        direct.put(rolls).position(200).limit(900);
+        matrix.score(direct);
+        assertEquals(700, matrix.size());
+        assertEquals(200, direct.position());
+        assertRows(matrix, rolls, 200);
+    }
+
+    @Test
+    public void scoresInParallelLikeSequentially() {
+        int[] rolls = randomRolls(3 * ScoreMatrix.PARALLEL_CHUNK + 17, 6);
+        ScoreMatrix matrix = new ScoreMatrix(rolls.length);
+        matrix.scoreParallel(rolls, 5, rolls.length);
+
+        assertEquals(rolls.length - 5, matrix.size());
+        assertRows(matrix, rolls, 5);
+    }
+
+    @Test
+    public void rejectsMalformedRolls() {
+        ScoreMatrix matrix = new ScoreMatrix(4);
+        int ones = 6;
+        int sixDice = DiceCounts.of(List.of(1, 2, 3, 4, 5, 6));
+        int beyondSixes = DiceCounts.of(List.of(2)) | 1 << 18;
+        int fine = DiceCounts.of(List.of(1, 1, 1));
+
+        for (int roll : new int[]{ones, sixDice, beyondSixes, 7 << 3}) {
+            assertThrows(IllegalArgumentException.class, () -> matrix.score(new int[]{fine, roll}, 0, 2));
+            assertThrows(IllegalArgumentException.class, () -> matrix.score(IntBuffer.wrap(new int[]{roll})));
+            assertThrows(IllegalArgumentException.class, () -> matrix.scoreParallel(new int[]{fine, fine, roll}, 0, 3));
+        }
+    }
+
+    @Test
+    public void rejectsBatchesThatDoNotFit() {
+        ScoreMatrix matrix = new ScoreMatrix(2);
+        int[] rolls = new int[3];
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.score(rolls, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> matrix.score(rolls, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> matrix.score(rolls, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ScoreMatrix(-1));
+        matrix.score(rolls, 1, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getScore(0, 2));
+        assertEquals(0, matrix.getScore(0, 1));
+    }
+
+    /**
+     * Checks every row of the matrix against the categories, row {@code i} holding roll {@code first + i}.
+     */
+    private static void assertRows(ScoreMatrix matrix, int[] rolls, int first) {
+        for (int row = 0; row < matrix.size(); row++) {
+            List<Integer> dice = DiceCounts.toList(rolls[first + row]);
+            int validMask = 0;
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                Category c = ALL_CATEGORIES.get(category);
+                assertEquals(c + " " + dice, c.calculateScore(dice), matrix.getScore(category, row));
+                assertEquals(c + " " + dice, c.calculateScore(dice), matrix.getScores(category)[row]);
+                validMask |= c.isValid(dice) ? 1 << category : 0;
+            }
+            assertEquals(dice.toString(), validMask, matrix.getValidMask(row));
+            assertEquals(dice.toString(), validMask, matrix.getValidMasks()[row]);
+        }
+    }
+
+    /**
+     * Returns seeded packed rolls of one to five dice.
+     */
+    private static int[] randomRolls(int count, long seed) {
+        Random random = new Random(seed);
+        int[] rolls = new int[count];
+        for (int i = 0; i < count; i++) {
+            int dice = 1 + random.nextInt(RollSpace.DICE);
+            for (int die = 0; die < dice; die++) {
+                rolls[i] = DiceCounts.withDie(rolls[i], random.nextInt(6) + 1);
+            }
+        }
+        return rolls;
+    }
+}
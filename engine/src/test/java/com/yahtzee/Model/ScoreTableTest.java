@@ -0,0 +1,51 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static com.yahtzee.Model.Categories.Util.FULL_HOUSE;
+import static com.yahtzee.Model.Categories.Util.SMALL_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScoreTableTest {
+
+    @Test
+    public void agreesWithTheCategoriesOnEveryOrderedRoll() {
+        for (int sequence = 0; sequence < 7776; sequence++) {
+            List<Integer> dice = new ArrayList<>();
+            for (int die = 0, rest = sequence; die < RollSpace.DICE; die++, rest /= 6) {
+                dice.add(rest % 6 + 1);
+            }
+            int multiset = RollSpace.indexOf(DiceCounts.of(dice));
+            for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+                Category c = ALL_CATEGORIES.get(category);
+                String message = c + " " + dice;
+                assertEquals(message, c.calculateScore(dice), ScoreTable.getScore(category, multiset));
+                assertEquals(message, c.isValid(dice), ScoreTable.isValid(category, multiset));
+                assertEquals(message, c.isPotential(dice), (ScoreTable.getPotentialMask(multiset) & (1 << category)) != 0);
+            }
+        }
+    }
+
+    @Test
+    public void takesTheHighestScoreOfABitmask() {
+        int fullHouse = RollSpace.indexOf(DiceCounts.of(List.of(3, 3, 3, 5, 5)));
+        int categories = ScoreTable.maskOf(List.of(FULL_HOUSE, SMALL_STRAIGHT, YAHTZEE));
+
+        assertEquals(FULL_HOUSE.calculateScore(List.of(3, 3, 3, 5, 5)), ScoreTable.getMaxScore(categories, fullHouse));
+        assertEquals(0, ScoreTable.getMaxScore(ScoreTable.maskOf(List.of(SMALL_STRAIGHT, YAHTZEE)), fullHouse));
+    }
+
+    @Test
+    public void indexesCategoriesInTheirListOrder() {
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            assertEquals(category, ScoreTable.indexOf(ALL_CATEGORIES.get(category)));
+        }
+        assertEquals(ScoreTable.ALL_CATEGORIES_MASK, ScoreTable.maskOf(ALL_CATEGORIES));
+    }
+}
@@ -0,0 +1,55 @@
+package com.yahtzee.Model.Simulation;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SimulationReportTest {
+
+    @Test
+    public void countsWinsTiesAndScores() {
+        SimulationReport report = new SimulationReport("First", "Second");
+        report.addGame(200, 150);
+        report.addGame(120, 180);
+        report.addGame(170, 170);
+
+        assertEquals(3, report.getGames());
+        assertEquals(1, report.getWins(0));
+        assertEquals(1, report.getWins(1));
+        assertEquals(1, report.getTies());
+        assertEquals(490 / 3.0, report.getMeanScore(0), 1e-9);
+        assertEquals(120, report.getMinScore(0));
+        assertEquals(200, report.getMaxScore(0));
+        assertEquals(1, report.getHistogramCount(0, 12));
+        assertEquals(1, report.getHistogramCount(1, 17));
+        assertEquals(1, report.getHistogramCount(1, 18));
+    }
+
+    @Test
+    public void mergesToTheReportOfAllTheGames() {
+        SimulationReport all = new SimulationReport("First", "Second");
+        SimulationReport part = new SimulationReport("First", "Second");
+        SimulationReport rest = new SimulationReport("First", "Second");
+        int[][] games = {{210, 140}, {95, 230}, {160, 160}, {400, 20}};
+        for (int i = 0; i < games.length; i++) {
+            all.addGame(games[i][0], games[i][1]);
+            (i % 2 == 0 ? part : rest).addGame(games[i][0], games[i][1]);
+        }
+        part.merge(rest);
+
+        assertEquals(all.getGames(), part.getGames());
+        assertEquals(all.getTies(), part.getTies());
+        for (int player = 0; player < 2; player++) {
+            assertEquals(all.getWins(player), part.getWins(player));
+            assertEquals(all.getMeanScore(player), part.getMeanScore(player), 1e-9);
+            assertEquals(all.getScoreDeviation(player), part.getScoreDeviation(player), 1e-9);
+            assertEquals(all.getMinScore(player), part.getMinScore(player));
+            assertEquals(all.getMaxScore(player), part.getMaxScore(player));
+            for (int bucket = 0; bucket < SimulationReport.BUCKET_COUNT; bucket++) {
+                assertEquals(all.getHistogramCount(player, bucket), part.getHistogramCount(player, bucket));
+            }
+        }
+        // Scores past the last bucket land in it
+        assertEquals(1, all.getHistogramCount(0, SimulationReport.BUCKET_COUNT - 1));
+    }
+}
@@ -0,0 +1,51 @@
+package com.yahtzee.Model.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.yahtzee.Model.AI;
+
+import org.junit.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public class SimulatorTest {
+
+    @Test
+    public void playsEveryGameOfTheBatch() {
+        try (Simulator simulator = new Simulator(AI.Mode.HEURISTIC, AI.Mode.OPTIMAL, 2, 20)) {
+            SimulationReport report = simulator.run(1, 40);
+
+            assertEquals(40, report.getGames());
+            assertEquals(40, report.getWins(0) + report.getWins(1) + report.getTies());
+        }
+    }
+
+    @Test
+    public void replaysTheSameGamesFromTheSameSeedOnAnyNumberOfThreads() {
+        SimulationReport first;
+        SimulationReport second;
+        try (Simulator simulator = new Simulator(AI.Mode.HEURISTIC, AI.Mode.OPTIMAL, 1, 20)) {
+            first = simulator.run(5, 30);
+        }
+        try (Simulator simulator = new Simulator(AI.Mode.HEURISTIC, AI.Mode.OPTIMAL, 3, 20)) {
+            second = simulator.run(5, 30);
+        }
+
+        assertEquals(first.getTies(), second.getTies());
+        for (int player = 0; player < 2; player++) {
+            assertEquals(first.getWins(player), second.getWins(player));
+            assertEquals(first.getMeanScore(player), second.getMeanScore(player), 0.0);
+            assertEquals(first.getMinScore(player), second.getMinScore(player));
+            assertEquals(first.getMaxScore(player), second.getMaxScore(player));
+        }
+    }
+
+    @Test
+    public void refusesToRunOnceClosed() {
+        Simulator simulator = new Simulator(AI.Mode.HEURISTIC, AI.Mode.HEURISTIC, 1, 20);
+        simulator.close();
+
+        assertThrows(RejectedExecutionException.class, () -> simulator.run(1, 1));
+    }
+}
@@ -0,0 +1,141 @@
+package com.yahtzee.Model.Solver;
+
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CategoryOddsTest {
+
+    private final CategoryOdds odds = CategoryOdds.getInstance();
+
+    @Test
+    public void matchesARecursionOverEveryReKeep() {
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            Recursion probability = new Recursion(category, false);
+            Recursion expectedScore = new Recursion(category, true);
+            assertEquals(probability.keepValue(DiceCounts.EMPTY, 3),
+                    odds.getProbability(category, DiceCounts.EMPTY, 3), 1e-9);
+            assertEquals(expectedScore.keepValue(DiceCounts.EMPTY, 3),
+                    odds.getExpectedScore(category, DiceCounts.EMPTY, 3), 1e-9);
+
+            for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+                int kept = RollSpace.getCounts(keep);
+                for (int rollsLeft = 1; rollsLeft <= 2; rollsLeft++) {
+                    String message = category + " " + DiceCounts.toList(kept) + " " + rollsLeft;
+                    assertEquals(message, probability.keepValue(kept, rollsLeft),
+                            odds.getProbability(category, kept, rollsLeft), 1e-9);
+                    assertEquals(message, expectedScore.keepValue(kept, rollsLeft),
+                            odds.getExpectedScore(category, kept, rollsLeft), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void valuesARollByTheBestReKeep() {
+        int category = ScoreTable.indexOf(YAHTZEE);
+        Recursion recursion = new Recursion(category, false);
+        int kept = DiceCounts.of(List.of(3));
+        int rolled = DiceCounts.of(List.of(3, 3, 5, 6));
+
+        for (int rollsLeft = 0; rollsLeft <= 2; rollsLeft++) {
+            assertEquals(recursion.rollValue(kept, rolled, rollsLeft),
+                    odds.getProbability(category, kept, rolled, rollsLeft), 1e-12);
+        }
+        assertEquals(0.0, odds.getProbability(category, kept, rolled, 0), 0.0);
+        assertEquals(50.0, odds.getExpectedScore(category, kept, DiceCounts.of(List.of(3, 3, 3, 3)), 0), 0.0);
+    }
+
+    @Test
+    public void moreRollsNeverLowerTheOdds() {
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+                int kept = RollSpace.getCounts(keep);
+                double oneRoll = odds.getProbability(category, kept, 1);
+                double twoRolls = odds.getProbability(category, kept, 2);
+
+                assertTrue(oneRoll >= 0.0 && twoRolls <= 1.0 + 1e-12);
+                assertTrue(twoRolls >= oneRoll - 1e-12);
+                assertTrue(odds.getExpectedScore(category, kept, 2) >= odds.getExpectedScore(category, kept, 1) - 1e-9);
+            }
+        }
+        // The well-known chance of a Yahtzee within a turn, keeping the most common face
+        assertEquals(0.046, odds.getProbability(ScoreTable.indexOf(YAHTZEE), DiceCounts.EMPTY, 3), 0.0005);
+    }
+
+    @Test
+    public void rejectsInvalidArguments() {
+        int kept = DiceCounts.of(List.of(1, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> odds.getProbability(ScoreTable.CATEGORY_COUNT, kept, 1));
+        assertThrows(IllegalArgumentException.class, () -> odds.getProbability(0, kept, 3));
+        assertThrows(IllegalArgumentException.class, () -> odds.getProbability(0, kept, kept, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> odds.getExpectedScore(0, kept, DiceCounts.of(List.of(3, 4, 5)), 3));
+    }
+
+    /**
+     * The odds of a category computed by a plain recursion over rolls and re-keeps.
+     */
+    private static final class Recursion {
+        private final int category;
+        private final boolean score;
+        private final Map<Long, Double> keepValues = new HashMap<>();
+
+        Recursion(int category, boolean score) {
+            this.category = category;
+            this.score = score;
+        }
+
+        double handValue(int hand) {
+            int multiset = RollSpace.indexOf(hand);
+            if (!ScoreTable.isValid(category, multiset)) {
+                return 0.0;
+            }
+            return score ? ScoreTable.getScore(category, multiset) : 1.0;
+        }
+
+        double keepValue(int kept, int rollsLeft) {
+            if (DiceCounts.size(kept) == RollSpace.DICE) {
+                return handValue(kept);
+            }
+            long key = (long) kept << 2 | rollsLeft;
+            Double cached = keepValues.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            int missing = RollSpace.DICE - DiceCounts.size(kept);
+            double value = 0.0;
+            for (int outcome = RollSpace.getOutcomesStart(missing); outcome < RollSpace.getOutcomesEnd(missing); outcome++) {
+                value += RollSpace.getProbability(outcome) * rollValue(kept, RollSpace.getCounts(outcome), rollsLeft - 1);
+            }
+            keepValues.put(key, value);
+            return value;
+        }
+
+        double rollValue(int kept, int rolled, int rollsLeft) {
+            double value = handValue(DiceCounts.add(kept, rolled));
+            if (rollsLeft == 0) {
+                return value;
+            }
+            for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+                int subset = RollSpace.getCounts(keep);
+                if (subset != rolled && DiceCounts.intersect(subset, rolled) == subset) {
+                    value = Math.max(value, keepValue(DiceCounts.add(kept, subset), rollsLeft));
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.yahtzee.Model.Solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+public class DecisionCacheTest {
+
+    // Smallest capacity, which holds a single entry per stripe
+    private static final int ONE_PER_STRIPE = 16;
+
+    private final AtomicInteger computed = new AtomicInteger();
+    private final LongFunction<Decision> compute = key -> {
+        computed.incrementAndGet();
+        return new Decision((int) key, true, 0, key);
+    };
+
+    @Test
+    public void computesEachKeyOnce() {
+        DecisionCache cache = new DecisionCache(1024);
+        Decision first = cache.get(42, compute);
+        Decision second = cache.get(42, compute);
+
+        assertSame(first, second);
+        assertEquals(42.0, first.getExpectedValue(), 0.0);
+        assertEquals(1, computed.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void neverHoldsMoreThanItsCapacity() {
+        DecisionCache cache = new DecisionCache(64);
+        for (long key = 0; key < 1000; key++) {
+            cache.get(key, compute);
+        }
+
+        assertEquals(64, cache.size());
+        assertEquals(1000 - 64, cache.getEvictionCount());
+        assertEquals(1000, cache.getMissCount());
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedEntryOfAStripe() {
+        long first = 0;
+        long second = sameStripeAs(first, first);
+        long third = sameStripeAs(first, second);
+        DecisionCache cache = new DecisionCache(2 * ONE_PER_STRIPE);
+        cache.get(first, compute);
+        cache.get(second, compute);
+        // Touching the first key leaves the second one as the eldest of the stripe
+        cache.get(first, compute);
+        cache.get(third, compute);
+
+        assertEquals(1, cache.getEvictionCount());
+        computed.set(0);
+        cache.get(first, compute);
+        cache.get(third, compute);
+        assertEquals(0, computed.get());
+        cache.get(second, compute);
+        assertEquals(1, computed.get());
+    }
+
+    @Test
+    public void clearRemovesEntriesAndCounters() {
+        DecisionCache cache = new DecisionCache(ONE_PER_STRIPE);
+        for (long key = 0; key < 100; key++) {
+            cache.get(key, compute);
+            cache.get(key, compute);
+        }
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+        computed.set(0);
+        cache.get(0, compute);
+        assertEquals(1, computed.get());
+    }
+
+    @Test
+    public void rejectsLessThanOneEntryPerStripe() {
+        assertThrows(IllegalArgumentException.class, () -> new DecisionCache(ONE_PER_STRIPE - 1));
+        assertTrue(new DecisionCache(ONE_PER_STRIPE).toString().contains("0/16 entries"));
+    }
+
+    /**
+     * Returns the next key after {@code after} that evicts {@code key} from a cache of one entry per stripe.
+     */
+    private static long sameStripeAs(long key, long after) {
+        for (long other = after + 1; ; other++) {
+            DecisionCache probe = new DecisionCache(ONE_PER_STRIPE);
+            probe.get(key, k -> null);
+            probe.get(other, k -> null);
+            if (probe.getEvictionCount() == 1) {
+                return other;
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.yahtzee.Model.Solver;
+
+import static com.yahtzee.Model.Categories.Util.LARGE_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.ScoreTable;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ExpectimaxSearchTest {
+
+    private static final int YAHTZEE_ONLY = 1 << ScoreTable.indexOf(YAHTZEE);
+
+    @Test
+    public void scoresTheLastCategoryToWin() {
+        ExpectimaxSearch search = new ExpectimaxSearch(50, ForkJoinPool.commonPool());
+        int rolled = DiceCounts.of(List.of(4, 4, 4, 4, 4));
+        Decision decision = search.decide(YAHTZEE_ONLY, -10, true, DiceCounts.EMPTY, rolled, 1);
+
+        assertTrue(decision.isStand());
+        assertEquals(ScoreTable.indexOf(YAHTZEE), decision.getCategory());
+        assertEquals(1.0, decision.getExpectedValue(), 1e-9);
+        assertTrue(search.getLastDepth() >= 1);
+    }
+
+    @Test
+    public void valuesAFinishedGameByItsResult() {
+        ExpectimaxSearch search = new ExpectimaxSearch(50, ForkJoinPool.commonPool());
+        int rolled = DiceCounts.of(List.of(1, 2, 3, 4, 5));
+
+        assertEquals(1.0, search.decide(0, 3, false, DiceCounts.EMPTY, rolled, 1).getExpectedValue(), 0.0);
+        assertEquals(0.5, search.decide(0, 0, false, DiceCounts.EMPTY, rolled, 1).getExpectedValue(), 0.0);
+        assertEquals(0.0, search.decide(0, -3, false, DiceCounts.EMPTY, rolled, 1).getExpectedValue(), 0.0);
+    }
+
+    @Test
+    public void returnsAWinProbabilityForAnOpeningRoll() {
+        ExpectimaxSearch search = new ExpectimaxSearch(50, ForkJoinPool.commonPool());
+        int rolled = DiceCounts.of(List.of(2, 3, 3, 5, 6));
+        Decision decision = search.decide(ScoreTable.ALL_CATEGORIES_MASK, 0, false, DiceCounts.EMPTY, rolled, 1);
+
+        assertEquals(decision.getKeep(), DiceCounts.intersect(decision.getKeep(), rolled));
+        assertTrue(decision.getExpectedValue() >= 0.0 && decision.getExpectedValue() <= 1.0);
+        assertTrue(search.getTable().getProbeCount() > 0);
+    }
+
+    @Test
+    public void sharesOneTableUnlessGivenItsOwn() {
+        TranspositionTable own = new TranspositionTable(1 << 10, TranspositionTable.Replacement.DEPTH_PREFERRED);
+
+        assertSame(new ExpectimaxSearch().getTable(), new ExpectimaxSearch(50, ForkJoinPool.commonPool()).getTable());
+        assertSame(ExpectimaxSearch.getSharedTable(), new ExpectimaxSearch().getTable());
+        assertSame(own, new ExpectimaxSearch(50, ForkJoinPool.commonPool(), own).getTable());
+        assertNotSame(ExpectimaxSearch.getSharedTable(), own);
+    }
+
+    @Test
+    public void reusesThePositionsAnotherSearchStoredInTheTable() {
+        TranspositionTable table = new TranspositionTable(1 << 16, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        int open = YAHTZEE_ONLY | 1 << ScoreTable.indexOf(LARGE_STRAIGHT);
+        int rolled = DiceCounts.of(List.of(2, 3, 4, 5, 5));
+        new ExpectimaxSearch(50, ForkJoinPool.commonPool(), table).decide(open, 0, false, DiceCounts.EMPTY, rolled, 1);
+        long hits = table.getHitCount();
+        ExpectimaxSearch other = new ExpectimaxSearch(50, ForkJoinPool.commonPool(), table);
+        Decision decision = other.decide(open, 0, false, DiceCounts.EMPTY, rolled, 1);
+
+        assertTrue(table.getHitCount() > hits);
+        assertTrue(decision.getExpectedValue() >= 0.0 && decision.getExpectedValue() <= 1.0);
+    }
+
+    @Test
+    public void decidesInParallelTasksOfItsOwnOneThreadPool() throws Exception {
+        // As the games of a simulation do: a search that timed out must not strand the tasks of the batch
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            ExpectimaxSearch search = new ExpectimaxSearch(1, pool);
+            int rolled = DiceCounts.of(List.of(1, 1, 2, 5, 6));
+            List<Decision> decisions = pool.submit(() -> IntStream.range(0, 8).parallel()
+                    .mapToObj(game -> search.decide(ScoreTable.ALL_CATEGORIES_MASK, game, false, DiceCounts.EMPTY, rolled, 1))
+                    .collect(Collectors.toList())).get(60, TimeUnit.SECONDS);
+
+            assertEquals(8, decisions.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.yahtzee.Model.Solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.ScoreTable;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class LayeredTableBuilderTest {
+
+    @Test
+    public void layersBitmasksByTheirNumberOfBits() {
+        LayeredTableBuilder builder = LayeredTableBuilder.ofBitmasks(4);
+
+        assertEquals(4, builder.getLayerCount());
+        assertEquals(15, builder.getStateCount());
+        assertArrayEquals(new int[]{1, 2, 4, 8}, builder.getLayer(0));
+        assertArrayEquals(new int[]{3, 5, 6, 9, 10, 12}, builder.getLayer(1));
+        assertArrayEquals(new int[]{7, 11, 13, 14}, builder.getLayer(2));
+        assertArrayEquals(new int[]{15}, builder.getLayer(3));
+    }
+
+    @Test
+    public void solvesEveryStateOnceAfterItsDependencies() {
+        int bits = ScoreTable.CATEGORY_COUNT;
+        LayeredTableBuilder builder = LayeredTableBuilder.ofBitmasks(bits);
+        AtomicIntegerArray solved = new AtomicIntegerArray(1 << bits);
+        AtomicInteger unsolvedDependencies = new AtomicInteger();
+        List<String> progress = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            builder.build(pool, state -> {
+                for (int remaining = state; remaining != 0; remaining &= remaining - 1) {
+                    int dependency = state & ~Integer.lowestOneBit(remaining);
+                    if (dependency != 0 && solved.get(dependency) == 0) {
+                        unsolvedDependencies.incrementAndGet();
+                    }
+                }
+                solved.incrementAndGet(state);
+            }, (completedLayers, layerCount, completedStates, stateCount, elapsedNanos) ->
+                    progress.add(completedLayers + "/" + layerCount + " " + completedStates + "/" + stateCount));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(0, unsolvedDependencies.get());
+        assertEquals(0, solved.get(0));
+        for (int state = 1; state < 1 << bits; state++) {
+            assertEquals(1, solved.get(state));
+        }
+        assertEquals(bits, progress.size());
+        assertEquals("1/12 12/4095", progress.get(0));
+        assertEquals("12/12 4095/4095", progress.get(bits - 1));
+        assertEquals(OptimalSolver.SOLVED_STATE_COUNT, builder.getStateCount());
+    }
+
+    @Test
+    public void buildsTheGivenLayersWithoutAListener() {
+        LayeredTableBuilder builder = new LayeredTableBuilder(new int[][]{{5}, {}, {2, 9}});
+        List<Integer> order = new ArrayList<>();
+
+        assertTrue(builder.build(ForkJoinPool.commonPool(), state -> {
+            synchronized (order) {
+                order.add(state);
+            }
+        }, null) >= 0);
+        assertEquals(5, (int) order.get(0));
+        assertEquals(3, order.size());
+        assertEquals(3, builder.getStateCount());
+    }
+
+    @Test
+    public void solvesTheSameValuesInAnyPool() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            OptimalSolver solver = OptimalSolver.solve(pool, null);
+            for (int open = 0; open < OptimalSolver.STATE_COUNT; open++) {
+                assertEquals(OptimalSolver.getInstance().getValue(open), solver.getValue(open), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectsAnInvalidNumberOfBits() {
+        assertThrows(IllegalArgumentException.class, () -> LayeredTableBuilder.ofBitmasks(0));
+        assertThrows(IllegalArgumentException.class, () -> LayeredTableBuilder.ofBitmasks(31));
+    }
+}
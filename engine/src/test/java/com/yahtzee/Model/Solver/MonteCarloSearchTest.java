@@ -0,0 +1,95 @@
+package com.yahtzee.Model.Solver;
+
+import static com.yahtzee.Model.Categories.Util.LARGE_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class MonteCarloSearchTest {
+
+    private static final int YAHTZEE_ONLY = 1 << ScoreTable.indexOf(YAHTZEE);
+
+    @Test
+    public void scoresTheLastCategoryToWin() {
+        MonteCarloSearch search = new MonteCarloSearch(100, 1, ForkJoinPool.commonPool(), 1);
+        int rolled = DiceCounts.of(List.of(4, 4, 4, 4, 4));
+        Decision decision = search.decide(YAHTZEE_ONLY, -10, true, DiceCounts.EMPTY, rolled, 1);
+
+        assertTrue(decision.isStand());
+        assertEquals(ScoreTable.indexOf(YAHTZEE), decision.getCategory());
+        assertEquals(1.0, decision.getExpectedValue(), 0.0);
+        assertTrue(search.getLastIterations() > 0);
+    }
+
+    @Test
+    public void valuesAFinishedGameByItsResult() {
+        MonteCarloSearch search = new MonteCarloSearch(10, 1, ForkJoinPool.commonPool(), 1);
+        int rolled = DiceCounts.of(List.of(1, 2, 3, 4, 5));
+
+        assertEquals(1.0, search.decide(0, 3, false, DiceCounts.EMPTY, rolled, 1).getExpectedValue(), 0.0);
+        assertEquals(0.5, search.decide(0, 0, false, DiceCounts.EMPTY, rolled, 1).getExpectedValue(), 0.0);
+        assertEquals(0.0, search.decide(0, -3, false, DiceCounts.EMPTY, rolled, 1).getExpectedValue(), 0.0);
+    }
+
+    @Test
+    public void visitsTheDominantKeepMostOften() {
+        MonteCarloSearch search = new MonteCarloSearch(50, 1, ForkJoinPool.commonPool(), 5);
+        int rolled = DiceCounts.of(List.of(2, 3, 4, 5, 5));
+        int straight = DiceCounts.of(List.of(2, 3, 4, 5));
+        Decision decision = search.decide(1 << ScoreTable.indexOf(LARGE_STRAIGHT), 0, false, DiceCounts.EMPTY, rolled, 1);
+
+        assertFalse(decision.isStand());
+        assertEquals(straight, decision.getKeep());
+        int visits = search.getLastVisits(RollSpace.indexOf(straight));
+        for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+            if (RollSpace.getCounts(keep) != straight) {
+                assertTrue(DiceCounts.toList(RollSpace.getCounts(keep)).toString(), search.getLastVisits(keep) < visits);
+            }
+        }
+    }
+
+    @Test
+    public void keepsPartOfTheRolledDiceOrStands() {
+        MonteCarloSearch search = new MonteCarloSearch(MonteCarloSearch.MIN_USEFUL_TIME_BUDGET_MILLIS, 2,
+                ForkJoinPool.commonPool(), 7);
+        int rolled = DiceCounts.of(List.of(2, 3, 3, 5, 6));
+        Decision decision = search.decide(ScoreTable.ALL_CATEGORIES_MASK, 0, false, DiceCounts.EMPTY, rolled, 1);
+
+        assertEquals(decision.getKeep(), DiceCounts.intersect(decision.getKeep(), rolled));
+        assertEquals(decision.isStand(), decision.getKeep() == rolled);
+        assertTrue(decision.getExpectedValue() >= 0.0 && decision.getExpectedValue() <= 1.0);
+    }
+
+    @Test
+    public void decidesFromAThreadOfItsOwnOneThreadPool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            MonteCarloSearch search = new MonteCarloSearch(20, pool, 3);
+            int rolled = DiceCounts.of(List.of(1, 1, 2, 5, 6));
+            Decision decision = pool.submit(() -> search.decide(ScoreTable.ALL_CATEGORIES_MASK, 0, false,
+                    DiceCounts.EMPTY, rolled, 1)).get(60, TimeUnit.SECONDS);
+
+            assertEquals(decision.getKeep(), DiceCounts.intersect(decision.getKeep(), rolled));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void needsAWorker() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloSearch(100, 0, ForkJoinPool.commonPool(), 1));
+    }
+}
@@ -0,0 +1,102 @@
+package com.yahtzee.Model.Solver;
+
+import static com.yahtzee.Model.Categories.Util.FULL_HOUSE;
+import static com.yahtzee.Model.Categories.Util.LARGE_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.SMALL_STRAIGHT;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.Category;
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class OptimalSolverTest {
+
+    private final OptimalSolver solver = OptimalSolver.getInstance();
+
+    @Test
+    public void aFullScorecardIsWorthNothing() {
+        assertEquals(0.0, solver.getValue(0), 0.0);
+        assertTrue(solver.decide(0, DiceCounts.EMPTY, DiceCounts.of(List.of(1, 2, 3, 4, 5)), 1).isStand());
+    }
+
+    @Test
+    public void aLoneCategoryGoesToWhoeverFillsItFirst() {
+        // The category scores the same in any valid hand, so both players play for the probability p of
+        // filling it in a turn; otherwise the opponent moves with it open: value = p * score - (1 - p) * value
+        Map<Category, List<Integer>> validHands = Map.of(FULL_HOUSE, List.of(2, 2, 3, 3, 3),
+                SMALL_STRAIGHT, List.of(1, 2, 3, 4, 6), LARGE_STRAIGHT, List.of(1, 2, 3, 4, 5),
+                YAHTZEE, List.of(1, 1, 1, 1, 1));
+        for (Map.Entry<Category, List<Integer>> entry : validHands.entrySet()) {
+            int category = ScoreTable.indexOf(entry.getKey());
+            double probability = CategoryOdds.getInstance().getProbability(category, DiceCounts.EMPTY, CategoryOdds.MAX_ROLLS_LEFT);
+            double score = entry.getKey().calculateScore(entry.getValue());
+            assertEquals(entry.getKey().toString(), probability * score / (2 - probability), solver.getValue(1 << category), 1e-6);
+        }
+    }
+
+    @Test
+    public void solvesTheLeadOfTheFirstPlayerToMoveInAWholeGame() {
+        assertEquals(13.398, solver.getValue(ScoreTable.ALL_CATEGORIES_MASK), 1e-3);
+    }
+
+    @Test
+    public void aTurnWithoutAScoreHandsTheMoveToTheOpponent() {
+        int open = 1 << ScoreTable.indexOf(YAHTZEE);
+        Decision decision = solver.decide(open, DiceCounts.EMPTY, DiceCounts.of(List.of(1, 2, 3, 4, 6)), 3);
+
+        assertTrue(decision.isStand());
+        assertEquals(-1, decision.getCategory());
+        assertTrue(solver.getValue(open) > 0);
+        assertEquals(-solver.getValue(open), decision.getExpectedValue(), 1e-9);
+    }
+
+    @Test
+    public void standsForTheBestCategoryMinusTheValueLeftToTheOpponent() {
+        int open = ScoreTable.ALL_CATEGORIES_MASK;
+        int rolled = DiceCounts.of(List.of(6, 6, 6, 6, 6));
+        Decision decision = solver.decide(open, DiceCounts.EMPTY, rolled, 1);
+
+        int hand = RollSpace.indexOf(rolled);
+        double best = Double.NEGATIVE_INFINITY;
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            if (ScoreTable.isValid(category, hand)) {
+                best = Math.max(best, ScoreTable.getScore(category, hand) - solver.getValue(open & ~(1 << category)));
+            }
+        }
+        assertTrue(decision.isStand());
+        assertEquals(rolled, decision.getKeep());
+        assertEquals(best, ScoreTable.getScore(decision.getCategory(), hand)
+                - solver.getValue(open & ~(1 << decision.getCategory())), 1e-9);
+        assertEquals(best, decision.getExpectedValue(), 1e-9);
+    }
+
+    @Test
+    public void alwaysStandsOnTheLastRoll() {
+        int rolled = DiceCounts.of(List.of(1, 2, 2, 4, 6));
+        Decision decision = solver.decide(ScoreTable.ALL_CATEGORIES_MASK, DiceCounts.EMPTY, rolled, 3);
+
+        assertTrue(decision.isStand());
+        assertEquals(rolled, decision.getKeep());
+    }
+
+    @Test
+    public void keepsTowardsAHigherValueThanStanding() {
+        int open = ScoreTable.ALL_CATEGORIES_MASK;
+        int rolled = DiceCounts.of(List.of(1, 2, 2, 4, 6));
+        Decision first = solver.decide(open, DiceCounts.EMPTY, rolled, 1);
+        Decision last = solver.decide(open, DiceCounts.EMPTY, rolled, 3);
+
+        assertFalse(first.isStand());
+        assertEquals(first.getKeep(), DiceCounts.intersect(first.getKeep(), rolled));
+        assertTrue(first.getExpectedValue() > last.getExpectedValue());
+    }
+}
@@ -0,0 +1,124 @@
+package com.yahtzee.Model.Solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.DiceCounts;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public class StrategyTableTest {
+
+    // Layout of the header: magic, version, section count and checksum
+    private static final int HEADER_BYTES = 16;
+    private static final int CHECKSUM_OFFSET = 12;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final OptimalSolver solver = OptimalSolver.getInstance();
+
+    @Test
+    public void readsBackTheValuesOfTheSolver() {
+        StrategyTable table = StrategyTable.wrap(StrategyTable.encode(solver));
+
+        assertSameValues(table);
+        OptimalSolver fromTable = OptimalSolver.fromTable(table);
+        int kept = DiceCounts.of(List.of(2, 2));
+        int rolled = DiceCounts.of(List.of(2, 5, 6));
+        int open = OptimalSolver.STATE_COUNT - 1;
+        assertEquals(solver.decide(open, kept, rolled, 2).getKeep(), fromTable.decide(open, kept, rolled, 2).getKeep());
+        assertEquals(solver.decide(open, kept, rolled, 2).getExpectedValue(),
+                fromTable.decide(open, kept, rolled, 2).getExpectedValue(), 0.0);
+    }
+
+    @Test
+    public void readsBackAFileAndAStream() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("strategy.bin");
+        StrategyTable.write(solver, file);
+        StrategyTable mapped = StrategyTable.map(file);
+
+        assertSameValues(mapped);
+        ByteBuffer encoded = StrategyTable.encode(solver);
+        assertEquals(encoded.capacity(), mapped.getByteCount());
+        StrategyTable read = StrategyTable.read(new ByteArrayInputStream(encoded.array()));
+        assertSameValues(read);
+        assertEquals(mapped.getChecksum(), read.getChecksum());
+    }
+
+    @Test
+    public void rejectsAnotherFormat() {
+        ByteBuffer magic = StrategyTable.encode(solver);
+        magic.putInt(0, 0x1234_5678);
+        ByteBuffer version = StrategyTable.encode(solver);
+        version.putInt(4, StrategyTable.VERSION + 1);
+
+        assertRejected("Not a strategy table", magic);
+        assertRejected("Unsupported strategy table version", version);
+        assertRejected("Not a strategy table", ByteBuffer.allocate(8));
+    }
+
+    @Test
+    public void rejectsCorruptData() {
+        ByteBuffer value = StrategyTable.encode(solver);
+        int last = value.capacity() - Double.BYTES;
+        value.putDouble(last, value.getDouble(last) + 1.0);
+        ByteBuffer directory = StrategyTable.encode(solver);
+        directory.putInt(8, Integer.MAX_VALUE);
+        ByteBuffer truncated = StrategyTable.encode(solver);
+        truncated.limit(truncated.capacity() - Double.BYTES);
+
+        assertRejected("Strategy table checksum mismatch", value);
+        assertRejected("Corrupt strategy table directory", directory);
+        assertRejected("Strategy table checksum mismatch", truncated.slice());
+    }
+
+    @Test
+    public void rejectsATableOfOtherParametersOrSections() {
+        // The first section holds the parameters; a resealed table passes the checksum
+        ByteBuffer parameters = StrategyTable.encode(solver);
+        int parametersOffset = parameters.getInt(HEADER_BYTES + 4);
+        parameters.putInt(parametersOffset, OptimalSolver.STATE_COUNT / 2);
+        reseal(parameters);
+        ByteBuffer section = StrategyTable.encode(solver);
+        section.putInt(HEADER_BYTES, StrategyTable.PARAMETERS + 100);
+        reseal(section);
+
+        assertRejected("Strategy table solved with other parameters", parameters);
+        assertRejected("Strategy table has no section " + StrategyTable.PARAMETERS, section);
+    }
+
+    private void assertSameValues(StrategyTable table) {
+        DoubleBuffer values = table.getOptimalValues();
+        assertEquals(OptimalSolver.STATE_COUNT, values.remaining());
+        for (int open = 0; open < OptimalSolver.STATE_COUNT; open++) {
+            assertEquals(solver.getValue(open), values.get(open), 0.0);
+        }
+    }
+
+    private static void assertRejected(String message, ByteBuffer buffer) {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> StrategyTable.wrap(buffer));
+        assertTrue(thrown.getMessage(), thrown.getMessage().startsWith(message));
+    }
+
+    /**
+     * Stores the checksum of a modified table, as if it had been encoded that way.
+     */
+    private static void reseal(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(HEADER_BYTES));
+        buffer.putInt(CHECKSUM_OFFSET, (int) crc.getValue());
+    }
+}
@@ -0,0 +1,98 @@
+package com.yahtzee.Model.Solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void returnsTheStoredEntryOfAPosition() {
+        TranspositionTable table = new TranspositionTable(1024, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        assertNull(table.get(42));
+        assertTrue(table.put(42, 3, TranspositionTable.LOWER_BOUND, 0.25));
+
+        TranspositionTable.Entry entry = table.get(42);
+        assertEquals(3, entry.getDepth());
+        assertEquals(TranspositionTable.LOWER_BOUND, entry.getBound());
+        assertEquals(0.25, entry.getValue(), 0.0);
+        assertNull(table.get(43));
+        assertEquals(3, table.getProbeCount());
+        assertEquals(1, table.getHitCount());
+        assertEquals(1, table.getOccupancy());
+    }
+
+    @Test
+    public void missesAnotherPositionOfTheSameSlot() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.ALWAYS);
+        table.put(1L << 40, 5, TranspositionTable.EXACT, 0.5);
+
+        assertNull(table.get(2L << 40));
+        assertEquals(0.5, table.get(1L << 40).getValue(), 0.0);
+    }
+
+    @Test
+    public void alwaysReplacesTheEntryOfAnotherPosition() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.ALWAYS);
+        table.put(1, 9, TranspositionTable.EXACT, 0.5);
+
+        assertTrue(table.put(2, 1, TranspositionTable.EXACT, 0.75));
+        assertNull(table.get(1));
+        assertEquals(0.75, table.get(2).getValue(), 0.0);
+        assertEquals(1, table.getOverwriteCount());
+    }
+
+    @Test
+    public void keepsADeeperEntryOfTheCurrentGeneration() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        table.put(1, 9, TranspositionTable.EXACT, 0.5);
+
+        assertFalse(table.put(2, 1, TranspositionTable.EXACT, 0.75));
+        assertEquals(0.5, table.get(1).getValue(), 0.0);
+        assertEquals(1, table.getRejectionCount());
+        // The same position is always updated, and a deeper search replaces the entry
+        assertTrue(table.put(1, 2, TranspositionTable.UPPER_BOUND, 0.25));
+        assertEquals(2, table.get(1).getDepth());
+        assertTrue(table.put(2, 3, TranspositionTable.EXACT, 0.75));
+        assertEquals(0.75, table.get(2).getValue(), 0.0);
+    }
+
+    @Test
+    public void replacesADeeperEntryOfAnOlderGeneration() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        table.put(1, 9, TranspositionTable.EXACT, 0.5);
+        table.newGeneration();
+
+        assertTrue(table.put(2, 1, TranspositionTable.EXACT, 0.75));
+        assertEquals(1, table.get(2).getDepth());
+    }
+
+    @Test
+    public void clearRemovesEntriesAndCounters() {
+        TranspositionTable table = new TranspositionTable(100, TranspositionTable.Replacement.ALWAYS);
+        for (long key = 0; key < 100; key++) {
+            table.put(key << 32, 1, TranspositionTable.EXACT, key);
+        }
+        assertEquals(128, table.getCapacity());
+        assertEquals(100, table.getOccupancy());
+
+        table.clear();
+        assertEquals(0, table.getOccupancy());
+        assertEquals(0, table.getStoreCount());
+        assertNull(table.get(0));
+        assertEquals(0.0, table.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void saturatesTheDepthAndRejectsBadCapacities() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.ALWAYS);
+        table.put(7, 1000, TranspositionTable.EXACT, 1.0);
+
+        assertEquals(TranspositionTable.MAX_DEPTH, table.get(7).getDepth());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0, TranspositionTable.Replacement.ALWAYS));
+    }
+}
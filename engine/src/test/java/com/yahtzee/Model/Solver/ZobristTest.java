@@ -0,0 +1,127 @@
+package com.yahtzee.Model.Solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.yahtzee.Model.DiceCounts;
+import com.yahtzee.Model.GameState;
+import com.yahtzee.Model.RollSpace;
+import com.yahtzee.Model.ScoreTable;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+public class ZobristTest {
+
+    @Test
+    public void hashesDistinctPositionsApart() {
+        Set<Long> hashes = new HashSet<>();
+        for (int open = 0; open <= ScoreTable.ALL_CATEGORIES_MASK; open++) {
+            for (int scoreDiff = -20; scoreDiff <= 20; scoreDiff++) {
+                assertTrue(hashes.add(Zobrist.hash(open, scoreDiff, false)));
+                assertTrue(hashes.add(Zobrist.hash(open, scoreDiff, true)));
+            }
+        }
+    }
+
+    @Test
+    public void updatesTheHashOneCategoryAtATime() {
+        int open = ScoreTable.ALL_CATEGORIES_MASK;
+        long hash = Zobrist.hash(open, 0, false);
+        for (int category = 0; category < ScoreTable.CATEGORY_COUNT; category++) {
+            hash ^= Zobrist.open(1 << category);
+            open &= ~(1 << category);
+            assertEquals(Zobrist.hash(open, 0, false), hash);
+        }
+
+        assertEquals(Zobrist.hash(0, 5, false), hash ^ Zobrist.scoreDiff(0) ^ Zobrist.scoreDiff(5));
+        assertThrows(IllegalArgumentException.class, () -> Zobrist.scoreDiff(Zobrist.MAX_SCORE_DIFF + 1));
+    }
+
+    @Test
+    public void updatesTheHashOfAGameStateMoveByMove() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int game = 0; game < 50; game++) {
+            GameState state = GameState.newGame();
+            long hash = Zobrist.hash(state);
+            while (!state.isOver()) {
+                GameState next = randomMove(state, random);
+                hash = toggleChanges(hash, state, next);
+                assertEquals(next.toString(), Zobrist.hash(next), hash);
+                state = next;
+            }
+        }
+    }
+
+    @Test
+    public void togglesOnlyTheRolledDiceOnARoll() {
+        GameState state = GameState.newGame().withPlayerOrder(GameState.FIRST);
+        int outcome = DiceCounts.of(List.of(3, 3, 5, 6, 6));
+        GameState rolled = state.roll(outcome);
+
+        assertEquals(Zobrist.hash(rolled), Zobrist.hash(state) ^ Zobrist.rolled(DiceCounts.EMPTY) ^ Zobrist.rolled(outcome));
+        assertNotEquals(Zobrist.hash(state), Zobrist.hash(GameState.newGame()));
+        assertNotEquals(Zobrist.hash(state), Zobrist.hash(GameState.newGame().withPlayerOrder(GameState.SECOND)));
+    }
+
+    /**
+     * Plays a random legal move: orders the players of a tied round, rolls, keeps part of the roll,
+     * stands or scores an open category, or sometimes none.
+     */
+    private static GameState randomMove(GameState state, SplittableRandom random) {
+        if (state.getMover() == GameState.NO_PLAYER) {
+            return state.withPlayerOrder(random.nextInt(2));
+        }
+        if (!state.isRolled()) {
+            int outcome = DiceCounts.EMPTY;
+            for (int die = DiceCounts.size(state.getKept()); die < RollSpace.DICE; die++) {
+                outcome = DiceCounts.withDie(outcome, random.nextInt(6) + 1);
+            }
+            return state.roll(outcome);
+        }
+        if (state.isAllDiceKept()) {
+            int open = state.getOpenCategories();
+            for (int skip = random.nextInt(Integer.bitCount(open)); skip > 0; skip--) {
+                open &= open - 1;
+            }
+            return state.score(random.nextInt(10) == 0 ? -1 : Integer.numberOfTrailingZeros(open));
+        }
+        int keep = DiceCounts.EMPTY;
+        for (int face : DiceCounts.toList(state.getRolled())) {
+            if (random.nextBoolean()) {
+                keep = DiceCounts.withDie(keep, face);
+            }
+        }
+        return state.getRoll() < 3 && keep != state.getRolled() ? state.keep(keep) : state.stand();
+    }
+
+    /**
+     * Updates a hash from one state to the next by toggling the keys of the features that differ.
+     */
+    private static long toggleChanges(long hash, GameState from, GameState to) {
+        hash ^= Zobrist.open(from.getOpenCategories() ^ to.getOpenCategories());
+        for (int filled = from.getOpenCategories() & ~to.getOpenCategories(); filled != 0; filled &= filled - 1) {
+            int category = Integer.numberOfTrailingZeros(filled);
+            hash ^= Zobrist.owner(category, to.getOwner(category));
+        }
+        hash ^= Zobrist.scoreDiff(scoreDiff(from)) ^ Zobrist.scoreDiff(scoreDiff(to));
+        hash ^= Zobrist.roll(from.getRoll()) ^ Zobrist.roll(to.getRoll());
+        hash ^= Zobrist.kept(from.getKept()) ^ Zobrist.kept(to.getKept());
+        hash ^= Zobrist.rolled(from.getRolled()) ^ Zobrist.rolled(to.getRolled());
+        if (from.getMover() != to.getMover()) {
+            hash ^= from.getMover() == GameState.NO_PLAYER ? 0 : Zobrist.mover(from.getMover());
+            hash ^= to.getMover() == GameState.NO_PLAYER ? 0 : Zobrist.mover(to.getMover());
+        }
+        return from.hasNextPlayer() == to.hasNextPlayer() ? hash : hash ^ Zobrist.nextPlayer();
+    }
+
+    private static int scoreDiff(GameState state) {
+        return state.getTotalScore(GameState.FIRST) - state.getTotalScore(GameState.SECOND);
+    }
+}
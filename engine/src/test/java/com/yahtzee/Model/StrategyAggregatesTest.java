@@ -0,0 +1,92 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static com.yahtzee.Model.Categories.Util.FULL_HOUSE;
+import static com.yahtzee.Model.Categories.Util.YAHTZEE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class StrategyAggregatesTest {
+
+    private final StrategyTree tree = new StrategyTree();
+
+    @Test
+    public void agreesWithAScanOfTheLeaves() {
+        Random random = new Random(21);
+        for (int id = 0; id < tree.getNodeCount(); id += 97) {
+            StrategyNode node = tree.getNode(id);
+            List<Category> categories = new ArrayList<>();
+            for (Category category : ALL_CATEGORIES) {
+                if (random.nextInt(4) == 0) {
+                    categories.add(category);
+                }
+            }
+
+            StrategyNode best = node;
+            int bestScore = -1;
+            double total = 0;
+            for (StrategyNode leaf : node.getLeafNodes()) {
+                int score = maxScore(categories, leaf.getPath());
+                total += score;
+                if (score > bestScore) {
+                    best = leaf;
+                    bestScore = score;
+                }
+            }
+
+            String message = categories + " " + node;
+            assertEquals(message, best, node.getBestDescendant(categories));
+            assertEquals(message, total / node.getLeafNodes().size(), node.getExpectedValue(categories), 1e-9);
+            if (!categories.isEmpty()) {
+                Category category = categories.get(0);
+                assertEquals(message, node.getBestDescendant(List.of(category)), node.getBestDescendant(category));
+            }
+        }
+    }
+
+    @Test
+    public void breaksTiesForTheFirstLeaf() {
+        StrategyNode node = tree.getRoot().getChild(List.of(2, 2)).orElseThrow();
+
+        assertEquals(List.of(2, 2, 1, 1, 1), node.getBestDescendant(FULL_HOUSE).getPath());
+        assertEquals(List.of(2, 2, 2, 2, 2), node.getBestDescendant(YAHTZEE).getPath());
+        assertEquals(node.getBestDescendant(YAHTZEE), node.getBestDescendant(List.of(YAHTZEE)));
+    }
+
+    @Test
+    public void aLeafIsItsOwnBestDescendant() {
+        StrategyNode leaf = tree.getRoot().getChild(List.of(1, 2, 3, 4, 6)).orElseThrow();
+
+        assertEquals(leaf, leaf.getBestDescendant(ALL_CATEGORIES));
+        assertEquals(maxScore(ALL_CATEGORIES, leaf.getPath()), leaf.getExpectedValue(ALL_CATEGORIES), 0.0);
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedBitmask() {
+        StrategyAggregates first = StrategyAggregates.of(1);
+        StrategyAggregates second = StrategyAggregates.of(2);
+        for (int categories = 3; categories <= StrategyAggregates.CACHE_CAPACITY; categories++) {
+            StrategyAggregates.of(categories);
+        }
+        assertSame(first, StrategyAggregates.of(1));
+        StrategyAggregates.of(StrategyAggregates.CACHE_CAPACITY + 1);
+
+        assertSame(first, StrategyAggregates.of(1));
+        assertNotSame(second, StrategyAggregates.of(2));
+    }
+
+    private static int maxScore(List<Category> categories, List<Integer> dice) {
+        int score = 0;
+        for (Category category : categories) {
+            score = Math.max(score, category.calculateScore(dice));
+        }
+        return score;
+    }
+}
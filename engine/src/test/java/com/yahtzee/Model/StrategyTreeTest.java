@@ -0,0 +1,74 @@
+package com.yahtzee.Model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StrategyTreeTest {
+
+    private final StrategyTree tree = new StrategyTree();
+
+    @Test
+    public void holdsEveryDiceSequenceUpToFiveDice() {
+        assertEquals(1 + 6 + 36 + 216 + 1296 + 7776, tree.getNodeCount());
+        assertEquals(7776, tree.getRoot().getLeafNodes().size());
+    }
+
+    @Test
+    public void childrenExtendThePathOfTheirParent() {
+        for (int id = 0; id < tree.getNodeCount(); id++) {
+            StrategyNode node = tree.getNode(id);
+            assertEquals(node.getPath().size(), node.getDepth());
+            assertEquals(node.getDepth() == StrategyTree.DEPTH, node.isLeaf());
+
+            List<StrategyNode> children = node.getChildren();
+            assertEquals(node.isLeaf() ? 0 : StrategyTree.FACES, children.size());
+            for (StrategyNode child : children) {
+                List<Integer> path = new ArrayList<>(node.getPath());
+                path.add(child.getValue());
+                assertEquals(path, child.getPath());
+                assertEquals(node, child.getParent().orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    public void findsTheNodeOfAPath() {
+        StrategyNode node = tree.getRoot().getChild(List.of(6, 1, 3)).orElseThrow();
+
+        assertEquals(List.of(6, 1, 3), node.getPath());
+        assertEquals(node, tree.getRoot().getChild(6).orElseThrow().getChild(List.of(1, 3)).orElseThrow());
+        assertEquals("6 -> 1 -> 3", node.toString());
+        assertFalse(tree.getRoot().getChild(List.of(1, 2, 3, 4, 5, 6)).isPresent());
+        assertFalse(tree.getRoot().getChild(7).isPresent());
+        assertFalse(tree.getRoot().getParent().isPresent());
+    }
+
+    @Test
+    public void leavesBelowANodeAreItsCompletionsInPathOrder() {
+        StrategyNode node = tree.getRoot().getChild(List.of(2, 5)).orElseThrow();
+        List<StrategyNode> leaves = node.getLeafNodes();
+
+        assertEquals(216, leaves.size());
+        assertEquals(List.of(2, 5, 1, 1, 1), leaves.get(0).getPath());
+        assertEquals(List.of(2, 5, 1, 1, 2), leaves.get(1).getPath());
+        assertEquals(List.of(2, 5, 6, 6, 6), leaves.get(215).getPath());
+        for (StrategyNode leaf : leaves) {
+            assertTrue(leaf.isLeaf());
+            assertEquals(List.of(2, 5), leaf.getPath().subList(0, 2));
+        }
+    }
+
+    @Test
+    public void countsTheDiceOfThePath() {
+        StrategyNode node = tree.getRoot().getChild(List.of(4, 1, 4)).orElseThrow();
+
+        assertEquals(DiceCounts.of(List.of(1, 4, 4)), node.getCounts());
+        assertEquals(DiceCounts.EMPTY, tree.getRoot().getCounts());
+    }
+}
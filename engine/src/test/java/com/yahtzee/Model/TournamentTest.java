@@ -0,0 +1,105 @@
+package com.yahtzee.Model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import com.yahtzee.Model.Dice.SplittableDiceSource;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TournamentTest {
+
+    @Test
+    public void gamesPlayedSideBySideDoNotShareState() {
+        Tournament alone = newGame(11);
+        while (!alone.isOver()) {
+            playRoll(alone);
+        }
+
+        Tournament interleaved = newGame(11);
+        Tournament other = newGame(12);
+        while (!interleaved.isOver() || !other.isOver()) {
+            if (!interleaved.isOver()) {
+                playRoll(interleaved);
+            }
+            if (!other.isOver()) {
+                playRoll(other);
+            }
+        }
+
+        assertNotSame(alone.getScoreCard(), other.getScoreCard());
+        assertNotSame(alone.getLogger(), other.getLogger());
+        assertEquals(alone.getScoreCard(), interleaved.getScoreCard());
+        assertEquals(alone.getResultText(), interleaved.getResultText());
+    }
+
+    @Test
+    public void gamesPlayedOnConcurrentThreadsMatchTheirSeeds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ScoreCard>> results = new ArrayList<>();
+            for (int game = 0; game < 8; game++) {
+                long seed = game % 2;
+                results.add(executor.submit(() -> {
+                    Tournament tournament = newGame(seed);
+                    while (!tournament.isOver()) {
+                        playRoll(tournament);
+                    }
+                    return tournament.getScoreCard();
+                }));
+            }
+            for (int game = 2; game < 8; game++) {
+                assertEquals(results.get(game % 2).get(), results.get(game).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void theTrailingPlayerMovesFirstInTheNextRound() {
+        Tournament tournament = newGame(3);
+        Player first = tournament.getPlayers().get(0);
+        Player second = tournament.getPlayers().get(1);
+        tournament.setPlayerOrder(first, second);
+
+        while (tournament.getCurrentRound() == 1) {
+            playRoll(tournament);
+        }
+
+        int firstScore = tournament.getScoreCard().getTotalScore(first);
+        int secondScore = tournament.getScoreCard().getTotalScore(second);
+        if (firstScore == secondScore) {
+            assertNull(tournament.getCurrentPlayer());
+        } else {
+            assertEquals(firstScore < secondScore ? first : second, tournament.getCurrentPlayer());
+            assertEquals(firstScore < secondScore ? second : first, tournament.getNextPlayer());
+        }
+        assertEquals(1, tournament.getTurnNumber());
+    }
+
+    private static Tournament newGame(long seed) {
+        Tournament tournament = new Tournament(new Player("Computer 1", true), new Player("Computer 2", true),
+                new SplittableDiceSource(seed));
+        tournament.getLogger().setEnabled(false);
+        return tournament;
+    }
+
+    /**
+     * Rolls the dice and lets the computer play them, deciding the order of a tied round first.
+     */
+    private static void playRoll(Tournament tournament) {
+        if (tournament.getCurrentPlayer() == null) {
+            tournament.setPlayerOrder(tournament.getPlayers().get(0), tournament.getPlayers().get(1));
+        }
+        tournament.getDiceRoll().roll();
+        tournament.confirmComputerRoll();
+    }
+}
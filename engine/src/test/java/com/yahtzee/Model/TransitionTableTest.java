@@ -0,0 +1,83 @@
+package com.yahtzee.Model;
+
+import static com.yahtzee.Model.Categories.Util.ALL_CATEGORIES;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class TransitionTableTest {
+
+    @Test
+    public void rowsAreTheHandsOfEveryOrderedRoll() {
+        for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+            int kept = RollSpace.getCounts(keep);
+            int missing = RollSpace.DICE - DiceCounts.size(kept);
+            int rollCount = (int) Math.pow(6, missing);
+            double[] expected = new double[RollSpace.HAND_COUNT];
+            for (int sequence = 0; sequence < rollCount; sequence++) {
+                int hand = kept;
+                for (int die = 0, rest = sequence; die < missing; die++, rest /= 6) {
+                    hand = DiceCounts.withDie(hand, rest % 6 + 1);
+                }
+                expected[RollSpace.handIndexOf(hand)] += 1.0 / rollCount;
+            }
+
+            double[] actual = new double[RollSpace.HAND_COUNT];
+            double total = 0;
+            for (int entry = TransitionTable.getRowStart(keep); entry < TransitionTable.getRowEnd(keep); entry++) {
+                assertEquals(kept, DiceCounts.intersect(kept, RollSpace.getHand(TransitionTable.getHand(entry))));
+                actual[TransitionTable.getHand(entry)] += TransitionTable.getProbability(entry);
+                total += TransitionTable.getProbability(entry);
+            }
+            assertEquals(1.0, total, 1e-12);
+            for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+                assertEquals(DiceCounts.toList(kept) + " -> " + DiceCounts.toList(RollSpace.getHand(hand)),
+                        expected[hand], actual[hand], 1e-12);
+            }
+        }
+        assertEquals(TransitionTable.ENTRY_COUNT, TransitionTable.getRowEnd(RollSpace.MULTISET_COUNT - 1));
+    }
+
+    @Test
+    public void multipliesEveryRowByTheHandValues() {
+        Random random = new Random(3);
+        double[] handValues = new double[RollSpace.HAND_COUNT];
+        for (int hand = 0; hand < RollSpace.HAND_COUNT; hand++) {
+            handValues[hand] = random.nextDouble();
+        }
+        double[] keepValues = new double[RollSpace.MULTISET_COUNT];
+        TransitionTable.expectedValues(handValues, keepValues);
+
+        for (int keep = 0; keep < RollSpace.MULTISET_COUNT; keep++) {
+            assertEquals(TransitionTable.expectedValue(keep, handValues), keepValues[keep], 0.0);
+        }
+        int fullHand = RollSpace.indexOf(RollSpace.getHand(17));
+        assertEquals(handValues[17], TransitionTable.expectedValue(fullHand, handValues), 0.0);
+    }
+
+    @Test
+    public void nodeOddsAreTheAveragesOverTheirLeaves() {
+        StrategyTree tree = new StrategyTree();
+        for (List<Integer> path : List.of(List.<Integer>of(), List.of(3), List.of(5, 5), List.of(1, 2, 3, 4))) {
+            StrategyNode node = tree.getRoot().getChild(path).orElseThrow();
+            List<StrategyNode> leaves = node.getLeafNodes();
+            for (Category category : ALL_CATEGORIES) {
+                double valid = 0;
+                double score = 0;
+                for (StrategyNode leaf : leaves) {
+                    if (category.isValid(leaf.getPath())) {
+                        valid++;
+                        score += category.calculateScore(leaf.getPath());
+                    }
+                }
+
+                String message = category + " " + path;
+                assertEquals(message, valid / leaves.size(), node.getProbability(category), 1e-12);
+                assertEquals(message, score / leaves.size(), node.getExpectedValue(category), 1e-9);
+            }
+        }
+    }
+}
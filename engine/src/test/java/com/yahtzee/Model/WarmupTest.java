@@ -0,0 +1,93 @@
+package com.yahtzee.Model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class WarmupTest {
+
+    @Test
+    public void buildsTheStagesInOrderAndReportsEach() throws InterruptedException {
+        List<Warmup.Stage> built = new CopyOnWriteArrayList<>();
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        Warmup warmup = Warmup.start(Warmup.HELP_STAGES, stage -> {
+            await(started);
+            built.add(stage);
+        });
+        warmup.addListener((completed, count) -> progress.add(completed * 10 + count));
+        started.countDown();
+
+        assertTrue(warmup.awaitReady(60, TimeUnit.SECONDS));
+        assertTrue(warmup.isReady());
+        assertEquals(Warmup.HELP_STAGES, built);
+        assertEquals(List.of(13, 23, 33), progress);
+        assertEquals(1.0, warmup.getProgress(), 0.0);
+        assertFalse(warmup.getFailure().isPresent());
+    }
+
+    @Test
+    public void stopsAtAFailedStage() throws InterruptedException {
+        RuntimeException failure = new IllegalStateException("No memory left");
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        Warmup warmup = Warmup.start(Warmup.HELP_STAGES, stage -> {
+            await(started);
+            if (stage == Warmup.Stage.CATEGORY_ODDS) {
+                throw failure;
+            }
+        });
+        warmup.addListener((completed, count) -> progress.add(completed));
+        started.countDown();
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> warmup.awaitReady(60, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+        assertTrue(warmup.isOver());
+        assertFalse(warmup.isReady());
+        assertSame(failure, warmup.getFailure().orElseThrow());
+        assertEquals(1, warmup.getCompletedStages());
+        assertEquals(List.of(1, 1), progress);
+    }
+
+    @Test
+    public void callsALateListenerRightAway() throws InterruptedException {
+        Warmup warmup = Warmup.start(List.of(Warmup.Stage.TABLES), stage -> { });
+        assertTrue(warmup.awaitReady(60, TimeUnit.SECONDS));
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        warmup.addListener((completed, count) -> progress.add(completed * 10 + count));
+
+        assertEquals(List.of(11), progress);
+    }
+
+    @Test
+    public void buildsTheRealTables() throws InterruptedException {
+        Warmup warmup = Warmup.start(Warmup.HELP_STAGES);
+
+        assertTrue(warmup.awaitReady(120, TimeUnit.SECONDS));
+        assertEquals(Warmup.HELP_STAGES.size(), warmup.getCompletedStages());
+    }
+
+    @Test
+    public void needsAStage() {
+        assertThrows(IllegalArgumentException.class, () -> Warmup.start(List.of()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -21,3 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "Yahtzee"
 include(":app")
+include(":engine")
+include(":benchmark")